@@ -15,9 +15,8 @@
  */
 package com.expediagroup.beans.populator;
 
-import static java.util.Arrays.stream;
-
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 
 import com.expediagroup.beans.transformer.BeanTransformer;
 
@@ -29,9 +28,10 @@ class ArrayPopulator extends Populator<Object> implements ICollectionPopulator<O
     /**
      * Default constructor.
      * @param beanTransformer the bean transformer containing the field name mapping and transformation functions
+     * @param elementsTransformer the transformer of the collection and array elements
      */
-    ArrayPopulator(final BeanTransformer beanTransformer) {
-        super(beanTransformer);
+    ArrayPopulator(final BeanTransformer beanTransformer, final ElementsTransformer elementsTransformer) {
+        super(beanTransformer, elementsTransformer);
     }
 
     /**
@@ -42,6 +42,14 @@ class ArrayPopulator extends Populator<Object> implements ICollectionPopulator<O
         return getPopulatedObject(field.getType(), reflectionUtils.getArrayType(field), fieldValue, null);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPopulatedObject(final Method getterMethod, final Object fieldValue) {
+        return getPopulatedObject(getterMethod.getReturnType(), getterMethod.getReturnType().getComponentType(), fieldValue, null);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -51,9 +59,7 @@ class ArrayPopulator extends Populator<Object> implements ICollectionPopulator<O
         if (classUtils.isPrimitiveTypeArray(fieldValue.getClass()) || classUtils.isPrimitiveOrSpecialType(genericFieldType)) {
             res = fieldValue;
         } else {
-            res = stream((Object[]) fieldValue)
-                    //.parallel()
-                    .map(o -> classUtils.isPrimitiveOrSpecialType(o.getClass()) ? o : transform(o, genericFieldType)).toArray();
+            res = elementsTransformer.transform((Object[]) fieldValue, o -> classUtils.isPrimitiveOrSpecialType(o.getClass()) ? o : transform(o, genericFieldType));
         }
         return res;
     }
@@ -20,6 +20,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collector;
@@ -35,9 +36,10 @@ class CollectionPopulator<K> extends Populator<Collection> implements ICollectio
     /**
      * Default constructor.
      * @param beanTransformer the bean transformer containing the field name mapping and transformation functions
+     * @param elementsTransformer the transformer of the collection and array elements
      */
-    CollectionPopulator(final BeanTransformer beanTransformer) {
-        super(beanTransformer);
+    CollectionPopulator(final BeanTransformer beanTransformer, final ElementsTransformer elementsTransformer) {
+        super(beanTransformer, elementsTransformer);
     }
 
     /**
@@ -49,6 +51,16 @@ class CollectionPopulator<K> extends Populator<Collection> implements ICollectio
         return getPopulatedObject(field.getType(), reflectionUtils.getGenericFieldType(field), fieldValue, genericClass);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<K> getPopulatedObject(final Method getterMethod, final Collection fieldValue) {
+        final Class<?> genericClass = reflectionUtils.getArgumentTypeClass(getterMethod.getGenericReturnType(), getterMethod.getDeclaringClass().getName(),
+                getterMethod.getName(), true);
+        return getPopulatedObject(getterMethod.getReturnType(), genericClass, fieldValue, null);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -60,11 +72,7 @@ class CollectionPopulator<K> extends Populator<Collection> implements ICollectio
             res = (Collection) fieldValue;
         } else {
             Collector<Object, ?, ? extends Collection<Object>> collector = Set.class.isAssignableFrom(fieldType) ? toSet() : toList();
-            res = ((Collection<K>) fieldValue)
-                    .stream()
-//                    .parallelStream()
-                    .map(elem -> transform(elem, (Class<K>) genericFieldType))
-                    .collect(collector);
+            res = elementsTransformer.transform((Collection<K>) fieldValue, elem -> transform(elem, (Class<K>) genericFieldType), collector);
         }
         return res;
     }
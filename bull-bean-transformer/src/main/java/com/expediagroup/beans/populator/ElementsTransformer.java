@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.populator;
+
+import static java.util.Arrays.stream;
+
+import java.util.Collection;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+
+import com.expediagroup.beans.transformer.BeanTransformer;
+
+/**
+ * Transforms the elements of a collection or of an array, collecting the results in the same order of the given elements,
+ * and the values nested into the other objects handled by the populators (e.g. the optional and map values).
+ */
+@FunctionalInterface
+public interface ElementsTransformer {
+    /**
+     * Transforms the elements one after the other on the calling thread.
+     */
+    ElementsTransformer SEQUENTIAL = new ElementsTransformer() {
+        @Override
+        public <R> R transform(final Collection<?> elements, final UnaryOperator<Object> elementTransformer, final Collector<Object, ?, R> collector) {
+            return elements.stream()
+                    .map(elementTransformer)
+                    .collect(collector);
+        }
+    };
+
+    /**
+     * Transforms the given elements.
+     * @param elements the elements to transform
+     * @param elementTransformer the function transforming each element
+     * @param collector the collector receiving the transformed elements, in the same order of the given elements
+     * @param <R> the result type
+     * @return the transformed elements
+     */
+    <R> R transform(Collection<?> elements, UnaryOperator<Object> elementTransformer, Collector<Object, ?, R> collector);
+
+    /**
+     * Transforms the elements of the given array. By default, they are transformed one after the other on the calling thread.
+     * @param elements the elements to transform
+     * @param elementTransformer the function transforming each element
+     * @return the transformed elements, in the same order of the given elements
+     */
+    default Object[] transform(final Object[] elements, final UnaryOperator<Object> elementTransformer) {
+        return stream(elements)
+                .map(elementTransformer)
+                .toArray();
+    }
+
+    /**
+     * Transforms a single element into an instance of the given class.
+     * @param beanTransformer the bean transformer containing the field name mapping and transformation functions
+     * @param element the element to transform
+     * @param targetClass the destination object class
+     * @param <T> the source object type
+     * @param <K> the target object type
+     * @return a copy of the element into the destination object
+     */
+    default <T, K> K transform(final BeanTransformer beanTransformer, final T element, final Class<K> targetClass) {
+        return beanTransformer.transform(element, targetClass);
+    }
+}
@@ -16,6 +16,7 @@
 package com.expediagroup.beans.populator;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -32,9 +33,10 @@ class MapPopulator extends Populator<Map<?, ?>> {
     /**
      * Default constructor.
      * @param beanTransformer the bean transformer containing the field name mapping and transformation functions
+     * @param elementsTransformer the transformer of the collection and array elements
      */
-    MapPopulator(final BeanTransformer beanTransformer) {
-        super(beanTransformer);
+    MapPopulator(final BeanTransformer beanTransformer, final ElementsTransformer elementsTransformer) {
+        super(beanTransformer, elementsTransformer);
     }
 
     /**
@@ -46,6 +48,16 @@ class MapPopulator extends Populator<Map<?, ?>> {
         return getPopulatedObject(fieldValue, mapGenericType);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<?, ?> getPopulatedObject(final Method getterMethod, final Map<?, ?> fieldValue) {
+        final MapType mapGenericType = reflectionUtils.getMapGenericType(getterMethod.getGenericReturnType(), getterMethod.getDeclaringClass().getName(),
+                getterMethod.getName());
+        return getPopulatedObject(fieldValue, mapGenericType);
+    }
+
     /**
      * Populates the Map objects.
      * @param fieldValue the source Map.
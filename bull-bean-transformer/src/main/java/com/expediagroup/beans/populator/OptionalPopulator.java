@@ -18,6 +18,7 @@ package com.expediagroup.beans.populator;
 import static java.util.Optional.ofNullable;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.Optional;
 
 import com.expediagroup.beans.transformer.BeanTransformer;
@@ -30,9 +31,10 @@ class OptionalPopulator extends Populator<Object> {
     /**
      * Default constructor.
      * @param beanTransformer the bean transformer containing the field name mapping and transformation functions
+     * @param elementsTransformer the transformer of the collection and array elements
      */
-    OptionalPopulator(final BeanTransformer beanTransformer) {
-        super(beanTransformer);
+    OptionalPopulator(final BeanTransformer beanTransformer, final ElementsTransformer elementsTransformer) {
+        super(beanTransformer, elementsTransformer);
     }
 
     /**
@@ -40,13 +42,31 @@ class OptionalPopulator extends Populator<Object> {
      */
     @Override
     public Object getPopulatedObject(final Field field, final Object fieldValue) {
+        return getPopulatedObject(field.getType(), fieldValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPopulatedObject(final Method getterMethod, final Object fieldValue) {
+        return getPopulatedObject(getterMethod.getReturnType(), fieldValue);
+    }
+
+    /**
+     * Populates the optional object.
+     * @param fieldType the destination field type
+     * @param fieldValue the source object from which extract the values
+     * @return the populated object
+     */
+    private Object getPopulatedObject(final Class<?> fieldType, final Object fieldValue) {
         Object res = null;
         var optionalFieldValue = (Optional) fieldValue;
         if (optionalFieldValue.isPresent()) {
-            res = transform(optionalFieldValue.get(), field.getType());
+            res = transform(optionalFieldValue.get(), fieldType);
         }
         // if the field type in the target class is not an optional it puts the value inside an optional
-        if (field.getType() == Optional.class) {
+        if (fieldType == Optional.class) {
             res = ofNullable(res);
         }
         return res;
@@ -16,6 +16,7 @@
 package com.expediagroup.beans.populator;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.Optional;
 
 import com.expediagroup.beans.BeanUtils;
@@ -55,12 +56,19 @@ public abstract class Populator<O> {
      */
     private final BeanTransformer transformer;
 
+    /**
+     * The transformer of the collection and array elements {@link ElementsTransformer}.
+     */
+    final ElementsTransformer elementsTransformer;
+
     /**
      * Default constructor.
      * @param beanTransformer the bean transformer containing the field name mapping and transformation functions
+     * @param elementsTransformer the transformer of the collection and array elements
      */
-    Populator(final BeanTransformer beanTransformer) {
+    Populator(final BeanTransformer beanTransformer, final ElementsTransformer elementsTransformer) {
         transformer = beanTransformer;
+        this.elementsTransformer = elementsTransformer;
         reflectionUtils = SHARED_REFLECTION_UTILS;
         classUtils = SHARED_CLASS_UTILS;
     }
@@ -73,6 +81,15 @@ public abstract class Populator<O> {
      */
     protected abstract O getPopulatedObject(Field field, O fieldValue);
 
+    /**
+     * Populates the target object with the values into the source object, for a property exposed through a getter method instead of
+     * a field, e.g. a property of an interface.
+     * @param getterMethod the getter method of the property to be populated
+     * @param fieldValue the source object from which extract the values
+     * @return a populated list of elements
+     */
+    public abstract O getPopulatedObject(Method getterMethod, O fieldValue);
+
     /**
      * Populates the target object with the values into the source object.
      * @param <K> the target object type
@@ -113,10 +130,10 @@ public abstract class Populator<O> {
         if (classUtils.isPrimitiveOrSpecialType(sourceObj.getClass())) {
             res = (K) sourceObj;
         } else {
-            final Optional<Populator> optPopulator = PopulatorFactory.getPopulator(targetClass, sourceObj.getClass(), transformer);
+            final Optional<Populator> optPopulator = PopulatorFactory.getPopulator(targetClass, sourceObj.getClass(), transformer, elementsTransformer);
             res = (K) optPopulator
                     .map(populator -> ((ICollectionPopulator<Object>) populator).getPopulatedObject(targetClass, targetClass, sourceObj, nestedGenericClass))
-                    .orElseGet(() -> transformer.transform(sourceObj, targetClass));
+                    .orElseGet(() -> elementsTransformer.transform(transformer, sourceObj, targetClass));
         }
         return res;
     }
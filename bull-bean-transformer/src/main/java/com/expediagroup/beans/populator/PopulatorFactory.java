@@ -35,6 +35,7 @@ import lombok.NoArgsConstructor;
 public final class PopulatorFactory {
     /**
      * Creates an instance of the populator object based on the given class.
+     * The elements of collections and arrays are transformed sequentially.
      * @param <O> the generic type of the contained object in the destination object
      * @param <T> the generic type of the contained object in the source object
      * @param destObjectClass the destination object class
@@ -43,15 +44,30 @@ public final class PopulatorFactory {
      * @return the populator instance
      */
     public static <O, T> Optional<Populator> getPopulator(final Class<O> destObjectClass, final Class<T> sourceObjectClass, final BeanTransformer transformer) {
+        return getPopulator(destObjectClass, sourceObjectClass, transformer, ElementsTransformer.SEQUENTIAL);
+    }
+
+    /**
+     * Creates an instance of the populator object based on the given class.
+     * @param <O> the generic type of the contained object in the destination object
+     * @param <T> the generic type of the contained object in the source object
+     * @param destObjectClass the destination object class
+     * @param sourceObjectClass the source object class
+     * @param transformer the bean transformer containing the field name mapping and transformation functions
+     * @param elementsTransformer the transformer of the collection and array elements
+     * @return the populator instance
+     */
+    public static <O, T> Optional<Populator> getPopulator(final Class<O> destObjectClass, final Class<T> sourceObjectClass, final BeanTransformer transformer,
+                                                          final ElementsTransformer elementsTransformer) {
         Optional<Populator> populator = empty();
         if (destObjectClass.isArray()) {
-            populator = of(new ArrayPopulator(transformer));
+            populator = of(new ArrayPopulator(transformer, elementsTransformer));
         } else if (Collection.class.isAssignableFrom(destObjectClass)) {
-            populator = of(new CollectionPopulator(transformer));
+            populator = of(new CollectionPopulator(transformer, elementsTransformer));
         } else if (Map.class.isAssignableFrom(destObjectClass)) {
-            populator = of(new MapPopulator(transformer));
+            populator = of(new MapPopulator(transformer, elementsTransformer));
         } else if (Optional.class == sourceObjectClass || Optional.class == destObjectClass) {
-            populator = of(new OptionalPopulator(transformer));
+            populator = of(new OptionalPopulator(transformer, elementsTransformer));
         }
         return populator;
     }
@@ -15,9 +15,28 @@
  */
 package com.expediagroup.beans.transformer;
 
+import static java.lang.reflect.Array.newInstance;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
 import static com.expediagroup.transformer.validator.Validator.notNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import com.expediagroup.beans.conversion.analyzer.ConversionAnalyzer;
+import com.expediagroup.beans.transformer.model.ClassPair;
 import com.expediagroup.transformer.AbstractTransformer;
 import com.expediagroup.transformer.model.TransformerSettings;
 import com.expediagroup.transformer.validator.Validator;
@@ -56,6 +75,7 @@ abstract class AbstractBeanTransformer extends AbstractTransformer<BeanTransform
     @Override
     public final BeanTransformer setDefaultValueForMissingField(final boolean useDefaultValue) {
         settings.setSetDefaultValueForMissingField(useDefaultValue);
+        onSettingsChange();
         return this;
     }
 
@@ -65,6 +85,7 @@ abstract class AbstractBeanTransformer extends AbstractTransformer<BeanTransform
     @Override
     public BeanTransformer setDefaultValueForMissingPrimitiveField(final boolean useDefaultValue) {
         settings.setDefaultValueForMissingPrimitiveField(useDefaultValue);
+        onSettingsChange();
         return this;
     }
 
@@ -74,6 +95,7 @@ abstract class AbstractBeanTransformer extends AbstractTransformer<BeanTransform
     @Override
     public final BeanTransformer setFlatFieldNameTransformation(final boolean useFlatTransformation) {
         settings.setFlatFieldNameTransformation(useFlatTransformation);
+        onSettingsChange();
         return this;
     }
 
@@ -86,6 +108,7 @@ abstract class AbstractBeanTransformer extends AbstractTransformer<BeanTransform
         if (validationEnabled) {
             validator = new ValidatorImpl();
         }
+        onSettingsChange();
         return this;
     }
 
@@ -98,8 +121,9 @@ abstract class AbstractBeanTransformer extends AbstractTransformer<BeanTransform
         if (primitiveTypeConversionEnabled) {
             conversionAnalyzer = new ConversionAnalyzer();
         } else {
-            cacheManager.removeMatchingKeys(transformerFunctionRegex);
+            cacheManager.removeNamespace(transformerFunctionCachePrefix);
         }
+        onSettingsChange();
         return this;
     }
 
@@ -109,6 +133,57 @@ abstract class AbstractBeanTransformer extends AbstractTransformer<BeanTransform
     @Override
     public BeanTransformer setCustomBuilderTransformationEnabled(final boolean customBuilderTransformationEnabled) {
         settings.setCustomBuilderTransformationEnabled(customBuilderTransformationEnabled);
+        onSettingsChange();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BeanTransformer setLambdaAccessorsEnabled(final boolean lambdaAccessorsEnabled) {
+        settings.setLambdaAccessorsEnabled(lambdaAccessorsEnabled);
+        onSettingsChange();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BeanTransformer setParallelism(final int parallelismThreshold, final Executor executor) {
+        notNull(executor, "The executor cannot be null!");
+        settings.setParallelismThreshold(parallelismThreshold);
+        settings.setParallelExecutor(executor);
+        onSettingsChange();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BeanTransformer setParallelism(final int parallelismThreshold) {
+        return setParallelism(parallelismThreshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BeanTransformer setIdentityTrackingEnabled(final boolean identityTrackingEnabled) {
+        settings.setIdentityTrackingEnabled(identityTrackingEnabled);
+        onSettingsChange();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BeanTransformer setLazyTransformationEnabled(final boolean lazyTransformationEnabled) {
+        settings.setLazyTransformationEnabled(lazyTransformationEnabled);
+        onSettingsChange();
         return this;
     }
 
@@ -143,6 +218,140 @@ abstract class AbstractBeanTransformer extends AbstractTransformer<BeanTransform
         transform(sourceObj, targetObject, null);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final <T, K> List<K> transformAll(final Collection<T> sourceObjs, final Class<? extends K> targetClass) {
+        notNull(sourceObjs, "The objects to copy cannot be null!");
+        notNull(targetClass, "The destination class cannot be null!");
+        final List<K> res = new ArrayList<>(sourceObjs.size());
+        transformAll(sourceObjs, targetClass, (k, index) -> res.add(k));
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final <T, K> K[] transformAll(final T[] sourceObjs, final Class<K> targetClass) {
+        notNull(sourceObjs, "The objects to copy cannot be null!");
+        notNull(targetClass, "The destination class cannot be null!");
+        final K[] res = (K[]) newInstance(targetClass, sourceObjs.length);
+        transformAll(asList(sourceObjs), targetClass, (k, index) -> {
+            res[index] = k;
+        });
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final <T, K> Stream<K> transformStream(final Stream<T> sourceObjs, final Class<? extends K> targetClass) {
+        notNull(sourceObjs, "The objects to copy cannot be null!");
+        notNull(targetClass, "The destination class cannot be null!");
+        return StreamSupport.stream(new TransformingSpliterator<T, K>(sourceObjs.spliterator(), () -> newBatchTransformer(targetClass)), sourceObjs.isParallel())
+                .onClose(sourceObjs::close);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final <T, K> Flow.Processor<T, K> newProcessor(final Class<? extends K> targetClass, final int batchSize, final int maxConcurrency,
+                                                          final Executor executor) {
+        notNull(targetClass, "The destination class cannot be null!");
+        notNull(executor, "The executor cannot be null!");
+        if (batchSize <= 0 || maxConcurrency <= 0) {
+            throw new IllegalArgumentException("The batch size and the maximum concurrency must be positive!");
+        }
+        return new TransformationProcessor<>(this, targetClass, batchSize, maxConcurrency, executor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final <T, K> CompletableFuture<K> transformAsync(final T sourceObj, final Class<? extends K> targetClass, final Executor executor) {
+        notNull(sourceObj, "The object to copy cannot be null!");
+        notNull(targetClass, "The destination class cannot be null!");
+        notNull(executor, "The executor cannot be null!");
+        return supplyAsync(() -> transform(sourceObj, targetClass, null), executor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final <T, K> CompletableFuture<List<K>> transformAllAsync(final Collection<T> sourceObjs, final Class<? extends K> targetClass, final Executor executor) {
+        notNull(sourceObjs, "The objects to copy cannot be null!");
+        notNull(targetClass, "The destination class cannot be null!");
+        notNull(executor, "The executor cannot be null!");
+        return supplyAsync(() -> transformAll(sourceObjs, targetClass), executor);
+    }
+
+    /**
+     * Copies all properties from each of the given objects to a new one.
+     * @param sourceObjs the source objects
+     * @param targetClass the destination objects class
+     * @param resultConsumer the consumer receiving each destination object together with the index of its source object
+     * @param <T> the Source objects type
+     * @param <K> the target objects type
+     */
+    protected abstract <T, K> void transformAll(Iterable<T> sourceObjs, Class<? extends K> targetClass, ObjIntConsumer<? super K> resultConsumer);
+
+    /**
+     * Creates a function copying all properties from an object to a new one, to be used for a sequence of objects by one thread at a time.
+     * @param targetClass the destination objects class
+     * @param <T> the Source objects type
+     * @param <K> the target objects type
+     * @return the function transforming each object
+     */
+    protected abstract <T, K> Function<T, K> newBatchTransformer(Class<? extends K> targetClass);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final BeanTransformer prepare(final Class<?> sourceClass, final Class<?> targetClass) {
+        notNull(sourceClass, "The source class cannot be null!");
+        notNull(targetClass, "The destination class cannot be null!");
+        prepare(sourceClass, targetClass, null);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final BeanTransformer prepareAll(final Collection<ClassPair> classPairs) {
+        notNull(classPairs, "The class pairs cannot be null!");
+        classPairs.forEach(classPair -> prepare(classPair.getSourceClass(), classPair.getTargetClass()));
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final CompletableFuture<Void> prepareAll(final Collection<ClassPair> classPairs, final Executor executor) {
+        notNull(classPairs, "The class pairs cannot be null!");
+        notNull(executor, "The executor cannot be null!");
+        return allOf(classPairs.stream()
+                .map(classPair -> runAsync(() -> prepare(classPair.getSourceClass(), classPair.getTargetClass()), executor))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Analyses the given classes before their first transformation.
+     * @param sourceClass the source object class
+     * @param targetClass the destination object class
+     * @param breadcrumb the full path of the current field starting from his ancestor
+     */
+    protected abstract void prepare(Class<?> sourceClass, Class<?> targetClass, String breadcrumb);
+
     /**
      * {@inheritDoc}
      */
@@ -151,12 +360,14 @@ abstract class AbstractBeanTransformer extends AbstractTransformer<BeanTransform
         for (String field : fieldName) {
             settings.getFieldsToSkip().add(field);
         }
+        onSettingsChange();
         return this;
     }
 
     @Override
     public void resetFieldsTransformationSkip() {
         settings.getFieldsToSkip().clear();
+        onSettingsChange();
     }
 
     /**
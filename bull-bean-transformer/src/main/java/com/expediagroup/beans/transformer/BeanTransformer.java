@@ -15,6 +15,14 @@
  */
 package com.expediagroup.beans.transformer;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import com.expediagroup.beans.transformer.model.ClassPair;
 import com.expediagroup.transformer.Transformer;
 import com.expediagroup.transformer.error.MissingFieldException;
 
@@ -44,6 +52,118 @@ public interface BeanTransformer extends Transformer<BeanTransformer> {
      */
     <T, K> void transform(T sourceObj, K targetObject);
 
+    /**
+     * Copies all properties from each object of the given collection to a new one.
+     * The class metadata and the transformation plan are resolved once for each source class in the batch instead of once for each object,
+     * so the objects are expected to be mostly of the same class. A configuration change made while the batch is running affects
+     * only the subsequent transformations.
+     * @param sourceObjs the source objects, {@code null} elements are transformed into {@code null}
+     * @param targetClass the destination objects class
+     * @param <T> the Source objects type
+     * @param <K> the target objects type
+     * @return the copies of the source objects, in the same order
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    <T, K> List<K> transformAll(Collection<T> sourceObjs, Class<? extends K> targetClass);
+
+    /**
+     * Copies all properties from each object of the given array to a new one, see {@link #transformAll(Collection, Class)}.
+     * @param sourceObjs the source objects, {@code null} elements are transformed into {@code null}
+     * @param targetClass the destination objects class
+     * @param <T> the Source objects type
+     * @param <K> the target objects type
+     * @return the copies of the source objects, in the same order
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    <T, K> K[] transformAll(T[] sourceObjs, Class<K> targetClass);
+
+    /**
+     * Returns a stream copying lazily all properties from each object of the given stream to a new one.
+     * The objects are transformed only when the returned stream is consumed, so the source stream is never materialised; the returned
+     * stream is parallel if the source one is. The transformation plan is resolved once for each source class within each split of the
+     * stream. Closing the returned stream closes the source one.
+     * @param sourceObjs the source objects, {@code null} elements are transformed into {@code null}
+     * @param targetClass the destination objects class
+     * @param <T> the Source objects type
+     * @param <K> the target objects type
+     * @return the stream of the copies of the source objects, in the same order
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    <T, K> Stream<K> transformStream(Stream<T> sourceObjs, Class<? extends K> targetClass);
+
+    /**
+     * Creates a {@link Flow.Processor} transforming the items received from its publisher.
+     * The items are grouped in batches of the given size, each one transformed on the given executor through
+     * {@link #transformAll(Collection, Class)}; at most {@code maxConcurrency} batches are transformed or waiting to be emitted at the
+     * same time, which bounds the items requested to the publisher. The items are emitted in the same order they have been received.
+     * A batch is transformed only once it's full or once the publisher completes. The processor supports a single subscriber.
+     * @param targetClass the destination items class
+     * @param batchSize the number of items of each batch
+     * @param maxConcurrency the maximum number of batches transformed or waiting to be emitted at the same time
+     * @param executor the executor on which the batches are transformed
+     * @param <T> the Source items type
+     * @param <K> the target items type
+     * @return the processor
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    <T, K> Flow.Processor<T, K> newProcessor(Class<? extends K> targetClass, int batchSize, int maxConcurrency, Executor executor);
+
+    /**
+     * Copies all properties from an object to a new one on the given executor, see {@link #transform(Object, Class)}.
+     * The transformation context is bound to the executor thread, so any executor can be used, including the virtual thread ones.
+     * @param sourceObj the source object
+     * @param targetClass the destination object class
+     * @param executor the executor running the transformation
+     * @param <T> the Source object type
+     * @param <K> the target object type
+     * @return a {@link CompletableFuture} completed with the copy of the source object, or exceptionally if the transformation fails
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    <T, K> CompletableFuture<K> transformAsync(T sourceObj, Class<? extends K> targetClass, Executor executor);
+
+    /**
+     * Copies all properties from each object of the given collection to a new one on the given executor, see {@link #transformAll(Collection, Class)}.
+     * @param sourceObjs the source objects, {@code null} elements are transformed into {@code null}
+     * @param targetClass the destination objects class
+     * @param executor the executor running the transformation
+     * @param <T> the Source objects type
+     * @param <K> the target objects type
+     * @return a {@link CompletableFuture} completed with the copies of the source objects, in the same order, or exceptionally if any
+     *         transformation fails
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    <T, K> CompletableFuture<List<K>> transformAllAsync(Collection<T> sourceObjs, Class<? extends K> targetClass, Executor executor);
+
+    /**
+     * Analyses the given classes before their first transformation, so that it does not pay for the reflective analysis.
+     * The class metadata, the field accessors, the type conversions and the transformation plans of the given classes and of
+     * their nested objects are computed with the current configuration and cached. Collection, array and map elements are
+     * analysed on their first transformation as their classes are known only at runtime.
+     * Any configuration change made afterwards requires the transformation plans to be computed again.
+     * @param sourceClass the source object class
+     * @param targetClass the destination object class
+     * @return the {@link BeanTransformer} instance
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    BeanTransformer prepare(Class<?> sourceClass, Class<?> targetClass);
+
+    /**
+     * Analyses the given class pairs before their first transformation, see {@link #prepare(Class, Class)}.
+     * @param classPairs the source and destination classes to analyse
+     * @return the {@link BeanTransformer} instance
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    BeanTransformer prepareAll(Collection<ClassPair> classPairs);
+
+    /**
+     * Analyses the given class pairs in parallel on the given executor, see {@link #prepare(Class, Class)}.
+     * @param classPairs the source and destination classes to analyse
+     * @param executor the executor running the analysis of each class pair
+     * @return a {@link CompletableFuture} completed once all the class pairs have been analysed, or exceptionally if any analysis fails
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    CompletableFuture<Void> prepareAll(Collection<ClassPair> classPairs, Executor executor);
+
     /**
      * It allows to configure the transformer in order to set a default value in case some field is missing in the source object.
      * If set to true the default value is set, if false if it raises a: {@link MissingFieldException} in case of missing fields.
@@ -101,4 +221,60 @@ public interface BeanTransformer extends Transformer<BeanTransformer> {
      * @return the {@link BeanTransformer} instance
      */
     BeanTransformer setCustomBuilderTransformationEnabled(boolean customBuilderEnabled);
+
+    /**
+     * It allows to enable/disable the lambda accessors: the destination fields are written through lambda setters, i.e. {@link java.util.function.BiConsumer}
+     * instances bound by {@link java.lang.invoke.LambdaMetafactory} to the destination object setter methods, and the source fields are read
+     * through the getter functions bound the same way to the source object getter methods.
+     * No transformer class is generated: the transformation still follows the plan compiled for each class pair, only the field access changes.
+     * The fields that do not have such methods, the ones mapped on a nested or on a root source field and the ones having a field
+     * transformer are accessed as if the lambda accessors were disabled.
+     * @param lambdaAccessorsEnabled if true the fields are accessed through the lambda setters and getter functions. By default it's false.
+     * @return the {@link BeanTransformer} instance
+     */
+    BeanTransformer setLambdaAccessorsEnabled(boolean lambdaAccessorsEnabled);
+
+    /**
+     * It allows to transform the elements of large collections and arrays in parallel.
+     * The elements are split in chunks executed on the given executor, while the calling thread transforms the chunks not yet started by
+     * it; the order of the elements is preserved for lists and arrays.
+     * @param parallelismThreshold the minimum number of elements a collection or an array must have for being transformed in parallel.
+     *                             By default it's 0, meaning that the elements are always transformed sequentially.
+     * @param executor the executor on which the elements are transformed
+     * @return the {@link BeanTransformer} instance
+     * @throws IllegalArgumentException if the executor is null
+     */
+    BeanTransformer setParallelism(int parallelismThreshold, Executor executor);
+
+    /**
+     * It allows to transform the elements of large collections and arrays in parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool()},
+     * see {@link #setParallelism(int, Executor)}.
+     * @param parallelismThreshold the minimum number of elements a collection or an array must have for being transformed in parallel.
+     *                             By default it's 0, meaning that the elements are always transformed sequentially.
+     * @return the {@link BeanTransformer} instance
+     */
+    BeanTransformer setParallelism(int parallelismThreshold);
+
+    /**
+     * It allows to transform object graphs keeping the identity of their objects.
+     * If enabled, each source object is transformed once within a transformation: all the references to it, including the cyclic
+     * ones, share the same destination object. A cycle can be rebuilt only through mutable objects, as an immutable object cannot be
+     * referenced before its constructor returns. The collections and arrays of an object graph are transformed sequentially.
+     * @param identityTrackingEnabled if true the identity of the transformed objects is preserved. By default it's false.
+     * @return the {@link BeanTransformer} instance
+     */
+    BeanTransformer setIdentityTrackingEnabled(boolean identityTrackingEnabled);
+
+    /**
+     * It allows to transform objects into interfaces whose properties are resolved on demand.
+     * If enabled, the transformation into an interface returns a proxy that reads and transforms the source value of a property the first
+     * time its getter method is invoked, and returns the same value afterwards. The nested interfaces are transformed lazily as well,
+     * while the nested classes, collections and maps are transformed as a whole on their first access.
+     * The source object is retained by the proxy, hence it must not change until all the needed properties have been read.
+     * If the identity tracking is enabled too, each property is resolved as a transformation on its own: the objects it references are
+     * shared only within the value of that property.
+     * @param lazyTransformationEnabled if true the destination interfaces are transformed lazily. By default it's false.
+     * @return the {@link BeanTransformer} instance
+     */
+    BeanTransformer setLazyTransformationEnabled(boolean lazyTransformationEnabled);
 }
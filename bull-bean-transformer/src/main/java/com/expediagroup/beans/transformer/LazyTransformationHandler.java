@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.expediagroup.beans.transformer.model.PropertyStep;
+
+/**
+ * The {@link InvocationHandler} of the proxies returned by the lazy transformation of an object into an interface.
+ * The value of each property is read from the source object and transformed the first time its getter method is invoked, with the
+ * root source and the settings of the transformation that created the proxy; the following invocations return the same value.
+ * As the getter methods can be invoked by any thread, each property is resolved within its own context, so the destination objects
+ * kept for the identity tracking are shared only by the objects created while resolving the same property. If the same property is read by several
+ * threads at the same time, the value could be computed more than once, but all of them get the one that has been kept.
+ */
+final class LazyTransformationHandler implements InvocationHandler {
+    /**
+     * The value kept for the properties whose value is {@code null}.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    /**
+     * The transformer executing the transformation.
+     */
+    private final TransformerImpl transformer;
+
+    /**
+     * The source object from which the property values are read.
+     */
+    private final Object sourceObj;
+
+    /**
+     * The steps resolving the properties, by getter method.
+     */
+    private final Map<Method, PropertyStep> propertySteps;
+
+    /**
+     * The context from which the context of each property resolution is created: it shares the root source and the settings snapshot of
+     * the transformation that created the proxy, but not its destination objects.
+     */
+    private final TransformationContext context;
+
+    /**
+     * The values of the properties already read, by getter method.
+     */
+    private final Map<Method, Object> propertyValues = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     * @param transformer the transformer executing the transformation
+     * @param sourceObj the source object from which the property values are read
+     * @param propertySteps the steps resolving the properties, by getter method
+     * @param context the context of the transformation that created the proxy
+     */
+    LazyTransformationHandler(final TransformerImpl transformer, final Object sourceObj, final Map<Method, PropertyStep> propertySteps,
+                              final TransformationContext context) {
+        this.transformer = transformer;
+        this.sourceObj = sourceObj;
+        this.propertySteps = propertySteps;
+        this.context = context.detach();
+    }
+
+    /**
+     * Returns the value of the property exposed by the given method, or invokes the {@link Object} or default method.
+     * The methods with a default implementation are invoked as they are, while {@code equals}, {@code hashCode} and {@code toString}
+     * are based on the proxy identity.
+     * @param proxy the proxy instance
+     * @param method the invoked method
+     * @param args the method arguments
+     * @return the method result
+     * @throws Throwable the exception thrown by a default method
+     * @throws UnsupportedOperationException if the method neither is a getter method nor has a default implementation
+     */
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final PropertyStep step = propertySteps.get(method);
+        if (nonNull(step)) {
+            return getPropertyValue(step);
+        }
+        if (method.isDefault()) {
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        }
+        if (!method.getDeclaringClass().equals(Object.class)) {
+            throw new UnsupportedOperationException("The method: " + method + " is not supported by the lazily transformed objects: "
+                    + "only the methods without parameters returning a value, and the default ones, can be invoked.");
+        }
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> proxy.getClass().getInterfaces()[0].getName() + '@' + Integer.toHexString(System.identityHashCode(proxy));
+        };
+    }
+
+    /**
+     * Returns the value of the given property, resolving it if it has not been read yet.
+     * @param step the property step
+     * @return the property value
+     */
+    private Object getPropertyValue(final PropertyStep step) {
+        Object propertyValue = propertyValues.get(step.getGetterMethod());
+        if (isNull(propertyValue)) {
+            final Object resolvedValue = transformer.getPropertyValue(step, sourceObj, context.detach());
+            final Object previousValue = propertyValues.putIfAbsent(step.getGetterMethod(), isNull(resolvedValue) ? NULL_VALUE : resolvedValue);
+            propertyValue = isNull(previousValue) ? resolvedValue : previousValue;
+        }
+        return propertyValue == NULL_VALUE ? null : propertyValue;
+    }
+}
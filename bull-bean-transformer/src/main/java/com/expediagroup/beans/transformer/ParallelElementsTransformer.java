@@ -0,0 +1,215 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+
+import com.expediagroup.beans.populator.ElementsTransformer;
+import com.expediagroup.transformer.error.InvalidBeanException;
+
+/**
+ * Transforms the elements of the collections and arrays reaching the configured threshold in parallel.
+ * The elements are split in chunks that are claimed by the executor tasks and by the calling thread, so the calling thread waits only for
+ * the chunks already started by another thread. This prevents a bounded executor from starving when nested collections are transformed
+ * in parallel too.
+ */
+final class ParallelElementsTransformer implements ElementsTransformer {
+    /**
+     * The number of chunks created for each available processor, allowing the faster threads to transform more chunks.
+     */
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+
+    /**
+     * The minimum number of elements transformed in parallel.
+     */
+    private final int parallelismThreshold;
+
+    /**
+     * The executor running the parallel transformations.
+     */
+    private final Executor parallelExecutor;
+
+    /**
+     * Default constructor.
+     * @param parallelismThreshold the minimum number of elements transformed in parallel
+     * @param parallelExecutor the executor running the parallel transformations
+     */
+    ParallelElementsTransformer(final int parallelismThreshold, final Executor parallelExecutor) {
+        this.parallelismThreshold = parallelismThreshold;
+        this.parallelExecutor = parallelExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> R transform(final Collection<?> elements, final UnaryOperator<Object> elementTransformer, final Collector<Object, ?, R> collector) {
+        if (parallelismThreshold <= 0 || elements.size() < parallelismThreshold) {
+            return SEQUENTIAL.transform(elements, elementTransformer, collector);
+        }
+        return stream(transformInParallel(elements.toArray(), elementTransformer)).collect(collector);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object[] transform(final Object[] elements, final UnaryOperator<Object> elementTransformer) {
+        if (parallelismThreshold <= 0 || elements.length < parallelismThreshold) {
+            return SEQUENTIAL.transform(elements, elementTransformer);
+        }
+        return transformInParallel(elements, elementTransformer);
+    }
+
+    /**
+     * Transforms the given elements in parallel.
+     * @param sourceElements the elements to transform
+     * @param elementTransformer the function transforming each element
+     * @return the transformed elements, in the same order of the given elements
+     */
+    private Object[] transformInParallel(final Object[] sourceElements, final UnaryOperator<Object> elementTransformer) {
+        final Object[] res = new Object[sourceElements.length];
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final int totalChunks = CHUNKS_PER_PROCESSOR * processors;
+        final int chunkSize = max(1, (sourceElements.length + totalChunks - 1) / totalChunks);
+        final Chunks chunks = new Chunks(sourceElements, res, elementTransformer, chunkSize);
+        final Runnable task = chunks::transform;
+        final int tasks = min(chunks.size, processors) - 1;
+        try {
+            for (int i = 0; i < tasks; i++) {
+                parallelExecutor.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            // the chunks not claimed by the executor tasks are transformed by the calling thread
+        }
+        chunks.transform();
+        chunks.await();
+        return res;
+    }
+
+    /**
+     * The chunks in which the elements are split.
+     */
+    private static final class Chunks {
+        /**
+         * The elements to transform.
+         */
+        private final Object[] sourceElements;
+
+        /**
+         * The transformed elements.
+         */
+        private final Object[] transformedElements;
+
+        /**
+         * The function transforming each element.
+         */
+        private final UnaryOperator<Object> elementTransformer;
+
+        /**
+         * The number of elements of each chunk.
+         */
+        private final int chunkSize;
+
+        /**
+         * The number of chunks.
+         */
+        private final int size;
+
+        /**
+         * The index of the next chunk to transform.
+         */
+        private final AtomicInteger nextChunk = new AtomicInteger();
+
+        /**
+         * The number of chunks not yet transformed.
+         */
+        private final CountDownLatch pendingChunks;
+
+        /**
+         * The first error raised while transforming the elements (if any).
+         */
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        /**
+         * Default constructor.
+         * @param sourceElements the elements to transform
+         * @param transformedElements the array in which the transformed elements are stored
+         * @param elementTransformer the function transforming each element
+         * @param chunkSize the number of elements of each chunk
+         */
+        Chunks(final Object[] sourceElements, final Object[] transformedElements, final UnaryOperator<Object> elementTransformer, final int chunkSize) {
+            this.sourceElements = sourceElements;
+            this.transformedElements = transformedElements;
+            this.elementTransformer = elementTransformer;
+            this.chunkSize = chunkSize;
+            this.size = (sourceElements.length + chunkSize - 1) / chunkSize;
+            this.pendingChunks = new CountDownLatch(size);
+        }
+
+        /**
+         * Transforms the chunks not yet claimed by another thread. Once an error occurs the remaining chunks are skipped.
+         */
+        void transform() {
+            for (int chunk = nextChunk.getAndIncrement(); chunk < size; chunk = nextChunk.getAndIncrement()) {
+                try {
+                    if (isNull(failure.get())) {
+                        final int end = min(sourceElements.length, (chunk + 1) * chunkSize);
+                        for (int i = chunk * chunkSize; i < end; i++) {
+                            transformedElements[i] = elementTransformer.apply(sourceElements[i]);
+                        }
+                    }
+                } catch (RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    pendingChunks.countDown();
+                }
+            }
+        }
+
+        /**
+         * Waits for the chunks claimed by the other threads and raises the first error occurred (if any).
+         * @throws InvalidBeanException if the calling thread is interrupted while waiting
+         */
+        void await() {
+            try {
+                pendingChunks.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InvalidBeanException("Interrupted while waiting for the elements to be transformed", e);
+            }
+            final Throwable error = failure.get();
+            if (error instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (error instanceof Error err) {
+                throw err;
+            }
+        }
+    }
+}
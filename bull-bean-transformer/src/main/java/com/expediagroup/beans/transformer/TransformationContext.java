@@ -0,0 +1,228 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+
+import com.expediagroup.beans.populator.ElementsTransformer;
+import com.expediagroup.transformer.error.InvalidBeanException;
+import com.expediagroup.transformer.model.TransformerSettings;
+import com.expediagroup.transformer.validator.Validator;
+
+import lombok.Getter;
+
+/**
+ * The state of a transformation, passed explicitly through the whole transformation call chain.
+ * It carries the root source object, from which the fields mapped on a root source field are read, and a snapshot of the settings
+ * read while the objects are transformed. Being an {@link ElementsTransformer}, the context is also handed to the populators, so the
+ * collection elements and the nested values are transformed within the same transformation, also when they run on another thread.
+ * If the identity tracking is enabled, the context also keeps the destination object of each transformed source object, and the
+ * elements are transformed sequentially, so the context is used by one thread at a time; as the lazily transformed objects can be read by
+ * any thread, each of their properties is resolved within its own context (see {@link #detach()}). Apart from the destination objects,
+ * an instance is immutable, hence it can be shared by all the threads involved in a transformation.
+ */
+final class TransformationContext implements ElementsTransformer {
+    /**
+     * The value kept for a source object whose destination object is being created through its constructor or builder.
+     */
+    private static final Object IN_PROGRESS = new Object();
+
+    /**
+     * The transformer executing the transformation.
+     */
+    private final TransformerImpl transformer;
+
+    /**
+     * The source object from which the transformation started, {@code null} if the context is not bound to any transformation.
+     */
+    @Getter
+    private final Object rootSource;
+
+    /**
+     * The validator of the destination objects, {@code null} if the validation is disabled.
+     */
+    private final Validator validator;
+
+    /**
+     * True if the default value has to be assigned to the fields missing in the source object.
+     */
+    @Getter
+    private final boolean defaultValueForMissingField;
+
+    /**
+     * True if the default value has to be assigned to the primitive fields missing in the source object.
+     */
+    @Getter
+    private final boolean defaultValueForMissingPrimitiveField;
+
+    /**
+     * The transformer of the collection and array elements.
+     */
+    private final ElementsTransformer elementsTransformer;
+
+    /**
+     * The destination objects, by source object identity and destination class; {@code null} if the identity tracking is disabled.
+     */
+    private final Map<Object, Map<Class<?>, Object>> transformedObjects;
+
+    /**
+     * Creates a context taking a snapshot of the given settings.
+     * @param transformer the transformer executing the transformation
+     * @param settings the transformer configuration
+     * @param rootSource the source object from which the transformation starts
+     */
+    TransformationContext(final TransformerImpl transformer, final TransformerSettings<String> settings, final Object rootSource) {
+        this.transformer = transformer;
+        this.rootSource = rootSource;
+        this.validator = settings.isValidationEnabled() ? transformer.validator : null;
+        this.defaultValueForMissingField = settings.isSetDefaultValueForMissingField();
+        this.defaultValueForMissingPrimitiveField = settings.isDefaultValueForMissingPrimitiveField();
+        this.transformedObjects = settings.isIdentityTrackingEnabled() ? new IdentityHashMap<>() : null;
+        this.elementsTransformer = settings.getParallelismThreshold() > 0 && isNull(transformedObjects)
+                ? new ParallelElementsTransformer(settings.getParallelismThreshold(), settings.getParallelExecutor())
+                : SEQUENTIAL;
+    }
+
+    /**
+     * Creates a context sharing the settings snapshot of the given one.
+     * @param context the context whose settings snapshot is shared
+     * @param rootSource the source object from which the transformation starts
+     */
+    private TransformationContext(final TransformationContext context, final Object rootSource) {
+        this.transformer = context.transformer;
+        this.rootSource = rootSource;
+        this.validator = context.validator;
+        this.defaultValueForMissingField = context.defaultValueForMissingField;
+        this.defaultValueForMissingPrimitiveField = context.defaultValueForMissingPrimitiveField;
+        this.elementsTransformer = context.elementsTransformer;
+        this.transformedObjects = isNull(context.transformedObjects) ? null : new IdentityHashMap<>();
+    }
+
+    /**
+     * Creates a context for a transformation starting from the given object, sharing the settings snapshot of this one.
+     * @param source the source object from which the transformation starts
+     * @return the new context
+     */
+    TransformationContext withRootSource(final Object source) {
+        return new TransformationContext(this, source);
+    }
+
+    /**
+     * Returns a context sharing the root source and the settings snapshot of this one, but not the destination objects kept for the
+     * identity tracking, e.g. for resolving a property of a lazily transformed object on any thread once this transformation is over.
+     * @return a new context, if the identity tracking is enabled, otherwise this one
+     */
+    TransformationContext detach() {
+        return isNull(transformedObjects) ? this : new TransformationContext(this, rootSource);
+    }
+
+    /**
+     * Returns the object into which the given source object has already been transformed within this transformation.
+     * @param source the source object
+     * @param targetClass the destination object class
+     * @return the destination object, {@code null} if the source object has not been transformed yet or the identity tracking is disabled
+     * @throws InvalidBeanException if the source object is referenced while its destination object is being created, i.e. the object
+     *         graph contains a cycle through an object that cannot be referenced before its creation
+     */
+    Object getTransformed(final Object source, final Class<?> targetClass) {
+        if (isNull(transformedObjects)) {
+            return null;
+        }
+        final Map<Class<?>, Object> targets = transformedObjects.get(source);
+        final Object target = isNull(targets) ? null : targets.get(targetClass);
+        if (target == IN_PROGRESS) {
+            throw new InvalidBeanException("The object graph contains a cycle through an object of type: " + targetClass.getName()
+                    + " that cannot be referenced before its constructor or builder returns");
+        }
+        return target;
+    }
+
+    /**
+     * Keeps the object into which the given source object has been transformed, if the identity tracking is enabled.
+     * The destination object can be kept before its fields are injected, so that the cyclic references to it can be resolved.
+     * @param source the source object
+     * @param targetClass the destination object class
+     * @param target the destination object
+     */
+    void setTransformed(final Object source, final Class<?> targetClass, final Object target) {
+        if (nonNull(transformedObjects)) {
+            transformedObjects.computeIfAbsent(source, s -> new HashMap<>()).put(targetClass, target);
+        }
+    }
+
+    /**
+     * Marks the given source object as being transformed into an object that is not available until its constructor or builder
+     * returns, if the identity tracking is enabled.
+     * @param source the source object
+     * @param targetClass the destination object class
+     */
+    void setInProgress(final Object source, final Class<?> targetClass) {
+        setTransformed(source, targetClass, IN_PROGRESS);
+    }
+
+    /**
+     * Prepares the validation of the objects of the given class, if the validation is enabled.
+     * @param targetClass the destination object class
+     */
+    void prepareValidation(final Class<?> targetClass) {
+        if (nonNull(validator)) {
+            validator.prepare(targetClass);
+        }
+    }
+
+    /**
+     * Validates the given destination object, if the validation is enabled.
+     * @param k the destination object
+     */
+    void validate(final Object k) {
+        if (nonNull(validator)) {
+            validator.validate(k);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> R transform(final Collection<?> elements, final UnaryOperator<Object> elementTransformer, final Collector<Object, ?, R> collector) {
+        return elementsTransformer.transform(elements, elementTransformer, collector);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object[] transform(final Object[] elements, final UnaryOperator<Object> elementTransformer) {
+        return elementsTransformer.transform(elements, elementTransformer);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The element is transformed within this context, hence it keeps the root source of the transformation.
+     */
+    @Override
+    public <T, K> K transform(final BeanTransformer beanTransformer, final T element, final Class<K> targetClass) {
+        return transformer.transform(element, targetClass, null, this);
+    }
+}
@@ -0,0 +1,475 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link Flow.Processor} transforming the items received from its publisher through a {@link BeanTransformer}.
+ * The items are grouped in batches of the configured size, each one transformed on the given executor through
+ * {@link BeanTransformer#transformAll(java.util.Collection, Class)}, so the transformation plan is resolved once for each batch.
+ * At most the configured number of batches are transformed concurrently; the transformed items are emitted in the same order they
+ * have been received. The items requested to the publisher never exceed the ones that can be held by the maximum number of batches,
+ * so a slow subscriber slows down the publisher instead of filling the memory. A batch is transformed only once it's full or once the
+ * publisher completes. The processor supports a single subscriber.
+ * @param <T> the source items type
+ * @param <K> the transformed items type
+ */
+final class TransformationProcessor<T, K> implements Flow.Processor<T, K> {
+    /**
+     * The subscription given to the subscribers rejected by the processor.
+     */
+    private static final Flow.Subscription REJECTED_SUBSCRIPTION = new Flow.Subscription() {
+        @Override
+        public void request(final long n) {
+            // nothing to deliver
+        }
+
+        @Override
+        public void cancel() {
+            // nothing to cancel
+        }
+    };
+
+    /**
+     * The transformer used for each batch.
+     */
+    private final BeanTransformer transformer;
+
+    /**
+     * The destination items class.
+     */
+    private final Class<? extends K> targetClass;
+
+    /**
+     * The number of items of each batch.
+     */
+    private final int batchSize;
+
+    /**
+     * The maximum number of batches transformed or waiting to be emitted.
+     */
+    private final int maxConcurrency;
+
+    /**
+     * The executor on which the batches are transformed.
+     */
+    private final Executor executor;
+
+    /**
+     * The lock guarding the processor state.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The number of pending drain requests, ensuring that the subscriber is signalled by one thread at a time.
+     */
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+
+    /**
+     * The batches transformed or being transformed, in the order their items have been received.
+     */
+    private final Deque<Batch> batches = new ArrayDeque<>();
+
+    /**
+     * The batch currently being filled (if any).
+     */
+    private List<T> currentBatch;
+
+    /**
+     * The publisher subscription.
+     */
+    private Flow.Subscription upstream;
+
+    /**
+     * The subscriber.
+     */
+    private Flow.Subscriber<? super K> downstream;
+
+    /**
+     * True once the subscriber has received its subscription.
+     */
+    private boolean downstreamSubscribed;
+
+    /**
+     * The number of items requested by the subscriber and not yet emitted.
+     */
+    private long demand;
+
+    /**
+     * The number of items requested to the publisher and not yet emitted.
+     */
+    private long outstanding;
+
+    /**
+     * True once the publisher has completed or failed.
+     */
+    private boolean upstreamDone;
+
+    /**
+     * The publisher error (if any).
+     */
+    private Throwable upstreamError;
+
+    /**
+     * The error raised by an invalid request of the subscriber (if any).
+     */
+    private Throwable invalidRequestError;
+
+    /**
+     * True once the subscriber has been cancelled or has received a terminal signal.
+     */
+    private boolean terminated;
+
+    /**
+     * Default constructor.
+     * @param transformer the transformer used for each batch
+     * @param targetClass the destination items class
+     * @param batchSize the number of items of each batch
+     * @param maxConcurrency the maximum number of batches transformed or waiting to be emitted
+     * @param executor the executor on which the batches are transformed
+     */
+    TransformationProcessor(final BeanTransformer transformer, final Class<? extends K> targetClass, final int batchSize, final int maxConcurrency,
+                            final Executor executor) {
+        this.transformer = transformer;
+        this.targetClass = targetClass;
+        this.batchSize = batchSize;
+        this.maxConcurrency = maxConcurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super K> subscriber) {
+        requireNonNull(subscriber);
+        final boolean accepted;
+        synchronized (lock) {
+            accepted = isNull(downstream);
+            if (accepted) {
+                downstream = subscriber;
+            }
+        }
+        if (!accepted) {
+            subscriber.onSubscribe(REJECTED_SUBSCRIPTION);
+            subscriber.onError(new IllegalStateException("The processor supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        synchronized (lock) {
+            downstreamSubscribed = true;
+        }
+        drain();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        requireNonNull(subscription);
+        final boolean accepted;
+        synchronized (lock) {
+            accepted = isNull(upstream) && !terminated;
+            if (accepted) {
+                upstream = subscription;
+            }
+        }
+        if (!accepted) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onNext(final T item) {
+        requireNonNull(item);
+        Batch batch = null;
+        synchronized (lock) {
+            if (terminated || upstreamDone) {
+                return;
+            }
+            if (isNull(currentBatch)) {
+                currentBatch = new ArrayList<>(batchSize);
+            }
+            currentBatch.add(item);
+            if (currentBatch.size() == batchSize) {
+                batch = enqueueCurrentBatch();
+            }
+        }
+        if (nonNull(batch)) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onError(final Throwable throwable) {
+        requireNonNull(throwable);
+        onUpstreamDone(throwable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onComplete() {
+        onUpstreamDone(null);
+    }
+
+    /**
+     * Transforms the last batch, even if it's not full, and signals the publisher termination once all the items have been emitted.
+     * @param error the publisher error (if any)
+     */
+    private void onUpstreamDone(final Throwable error) {
+        final Batch batch;
+        synchronized (lock) {
+            if (terminated || upstreamDone) {
+                return;
+            }
+            upstreamDone = true;
+            upstreamError = error;
+            batch = enqueueCurrentBatch();
+        }
+        if (nonNull(batch)) {
+            dispatch(batch);
+        }
+        drain();
+    }
+
+    /**
+     * Moves the batch currently being filled in the batches to transform. It must be called holding the lock.
+     * @return the batch to transform, or null if there are no items to transform
+     */
+    private Batch enqueueCurrentBatch() {
+        if (isNull(currentBatch)) {
+            return null;
+        }
+        final Batch batch = new Batch(currentBatch);
+        currentBatch = null;
+        batches.add(batch);
+        return batch;
+    }
+
+    /**
+     * Transforms the given batch on the executor.
+     * @param batch the batch to transform
+     */
+    private void dispatch(final Batch batch) {
+        try {
+            executor.execute(() -> {
+                batch.transform();
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            batch.complete(null, e);
+            drain();
+        }
+    }
+
+    /**
+     * Emits the transformed items, requests new items to the publisher and signals the termination, serializing the signals to the
+     * subscriber: if another thread is already draining, it's asked to drain again once done.
+     */
+    private void drain() {
+        if (pendingDrains.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        while (missed != 0) {
+            drainLoop();
+            missed = pendingDrains.addAndGet(-missed);
+        }
+    }
+
+    /**
+     * Emits the transformed items as long as the subscriber requests them.
+     */
+    private void drainLoop() {
+        boolean emitting = true;
+        while (emitting) {
+            K item = null;
+            Throwable error = null;
+            boolean complete = false;
+            long toRequest = 0;
+            Flow.Subscription toCancel = null;
+            synchronized (lock) {
+                if (terminated || !downstreamSubscribed) {
+                    return;
+                }
+                final Batch head = batches.peek();
+                if (nonNull(invalidRequestError)) {
+                    error = invalidRequestError;
+                    toCancel = upstream;
+                } else if (nonNull(head) && head.done) {
+                    if (nonNull(head.failure)) {
+                        error = head.failure;
+                        toCancel = upstream;
+                    } else if (demand > 0) {
+                        item = head.results.get(head.emitted++);
+                        demand--;
+                        outstanding--;
+                        if (head.emitted == head.results.size()) {
+                            batches.poll();
+                        }
+                    }
+                } else if (isNull(head) && upstreamDone) {
+                    error = upstreamError;
+                    complete = isNull(error);
+                }
+                terminated = nonNull(error) || complete;
+                if (!terminated && nonNull(upstream) && !upstreamDone) {
+                    final long capacity = (long) batchSize * maxConcurrency;
+                    if (capacity - outstanding >= batchSize) {
+                        toRequest = capacity - outstanding;
+                        outstanding = capacity;
+                    }
+                }
+            }
+            if (toRequest > 0) {
+                upstream.request(toRequest);
+            }
+            if (nonNull(toCancel)) {
+                toCancel.cancel();
+            }
+            if (nonNull(error)) {
+                downstream.onError(error);
+            } else if (complete) {
+                downstream.onComplete();
+            } else if (nonNull(item)) {
+                downstream.onNext(item);
+            }
+            emitting = nonNull(item);
+        }
+    }
+
+    /**
+     * A group of items transformed together.
+     */
+    private final class Batch {
+        /**
+         * The items to transform.
+         */
+        private final List<T> items;
+
+        /**
+         * The transformed items.
+         */
+        private List<K> results;
+
+        /**
+         * The transformation error (if any).
+         */
+        private Throwable failure;
+
+        /**
+         * True once the batch has been transformed.
+         */
+        private boolean done;
+
+        /**
+         * The number of transformed items already emitted.
+         */
+        private int emitted;
+
+        /**
+         * Default constructor.
+         * @param items the items to transform
+         */
+        Batch(final List<T> items) {
+            this.items = items;
+        }
+
+        /**
+         * Transforms the batch items.
+         */
+        void transform() {
+            try {
+                complete(transformer.transformAll(items, targetClass), null);
+            } catch (RuntimeException | Error e) {
+                complete(null, e);
+            }
+        }
+
+        /**
+         * Stores the transformation result.
+         * @param transformedItems the transformed items
+         * @param error the transformation error (if any)
+         */
+        void complete(final List<K> transformedItems, final Throwable error) {
+            synchronized (lock) {
+                results = transformedItems;
+                failure = error;
+                done = true;
+            }
+        }
+    }
+
+    /**
+     * The subscription given to the subscriber.
+     */
+    private final class DownstreamSubscription implements Flow.Subscription {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void request(final long n) {
+            synchronized (lock) {
+                if (n <= 0) {
+                    invalidRequestError = new IllegalArgumentException("The number of requested items must be positive, requested: " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            final Flow.Subscription subscription;
+            synchronized (lock) {
+                terminated = true;
+                currentBatch = null;
+                batches.clear();
+                subscription = upstream;
+            }
+            if (nonNull(subscription)) {
+                subscription.cancel();
+            }
+        }
+    }
+}
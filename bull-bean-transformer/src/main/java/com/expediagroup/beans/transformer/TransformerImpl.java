@@ -15,21 +15,27 @@
  */
 package com.expediagroup.beans.transformer;
 
+import static java.lang.Character.isUpperCase;
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Proxy.newProxyInstance;
 import static java.util.Arrays.stream;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.IntStream.range;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.apache.commons.lang3.StringUtils.uncapitalize;
 
 import static com.expediagroup.beans.populator.PopulatorFactory.getPopulator;
 import static com.expediagroup.transformer.base.Defaults.defaultValue;
 import static com.expediagroup.transformer.constant.ClassType.MIXED;
 import static com.expediagroup.transformer.constant.ClassType.MUTABLE;
+import static com.expediagroup.transformer.constant.Filters.IS_NOT_FINAL_FIELD;
+import static com.expediagroup.transformer.constant.MethodPrefix.GET;
+import static com.expediagroup.transformer.constant.MethodPrefix.IS;
 import static com.expediagroup.transformer.constant.Punctuation.COMMA;
 import static com.expediagroup.transformer.constant.Punctuation.DOT;
 import static com.expediagroup.transformer.constant.Punctuation.LPAREN;
@@ -37,14 +43,29 @@ import static com.expediagroup.transformer.constant.Punctuation.RPAREN;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import com.expediagroup.beans.transformer.model.FieldStep;
+import com.expediagroup.beans.transformer.model.PropertyStep;
+import com.expediagroup.beans.transformer.model.TransformationPlan;
 import com.expediagroup.transformer.annotation.ConstructorArg;
+import com.expediagroup.transformer.cache.ClassScopedValue;
+import com.expediagroup.transformer.constant.ClassType;
+import com.expediagroup.transformer.constant.MethodPrefix;
 import com.expediagroup.transformer.error.InvalidBeanException;
 import com.expediagroup.transformer.error.MissingFieldException;
 import com.expediagroup.transformer.model.FieldTransformer;
@@ -84,188 +105,631 @@ public class TransformerImpl extends AbstractBeanTransformer {
     private static final String NULL_PRIMITIVE_TRANSFORMER_SUFFIX = ".nullConversion";
 
     /**
-     * Holds a per-thread stack of root source objects for active transformations.
-     * The bottom of the stack is the outermost root; each nested transform that starts
-     * a new logical root (breadcrumb == null) pushes its own source and pops it in {@code finally}.
-     *
-     * <p>Note: collection elements are transformed via {@link com.expediagroup.beans.populator.Populator}
-     * with a null breadcrumb, which means they also push their own source. As a result,
-     * breadcrumb-based field mappings (root-source redirects) are intentionally guarded by
-     * {@code isNotEmpty(breadcrumb)} so they are never triggered for flat / collection-element calls.
-     *
-     * <p>Re-entrancy limitation: a {@link FieldTransformer} callback that calls
-     * {@code transform(otherObj, OtherClass.class)} on <em>this</em> instance will push {@code otherObj}
-     * as the new root for its own transformation chain, which is correct. However, any breadcrumb-based
-     * field mappings active at that point will resolve against {@code otherObj}'s root rather than the
-     * outer root. This is acceptable for current use-cases; a complete fix would require passing
-     * root-source context explicitly through the call chain rather than via a ThreadLocal.
+     * The prefixes of the getter methods exposing the properties of a lazily transformed destination interface.
      */
-    private final ThreadLocal<Deque<Object>> rootSourceStack = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final List<MethodPrefix> GETTER_METHOD_PREFIXES = List.of(GET, IS);
 
     /**
-     * Holds the resolved effective source object and field name after checking
-     * breadcrumb-based field mappings against the root source.
-     * @param <T> the source object type
-     * @param source the source object to read the field from
-     * @param fieldName the field name to read from the source
+     * The compiled transformation plans, one for each source class, destination class and breadcrumb, stored with their source class.
+     * A plan is recompiled if the transformer configuration has changed since its compilation; all the plans are dropped as soon as
+     * the configuration changes, and the ones of the classes defined by a class loader are released with it or through
+     * {@link com.expediagroup.transformer.cache.CacheManagerFactory#evict(ClassLoader)}.
      */
-    private record EffectiveSource<T>(T source, String fieldName) { }
+    private final ClassScopedValue<Map<PlanKey, TransformationPlan>> transformationPlans = new ClassScopedValue<>(sourceClass -> new ConcurrentHashMap<>());
 
     /**
-     * Resolves the effective source object and field name for a destination field.
-     * If a breadcrumb-based mapping exists (e.g. "nestedObject.x" -> "x"), the root source
-     * object is used instead of the current nested source.
-     * @param sourceObj the current source object
-     * @param destFieldName the destination field name
-     * @param breadcrumb the current breadcrumb path
-     * @param <T> the source object type
-     * @return the effective source and field name to use
+     * Identifies a {@link TransformationPlan}.
+     * @param sourceClass the source object class
+     * @param targetClass the destination object class
+     * @param breadcrumb the full path of the current field starting from his ancestor
+     */
+    private record PlanKey(Class<?> sourceClass, Class<?> targetClass, String breadcrumb) { }
+
+    /**
+     * {@inheritDoc}
+     * A new transformation starting from the given source object is created.
+     */
+    @Override
+    protected final <T, K> K transform(final T sourceObj, final Class<? extends K> targetClass, final String breadcrumb) {
+        return transform(sourceObj, targetClass, breadcrumb, new TransformationContext(this, settings, sourceObj));
+    }
+
+    /**
+     * Copies all properties from an object to a new one within the given transformation.
+     * @param sourceObj the source object
+     * @param targetClass the destination object class
+     * @param breadcrumb the full path of the current field starting from his ancestor
+     * @param context the transformation context
+     * @param <T> the Source object type
+     * @param <K> the target object type
+     * @return a copy of the source object into the destination object
+     * @throws InvalidBeanException {@link InvalidBeanException} if an error occurs during the transformation
      */
     @SuppressWarnings("unchecked")
-    private <T> EffectiveSource<T> resolveEffectiveSource(final T sourceObj, final String destFieldName, final String breadcrumb) {
-        if (isNotEmpty(breadcrumb)) {
-            String fieldBreadcrumb = evalBreadcrumb(destFieldName, breadcrumb);
-            String mapped = settings.getFieldsNameMapping().get(fieldBreadcrumb);
-            Deque<Object> stack = rootSourceStack.get();
-            if (mapped != null && !stack.isEmpty()) {
-                return new EffectiveSource<>((T) stack.peek(), mapped);
+    final <T, K> K transform(final T sourceObj, final Class<? extends K> targetClass, final String breadcrumb, final TransformationContext context) {
+        final K k;
+        if (targetClass.equals(Object.class)) {
+            k = (K) sourceObj;
+        } else {
+            final K transformed = (K) context.getTransformed(sourceObj, targetClass);
+            if (nonNull(transformed)) {
+                // already validated or still being populated by an outer transformation
+                return transformed;
             }
+            k = injectValues(sourceObj, getTransformationPlan(sourceObj.getClass(), targetClass, breadcrumb), breadcrumb, context);
         }
-        return new EffectiveSource<>(sourceObj, getSourceFieldName(destFieldName));
+        context.validate(k);
+        return k;
     }
 
     /**
      * {@inheritDoc}
+     * The settings snapshot is taken once for the whole batch and the transformation plan is looked up again only when the source class
+     * changes from an object to the next one or when the transformer configuration changes.
      */
     @Override
-    @SuppressWarnings("unchecked")
-    protected final <T, K> K transform(final T sourceObj, final Class<? extends K> targetClass, final String breadcrumb) {
-        final Deque<Object> stack = rootSourceStack.get();
-        final boolean isRoot = stack.isEmpty();
-        if (isRoot) {
-            stack.push(sourceObj);
-        }
-        try {
-            final K k;
-            if (targetClass.equals(Object.class)) {
-                k = (K) sourceObj;
-            } else {
-                final Optional<Class<?>> builderClass = getBuilderClass(targetClass);
-                if (builderClass.isPresent()) {
-                    k = injectThroughBuilder(sourceObj, targetClass, builderClass.get(), breadcrumb);
-                } else {
-                    k = injectValues(sourceObj, targetClass, breadcrumb);
-                }
-            }
-            if (settings.isValidationEnabled()) {
-                validator.validate(k);
-            }
-            return k;
-        } finally {
-            if (isRoot) {
-                stack.pop();
-            }
+    protected final <T, K> void transformAll(final Iterable<T> sourceObjs, final Class<? extends K> targetClass, final ObjIntConsumer<? super K> resultConsumer) {
+        final BatchTransformation<K> batchTransformation = new BatchTransformation<>(targetClass);
+        int index = 0;
+        for (T sourceObj : sourceObjs) {
+            final K k = isNull(sourceObj) ? null : batchTransformation.transform(sourceObj);
+            resultConsumer.accept(k, index++);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * The returned function looks up the transformation plan again only when the source class changes from an object to the next one
+     * or when the transformer configuration changes.
+     */
+    @Override
+    protected final <T, K> Function<T, K> newBatchTransformer(final Class<? extends K> targetClass) {
+        final BatchTransformation<K> batchTransformation = new BatchTransformation<>(targetClass);
+        return sourceObj -> isNull(sourceObj) ? null : batchTransformation.transform(sourceObj);
+    }
+
     /**
      * Gets the Java Bean Builder class (if any).
      * @param targetClass the destination object class
-     * @param <K> the target object type
      * @return the Builder class
      */
-    private <K> Optional<Class<?>> getBuilderClass(final Class<? extends K> targetClass) {
+    private Optional<Class<?>> getBuilderClass(final Class<?> targetClass) {
         return !settings.isCustomBuilderTransformationEnabled() ? empty() : classUtils.getBuilderClass(targetClass);
     }
 
     /**
-     * Inject all properties value from an object to a new one using the class builder.
-     * @param sourceObj the source object
+     * {@inheritDoc}
+     */
+    @Override
+    protected final <T, K> void transform(final T sourceObj, final K targetObject, final String breadcrumb) {
+        final TransformationContext context = new TransformationContext(this, settings, sourceObj);
+        context.setTransformed(sourceObj, targetObject.getClass(), targetObject);
+        injectFields(getTransformationPlan(sourceObj.getClass(), targetObject.getClass(), breadcrumb).getDeclaredFieldSteps(), sourceObj, targetObject, context);
+        context.validate(targetObject);
+    }
+
+    /**
+     * Gets the transformation plan for the given classes, compiling it if it's missing or if the
+     * transformer configuration has changed since its compilation.
+     * @param sourceClass the source object class
      * @param targetClass the destination object class
-     * @param builderClass the builder class inside the Bean
      * @param breadcrumb the full path of the current field starting from his ancestor
-     * @param <T> the Source object type
-     * @param <K> the target object type
-     * @return a copy of the source object into the destination object
+     * @return the transformation plan
      */
-    @SuppressWarnings("unchecked")
-    private <T, K> K injectThroughBuilder(final T sourceObj, final Class<? extends K> targetClass, final Class<?> builderClass, final String breadcrumb) {
-        return (K) reflectionUtils.invokeMethod(classUtils.getBuildMethod(targetClass, builderClass), injectValues(sourceObj, builderClass, breadcrumb));
+    private TransformationPlan getTransformationPlan(final Class<?> sourceClass, final Class<?> targetClass, final String breadcrumb) {
+        return getTransformationPlan(new PlanKey(sourceClass, targetClass, breadcrumb));
+    }
+
+    /**
+     * Gets the transformation plan identified by the given key, compiling it if it's missing or if the
+     * transformer configuration has changed since its compilation.
+     * @param planKey the plan identifier
+     * @return the transformation plan
+     */
+    private TransformationPlan getTransformationPlan(final PlanKey planKey) {
+        final TransformationPlan plan = getTransformationPlans(planKey).get(planKey);
+        if (isOutdated(plan)) {
+            return compileTransformationPlan(planKey);
+        }
+        return plan;
+    }
+
+    /**
+     * Checks if the given plan has to be compiled.
+     * @param plan the transformation plan (if any)
+     * @return true if the plan is missing or if the transformer configuration has changed since its compilation
+     */
+    private boolean isOutdated(final TransformationPlan plan) {
+        return isNull(plan) || plan.getSettingsVersion() != getSettingsVersion();
+    }
+
+    /**
+     * Compiles the transformation plan identified by the given key with the current transformer configuration and stores it.
+     * @param planKey the plan identifier
+     * @return the transformation plan
+     */
+    private TransformationPlan compileTransformationPlan(final PlanKey planKey) {
+        final TransformationPlan plan = compileTransformationPlan(planKey.sourceClass(), planKey.targetClass(), planKey.breadcrumb(),
+                getSettingsVersion(), settings.isLambdaAccessorsEnabled());
+        getTransformationPlans(planKey).put(planKey, plan);
+        return plan;
+    }
+
+    /**
+     * Returns the transformation plans stored with the source class of the given plan identifier.
+     * @param planKey the plan identifier
+     * @return the transformation plans of the source class
+     */
+    private Map<PlanKey, TransformationPlan> getTransformationPlans(final PlanKey planKey) {
+        return transformationPlans.get(planKey.sourceClass());
     }
 
     /**
      * {@inheritDoc}
+     * The transformation plans compiled with the previous configuration are dropped.
      */
     @Override
-    protected final <T, K> void transform(final T sourceObj, final K targetObject, final String breadcrumb) {
-        final Deque<Object> stack = rootSourceStack.get();
-        final boolean isRoot = stack.isEmpty();
-        if (isRoot) {
-            stack.push(sourceObj);
+    protected final void releaseOutdatedState() {
+        transformationPlans.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final void prepare(final Class<?> sourceClass, final Class<?> targetClass, final String breadcrumb) {
+        prepare(new PlanKey(sourceClass, targetClass, breadcrumb), new HashSet<>(), new TransformationContext(this, settings, null));
+    }
+
+    /**
+     * Compiles, if outdated, the transformation plan identified by the given key and the ones of the nested objects.
+     * @param planKey the plan identifier
+     * @param preparedPlans the plans already prepared, used for stopping on recursive object graphs
+     * @param context the context holding the settings snapshot the plans are prepared with
+     */
+    private void prepare(final PlanKey planKey, final Set<PlanKey> preparedPlans, final TransformationContext context) {
+        if (planKey.targetClass().equals(Object.class) || !preparedPlans.add(planKey)) {
+            return;
+        }
+        TransformationPlan plan = getTransformationPlans(planKey).get(planKey);
+        if (isOutdated(plan)) {
+            plan = compileTransformationPlan(planKey);
         }
+        context.prepareValidation(planKey.targetClass());
+        prepareNestedPlans(planKey.sourceClass(), plan, preparedPlans, context);
+    }
+
+    /**
+     * Prepares the transformation plans of the nested objects populated by the given plan.
+     * @param sourceClass the source object class
+     * @param plan the transformation plan
+     * @param preparedPlans the plans already prepared
+     * @param context the context holding the settings snapshot the plans are prepared with
+     */
+    private void prepareNestedPlans(final Class<?> sourceClass, final TransformationPlan plan, final Set<PlanKey> preparedPlans,
+                                    final TransformationContext context) {
+        if (nonNull(plan.getBuilderPlan())) {
+            prepareNestedPlans(sourceClass, plan.getBuilderPlan(), preparedPlans, context);
+            return;
+        }
+        prepareNestedPlans(sourceClass, plan.getDeclaredFieldSteps(), preparedPlans, context);
+        if (nonNull(plan.getConstructorArgSteps()) && plan.getConstructorArgSteps() != plan.getDeclaredFieldSteps()) {
+            prepareNestedPlans(sourceClass, plan.getConstructorArgSteps(), preparedPlans, context);
+        }
+    }
+
+    /**
+     * Prepares the transformation plans of the nested objects populated by the given steps.
+     * @param sourceClass the source object class
+     * @param steps the field steps
+     * @param preparedPlans the plans already prepared
+     * @param context the context holding the settings snapshot the plans are prepared with
+     */
+    private void prepareNestedPlans(final Class<?> sourceClass, final FieldStep[] steps, final Set<PlanKey> preparedPlans,
+                                    final TransformationContext context) {
+        for (FieldStep step : steps) {
+            if (step.isComposite() && isNull(step.getTransformer()) && isNull(step.getRootSourceFieldName())) {
+                getNestedSourceClass(sourceClass, step).ifPresent(nestedSourceClass ->
+                        prepare(new PlanKey(nestedSourceClass, step.getField().getType(), step.getBreadcrumb()), preparedPlans, context));
+            }
+        }
+    }
+
+    /**
+     * Gets the class of the source object to be transformed into the destination field of the given step.
+     * @param sourceClass the source object class
+     * @param step the field step
+     * @return the source field class if the nested object is transformed through a transformation plan, {@code Optional.empty()} if the
+     * source field does not exist, or if it's an abstract class, an interface or an object handled by a {@link com.expediagroup.beans.populator.Populator}.
+     */
+    private Optional<Class<?>> getNestedSourceClass(final Class<?> sourceClass, final FieldStep step) {
+        final Class<?> sourceFieldType;
         try {
-            injectAllFields(sourceObj, targetObject, breadcrumb);
-            if (settings.isValidationEnabled()) {
-                validator.validate(targetObject);
+            sourceFieldType = getSourceFieldType(sourceClass, step.getSourceFieldName());
+        } catch (MissingFieldException e) {
+            return empty();
+        }
+        final Class<?> fieldType = step.getField().getType();
+        if (isNull(sourceFieldType) || classUtils.isPrimitiveOrSpecialType(sourceFieldType)
+                || isAbstract(sourceFieldType.getModifiers()) || isAbstract(fieldType.getModifiers())
+                || getPopulator(fieldType, sourceFieldType, this).isPresent()) {
+            return empty();
+        }
+        return Optional.of(sourceFieldType);
+    }
+
+    /**
+     * Compiles the transformation plan for the given classes.
+     * @param sourceClass the source object class
+     * @param targetClass the destination object class
+     * @param breadcrumb the full path of the current field starting from his ancestor
+     * @param settingsVersion the transformer configuration version
+     * @param lambdaAccessors if true the fields are accessed through the lambda accessors
+     * @return the transformation plan
+     */
+    private TransformationPlan compileTransformationPlan(final Class<?> sourceClass, final Class<?> targetClass, final String breadcrumb,
+                                                         final long settingsVersion, final boolean lambdaAccessors) {
+        final FieldStep[] declaredFieldSteps = classUtils.getDeclaredFields(targetClass, true).stream()
+                .map(field -> compileFieldStep(sourceClass, field, field.getName(), breadcrumb, lambdaAccessors))
+                .toArray(FieldStep[]::new);
+        final var planBuilder = TransformationPlan.builder()
+                .settingsVersion(settingsVersion)
+                .targetClass(targetClass)
+                .declaredFieldSteps(declaredFieldSteps)
+                .lambdaAccessors(lambdaAccessors);
+        if (isLazilyTransformed(targetClass)) {
+            return planBuilder
+                    .propertySteps(compilePropertySteps(sourceClass, targetClass, breadcrumb, lambdaAccessors))
+                    .build();
+        }
+        final Optional<Class<?>> builderClass = getBuilderClass(targetClass);
+        if (builderClass.isPresent()) {
+            return planBuilder
+                    .builderPlan(compileTransformationPlan(sourceClass, builderClass.get(), breadcrumb, settingsVersion, lambdaAccessors))
+                    .buildMethod(classUtils.getBuildMethod(targetClass, builderClass.get()))
+                    .build();
+        }
+        final ClassType classType = classUtils.getClassType(targetClass);
+        planBuilder.classType(classType);
+        if (classType.is(MUTABLE)) {
+            planBuilder.noArgsConstructor(getNoArgsConstructor(targetClass));
+        } else {
+            final Constructor<?> constructor = classUtils.getAllArgsConstructor(targetClass);
+            planBuilder
+                    .allArgsConstructor(constructor)
+                    .constructorArgSteps(getConstructorArgSteps(sourceClass, targetClass, constructor, declaredFieldSteps, breadcrumb, lambdaAccessors))
+                    .notFinalFieldSteps(classType.is(MIXED)
+                            ? stream(declaredFieldSteps).filter(step -> IS_NOT_FINAL_FIELD.test(step.getField())).toArray(FieldStep[]::new) : new FieldStep[0]);
+        }
+        return planBuilder.build();
+    }
+
+    /**
+     * Checks if the objects of the given class are created as proxies resolving their properties on first access.
+     * @param targetClass the destination object class
+     * @return true if the lazy transformation is enabled and the class is an interface
+     */
+    private boolean isLazilyTransformed(final Class<?> targetClass) {
+        return settings.isLazyTransformationEnabled() && targetClass.isInterface();
+    }
+
+    /**
+     * Compiles the steps for resolving the properties of the given destination interface, i.e. the values returned by its abstract
+     * methods without parameters.
+     * @param sourceClass the source object class
+     * @param targetInterface the destination interface
+     * @param breadcrumb the full path of the current field starting from his ancestor
+     * @param lambdaAccessors if true the fields are read through the lambda accessors
+     * @return the property steps, by getter method
+     */
+    private Map<Method, PropertyStep> compilePropertySteps(final Class<?> sourceClass, final Class<?> targetInterface, final String breadcrumb,
+                                                           final boolean lambdaAccessors) {
+        final Map<Method, PropertyStep> propertySteps = new HashMap<>();
+        for (Method method : targetInterface.getMethods()) {
+            if (isAbstract(method.getModifiers()) && method.getParameterCount() == 0 && !method.getReturnType().equals(void.class)
+                    && !isObjectMethod(method)) {
+                propertySteps.put(method, compilePropertyStep(sourceClass, method, breadcrumb, lambdaAccessors));
             }
-        } finally {
-            if (isRoot) {
-                stack.pop();
+        }
+        return propertySteps;
+    }
+
+    /**
+     * Checks if the given method overrides a method of {@link Object}, e.g. {@code toString}.
+     * @param method the method to check
+     * @return true if {@link Object} declares a method with the same signature
+     */
+    private boolean isObjectMethod(final Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Compiles the step for resolving the property exposed by the given getter method.
+     * @param sourceClass the source object class
+     * @param getterMethod the destination interface getter method
+     * @param breadcrumb the full path of the current field starting from his ancestor
+     * @param lambdaAccessors if true the fields are read through the lambda accessors
+     * @return the property step
+     */
+    private PropertyStep compilePropertyStep(final Class<?> sourceClass, final Method getterMethod, final String breadcrumb, final boolean lambdaAccessors) {
+        final String propertyName = getPropertyName(getterMethod);
+        final String propertyBreadcrumb = evalBreadcrumb(propertyName, breadcrumb);
+        final var stepBuilder = PropertyStep.builder()
+                .getterMethod(getterMethod)
+                .breadcrumb(propertyBreadcrumb);
+        if (doSkipTransformation(propertyBreadcrumb)) {
+            return stepBuilder.skipped(true).build();
+        }
+        final Class<?> propertyType = getterMethod.getReturnType();
+        final boolean primitiveType = classUtils.isPrimitiveType(propertyType);
+        final String sourceFieldName = getSourceFieldName(propertyName);
+        final FieldTransformer transformerFunction = settings.getFieldsTransformers().get(settings.isFlatFieldNameTransformation() ? propertyName : propertyBreadcrumb);
+        final Class<?> sourceFieldType = settings.isPrimitiveTypeConversionEnabled() && primitiveType ? getSourceFieldType(sourceClass, sourceFieldName) : null;
+        return stepBuilder
+                .sourceFieldName(sourceFieldName)
+                .transformer(transformerFunction)
+                .reader(lambdaAccessors && isNull(transformerFunction) ? reflectionUtils.findGetterMethodFunction(sourceClass, sourceFieldName).orElse(null) : null)
+                .primitiveType(primitiveType)
+                .composite(!primitiveType && !classUtils.isSpecialType(propertyType))
+                .primitiveTypeConversion(isNull(sourceFieldType) ? null : conversionAnalyzer.getConversionFunction(sourceFieldType, propertyType)
+                        .map(conversionFunction -> new FieldTransformer<>(propertyBreadcrumb, conversionFunction))
+                        .orElse(null))
+                .build();
+    }
+
+    /**
+     * Returns the name of the property exposed by the given getter method: the method name without the getter prefix, if any.
+     * @param getterMethod the getter method
+     * @return the property name
+     */
+    private String getPropertyName(final Method getterMethod) {
+        final String methodName = getterMethod.getName();
+        for (MethodPrefix methodPrefix : GETTER_METHOD_PREFIXES) {
+            final String prefix = methodPrefix.getPrefix();
+            if (methodName.length() > prefix.length() && methodName.startsWith(prefix) && isUpperCase(methodName.charAt(prefix.length()))) {
+                return uncapitalize(methodName.substring(prefix.length()));
             }
         }
+        return methodName;
     }
 
     /**
-     * Inject all properties value from an object to a new one.
-     * @param sourceObj the source object
+     * Gets the no args constructor of the given class.
+     * @param targetClass the destination object class
+     * @return the no args constructor or, if the class does not have it, a {@link Supplier} raising the lookup error
+     */
+    private Supplier<?> getNoArgsConstructor(final Class<?> targetClass) {
+        try {
+            return classUtils.getNoArgsConstructor(targetClass);
+        } catch (InvalidBeanException e) {
+            // the error is raised only if an instance of the class has to be created, as the plan
+            // is also used for populating existing objects
+            return () -> {
+                throw e;
+            };
+        }
+    }
+
+    /**
+     * Gets the steps for retrieving the all args constructor argument values: one for each record component, if the destination class is
+     * a record, otherwise one for each constructor parameter, if their names can be retrieved, or the declared field steps.
+     * @param sourceClass the source object class
+     * @param targetClass the destination object class
+     * @param constructor the all args constructor
+     * @param declaredFieldSteps the steps of the destination class declared fields
+     * @param breadcrumb the full path of the current field starting from his ancestor
+     * @param lambdaAccessors if true the fields are accessed through the lambda accessors
+     * @return the steps for retrieving the constructor argument values, in the constructor parameters order
+     */
+    private FieldStep[] getConstructorArgSteps(final Class<?> sourceClass, final Class<?> targetClass, final Constructor<?> constructor,
+                                               final FieldStep[] declaredFieldSteps, final String breadcrumb, final boolean lambdaAccessors) {
+        if (targetClass.isRecord()) {
+            return compileRecordComponentSteps(sourceClass, targetClass, breadcrumb, lambdaAccessors);
+        }
+        return canBeInjectedByConstructorParams(constructor)
+                ? compileConstructorArgSteps(sourceClass, targetClass, constructor, breadcrumb, lambdaAccessors) : declaredFieldSteps;
+    }
+
+    /**
+     * Compiles the steps for retrieving the canonical constructor argument values of the given record.
+     * The destination field names are the record component names, hence neither the constructor parameter names nor the
+     * {@link ConstructorArg} annotations are needed.
+     * @param sourceClass the source object class
+     * @param targetRecord the destination record class
+     * @param breadcrumb the full path of the current field starting from his ancestor
+     * @param lambdaAccessors if true the fields are accessed through the lambda accessors
+     * @return the steps for retrieving the constructor argument values, in the record components order
+     */
+    private FieldStep[] compileRecordComponentSteps(final Class<?> sourceClass, final Class<?> targetRecord, final String breadcrumb,
+                                                    final boolean lambdaAccessors) {
+        final RecordComponent[] recordComponents = classUtils.getRecordComponents(targetRecord);
+        final FieldStep[] steps = new FieldStep[recordComponents.length];
+        for (int i = 0; i < recordComponents.length; i++) {
+            final String destFieldName = recordComponents[i].getName();
+            steps[i] = compileFieldStep(sourceClass, reflectionUtils.getDeclaredField(destFieldName, targetRecord), destFieldName, breadcrumb, lambdaAccessors);
+        }
+        return steps;
+    }
+
+    /**
+     * Compiles the steps for retrieving the constructor argument values.
+     * This methods uses the {@link ConstructorArg} to retrieve the destination field names.
+     * @param sourceClass the source object class
      * @param targetClass the destination object class
+     * @param constructor the all args constructor
      * @param breadcrumb the full path of the current field starting from his ancestor
+     * @param lambdaAccessors if true the fields are accessed through the lambda accessors
+     * @return the steps for retrieving the constructor argument values
+     */
+    private FieldStep[] compileConstructorArgSteps(final Class<?> sourceClass, final Class<?> targetClass, final Constructor constructor,
+                                                   final String breadcrumb, final boolean lambdaAccessors) {
+        final Parameter[] constructorParameters = classUtils.getConstructorParameters(constructor);
+        final FieldStep[] steps = new FieldStep[constructorParameters.length];
+        for (int i = 0; i < constructorParameters.length; i++) {
+            String destFieldName = getDestFieldName(constructorParameters[i], targetClass.getName());
+            if (isNull(destFieldName)) {
+                steps[i] = FieldStep.builder().constantValue(classUtils.getDefaultTypeValue(constructorParameters[i].getType())).build();
+            } else {
+                steps[i] = compileFieldStep(sourceClass, reflectionUtils.getDeclaredField(destFieldName, targetClass), destFieldName, breadcrumb, lambdaAccessors);
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * Gets the function writing the value of the given destination field: its setter method, if the lambda accessors are enabled,
+     * otherwise a method handle bound to the field.
+     * @param field the destination field
+     * @return the field writer or {@code null} if the field has to be set through reflection
+     */
+    private BiConsumer<Object, Object> getFieldWriter(final Field field) {
+        final Optional<BiConsumer<Object, Object>> setterFunction = settings.isLambdaAccessorsEnabled()
+                ? reflectionUtils.findSetterMethodFunction(field.getDeclaringClass(), field)
+                : empty();
+        return setterFunction.or(() -> reflectionUtils.findFieldWriter(field)).orElse(null);
+    }
+
+    /**
+     * Compiles the step for retrieving the value of the given destination field.
+     * @param sourceClass the source object class
+     * @param field the destination field
+     * @param destFieldName the destination field name used to resolve the source field
+     * @param breadcrumb the full path of the current field starting from his ancestor
+     * @param lambdaAccessors if true the fields are read through the lambda accessors
+     * @return the field step
+     */
+    private FieldStep compileFieldStep(final Class<?> sourceClass, final Field field, final String destFieldName, final String breadcrumb,
+                                       final boolean lambdaAccessors) {
+        final String fieldBreadcrumb = evalBreadcrumb(field.getName(), breadcrumb);
+        final var stepBuilder = FieldStep.builder()
+                .field(field)
+                .breadcrumb(fieldBreadcrumb)
+                .writer(getFieldWriter(field));
+        if (doSkipTransformation(fieldBreadcrumb)) {
+            return stepBuilder.skipped(true).build();
+        }
+        final Class<?> fieldType = field.getType();
+        final boolean primitiveType = classUtils.isPrimitiveType(fieldType);
+        final String sourceFieldName = getSourceFieldName(destFieldName);
+        // a breadcrumb-based mapping (e.g. "nestedObject.x" -> "x") reads the field from the root source object
+        final String rootSourceFieldName = isNotEmpty(breadcrumb) ? settings.getFieldsNameMapping().get(evalBreadcrumb(destFieldName, breadcrumb)) : null;
+        final FieldTransformer transformerFunction = getTransformerFunction(field, fieldBreadcrumb);
+        // the getter function is not used if a transformer function is defined, as it accepts missing or unreadable source fields
+        final boolean readerAllowed = lambdaAccessors && isNull(rootSourceFieldName) && isNull(transformerFunction);
+        stepBuilder
+                .sourceFieldName(sourceFieldName)
+                .rootSourceFieldName(rootSourceFieldName)
+                .sourceFieldMissing(isNull(rootSourceFieldName) && isSourceFieldMissing(sourceClass, sourceFieldName, fieldType))
+                .transformer(transformerFunction)
+                .reader(readerAllowed ? reflectionUtils.findGetterMethodFunction(sourceClass, sourceFieldName).orElse(null) : null)
+                .primitiveType(primitiveType)
+                .composite(!primitiveType && !classUtils.isSpecialType(fieldType)
+                        && (nonNull(rootSourceFieldName) || !isSharedByReference(sourceClass, sourceFieldName, fieldType, fieldBreadcrumb)));
+        if (fieldType.isPrimitive() && isNull(rootSourceFieldName) && isNull(transformerFunction) && !sourceFieldName.contains(DOT.getSymbol())) {
+            stepBuilder.primitiveCopier(reflectionUtils.findPrimitiveFieldCopier(sourceClass, sourceFieldName, field, settings.isLambdaAccessorsEnabled()).orElse(null));
+        }
+        if (!settings.isPrimitiveTypeConversionEnabled() || !primitiveType) {
+            return stepBuilder.primitiveTypeConversionResolved(true).build();
+        }
+        if (isNull(rootSourceFieldName)) {
+            try {
+                stepBuilder
+                        .primitiveTypeConversion(getPrimitiveTypeTransformer(sourceClass, sourceFieldName, field, fieldBreadcrumb, settings.isSetDefaultValueForMissingField()))
+                        .primitiveTypeConversionResolved(true);
+            } catch (MissingFieldException e) {
+                log.debug("Field '{}' not found in source type '{}'; the type conversion will be resolved at transformation time.",
+                        sourceFieldName, sourceClass.getName());
+            }
+        }
+        return stepBuilder.build();
+    }
+
+    /**
+     * Inject all properties value from an object to a new one following the given transformation plan.
+     * @param sourceObj the source object
+     * @param plan the transformation plan
+     * @param breadcrumb the full path of the current field starting from his ancestor
+     * @param context the transformation context
      * @param <T> the Source object type
      * @param <K> the target object type
      * @return a copy of the source object into the destination object
      */
-    private <T, K> K injectValues(final T sourceObj, final Class<? extends K> targetClass, final String breadcrumb) {
+    @SuppressWarnings("unchecked")
+    private <T, K> K injectValues(final T sourceObj, final TransformationPlan plan, final String breadcrumb, final TransformationContext context) {
+        final Class<K> targetClass = (Class<K>) plan.getTargetClass();
         final K k;
-        final var classType = classUtils.getClassType(targetClass);
-        if (classType.is(MUTABLE)) {
+        if (nonNull(plan.getPropertySteps())) {
+            k = (K) newProxyInstance(targetClass.getClassLoader(), new Class<?>[] {targetClass},
+                    new LazyTransformationHandler(this, sourceObj, plan.getPropertySteps(), context));
+            context.setTransformed(sourceObj, targetClass, k);
+            return k;
+        }
+        if (nonNull(plan.getBuilderPlan())) {
+            context.setInProgress(sourceObj, targetClass);
+            k = (K) reflectionUtils.invokeMethod(plan.getBuildMethod(), injectValues(sourceObj, plan.getBuilderPlan(), breadcrumb, context));
+            context.setTransformed(sourceObj, targetClass, k);
+            return k;
+        }
+        if (plan.getClassType().is(MUTABLE)) {
             try {
-                k = classUtils.getNoArgsConstructor(targetClass).get();
-                injectAllFields(sourceObj, k, breadcrumb);
+                k = (K) plan.getNoArgsConstructor().get();
+                context.setTransformed(sourceObj, targetClass, k);
+                injectFields(plan.getDeclaredFieldSteps(), sourceObj, k, context);
             } catch (Exception e) {
                 throw new InvalidBeanException(e.getMessage(), e);
             }
         } else {
-            k = injectValues(sourceObj, targetClass, classUtils.getAllArgsConstructor(targetClass), breadcrumb, false);
-            if (classType.is(MIXED)) {
-                injectNotFinalFields(sourceObj, k, breadcrumb);
+            context.setInProgress(sourceObj, targetClass);
+            final Object[] constructorArgs = getFieldValues(plan.getConstructorArgSteps(), sourceObj, null, targetClass, context);
+            k = newInstance(sourceObj, plan, breadcrumb, constructorArgs, false, context);
+            context.setTransformed(sourceObj, targetClass, k);
+            if (plan.getClassType().is(MIXED)) {
+                injectFields(plan.getNotFinalFieldSteps(), sourceObj, k, context);
             }
         }
         return k;
     }
 
     /**
-     * Inject the values through the all args constructor.
+     * Inject the values through the all args constructor forcing the retrieval of the arguments from the constructor parameters.
      * @param sourceObj   sourceObj the source object
-     * @param targetClass the destination object class
-     * @param constructor the all args constructor
+     * @param plan        the transformation plan
      * @param breadcrumb  the full path of the current field starting from his ancestor
-     * @param forceConstructorInjection if true it forces the injection trough constructor
+     * @param context     the transformation context
      * @param <T>         the sourceObj object type
      * @param <K>         the target object type
      * @return a copy of the source object into the destination object
      * @throws InvalidBeanException {@link InvalidBeanException} if the target object is not compliant with the requirements
      */
-    private <T, K> K injectValues(final T sourceObj, final Class<K> targetClass, final Constructor constructor, final String breadcrumb, final boolean forceConstructorInjection) {
-        final Object[] constructorArgs;
-        if (forceConstructorInjection || canBeInjectedByConstructorParams(constructor)) {
-            constructorArgs = getConstructorArgsValues(sourceObj, targetClass, constructor, breadcrumb);
-        } else {
-            constructorArgs = getConstructorValuesFromFields(sourceObj, targetClass, breadcrumb);
-        }
+    private <T, K> K injectValuesThroughConstructorParams(final T sourceObj, final TransformationPlan plan, final String breadcrumb,
+                                                          final TransformationContext context) {
+        return newInstance(sourceObj, plan, breadcrumb, getConstructorArgsValues(sourceObj, plan, breadcrumb, context), true, context);
+    }
+
+    /**
+     * Creates the destination object through the all args constructor.
+     * @param sourceObj   sourceObj the source object
+     * @param plan        the transformation plan
+     * @param breadcrumb  the full path of the current field starting from his ancestor
+     * @param constructorArgs the constructor arguments
+     * @param forceConstructorInjection if true the constructor arguments have been retrieved from the constructor parameters
+     * @param context     the transformation context
+     * @param <T>         the sourceObj object type
+     * @param <K>         the target object type
+     * @return a copy of the source object into the destination object
+     * @throws InvalidBeanException {@link InvalidBeanException} if the target object is not compliant with the requirements
+     */
+    private <T, K> K newInstance(final T sourceObj, final TransformationPlan plan, final String breadcrumb, final Object[] constructorArgs,
+                                 final boolean forceConstructorInjection, final TransformationContext context) {
         try {
-            return classUtils.getInstance(constructor, constructorArgs);
+            return classUtils.getInstance(plan.getAllArgsConstructor(), constructorArgs);
         } catch (final Exception e) {
-            return handleInjectionException(sourceObj, targetClass, constructor, breadcrumb, constructorArgs, forceConstructorInjection, e);
+            return handleInjectionException(sourceObj, plan, breadcrumb, constructorArgs, forceConstructorInjection, e, context);
         }
     }
 
@@ -273,23 +737,25 @@ public class TransformerImpl extends AbstractBeanTransformer {
      * Handles the exception thrown by method: {@code injectValues}.
      * In case an exception is raised due to missing parameter names it tries to inject through the constructor anyway.
      * @param sourceObj   sourceObj the source object
-     * @param targetClass the destination object class
-     * @param constructor the all args constructor
+     * @param plan        the transformation plan
      * @param breadcrumb  the full path of the current field starting from his ancestor
      * @param constructorArgs the constructor arguments
      * @param forceConstructorInjection if true it forces the injection trough constructor
      * @param e the raised exception
+     * @param context     the transformation context
      * @param <T>         the sourceObj object type
      * @param <K>         the target object type
      * @return a copy of the source object into the destination object
      * @throws InvalidBeanException {@link InvalidBeanException} if the target object is not compliant with the requirements
      */
-    protected <T, K> K handleInjectionException(final T sourceObj, final Class<K> targetClass, final Constructor constructor, final String breadcrumb,
-                                                final Object[] constructorArgs, final boolean forceConstructorInjection, final Exception e) {
+    protected <T, K> K handleInjectionException(final T sourceObj, final TransformationPlan plan, final String breadcrumb, final Object[] constructorArgs,
+                                                final boolean forceConstructorInjection, final Exception e, final TransformationContext context) {
+        final Class<?> targetClass = plan.getTargetClass();
+        final Constructor<?> constructor = plan.getAllArgsConstructor();
         String errorMsg;
-        if (!classUtils.areParameterNamesAvailable(constructor)) {
+        if (!targetClass.isRecord() && !classUtils.areParameterNamesAvailable(constructor)) {
             if (!forceConstructorInjection) {
-                return injectValues(sourceObj, targetClass, constructor, breadcrumb, true);
+                return injectValuesThroughConstructorParams(sourceObj, plan, breadcrumb, context);
             } else {
                 errorMsg = "Constructor's parameters name have been removed from the compiled code. "
                         + "This caused a problems during the: " + targetClass.getSimpleName() + " injection. "
@@ -305,6 +771,28 @@ public class TransformerImpl extends AbstractBeanTransformer {
         throw new InvalidBeanException(errorMsg, e);
     }
 
+    /**
+     * Handles the exception thrown by method: {@code injectValues}, within a new transformation starting from the given source object.
+     * In case an exception is raised due to missing parameter names it tries to inject through the constructor anyway.
+     * @param sourceObj   sourceObj the source object
+     * @param targetClass the destination object class
+     * @param constructor the all args constructor
+     * @param breadcrumb  the full path of the current field starting from his ancestor
+     * @param constructorArgs the constructor arguments
+     * @param forceConstructorInjection if true it forces the injection trough constructor
+     * @param e the raised exception
+     * @param <T>         the sourceObj object type
+     * @param <K>         the target object type
+     * @return a copy of the source object into the destination object
+     * @throws InvalidBeanException {@link InvalidBeanException} if the target object is not compliant with the requirements
+     */
+    protected <T, K> K handleInjectionException(final T sourceObj, final Class<K> targetClass, final Constructor constructor, final String breadcrumb,
+                                                final Object[] constructorArgs, final boolean forceConstructorInjection, final Exception e) {
+        final TransformationPlan plan = TransformationPlan.builder().targetClass(targetClass).allArgsConstructor(constructor).build();
+        return handleInjectionException(sourceObj, plan, breadcrumb, constructorArgs, forceConstructorInjection, e,
+                new TransformationContext(this, settings, sourceObj));
+    }
+
     /**
      * Creates a string containing the arguments used to invoke the given class constructor.
      * @param targetClass the class containing the constructor
@@ -334,7 +822,25 @@ public class TransformerImpl extends AbstractBeanTransformer {
 
     /**
      * Retrieves all the constructor argument values.
-     * This methods uses the {@link ConstructorArg} to retrieve the argument values
+     * This methods uses the {@link ConstructorArg} to retrieve the argument values. The steps retrieving them are compiled on the first
+     * call and kept by the transformation plan.
+     * @param sourceObj   sourceObj the source object
+     * @param plan        the transformation plan
+     * @param breadcrumb  the full path of the current field starting from his ancestor
+     * @param context     the transformation context
+     * @param <T>         the sourceObj object type
+     * @return a list containing the values for the destination constructor.
+     * @throws InvalidBeanException {@link InvalidBeanException} if there is an error while retrieving the constructor args parameter
+     */
+    protected <T> Object[] getConstructorArgsValues(final T sourceObj, final TransformationPlan plan, final String breadcrumb, final TransformationContext context) {
+        final FieldStep[] steps = plan.getForcedConstructorArgSteps(() ->
+                compileConstructorArgSteps(sourceObj.getClass(), plan.getTargetClass(), plan.getAllArgsConstructor(), breadcrumb, plan.isLambdaAccessors()));
+        return getFieldValues(steps, sourceObj, null, plan.getTargetClass(), context);
+    }
+
+    /**
+     * Retrieves all the constructor argument values, within a new transformation starting from the given source object.
+     * This methods uses the {@link ConstructorArg} to retrieve the argument values.
      * @param sourceObj   sourceObj the source object
      * @param targetClass the destination object class
      * @param constructor the all args constructor
@@ -345,19 +851,43 @@ public class TransformerImpl extends AbstractBeanTransformer {
      * @throws InvalidBeanException {@link InvalidBeanException} if there is an error while retrieving the constructor args parameter
      */
     protected <T, K> Object[] getConstructorArgsValues(final T sourceObj, final Class<K> targetClass, final Constructor constructor, final String breadcrumb) {
-        final Parameter[] constructorParameters = classUtils.getConstructorParameters(constructor);
-        // mapToObj makes the stream safe to parallelize in the future (no side-effectful array writes).
-        return range(0, constructorParameters.length)
-                //.parallel()
-                .mapToObj(i -> {
-                    String destFieldName = getDestFieldName(constructorParameters[i], targetClass.getName());
-                    if (isNull(destFieldName)) {
-                        return classUtils.getDefaultTypeValue(constructorParameters[i].getType());
-                    }
-                    EffectiveSource<T> effective = resolveEffectiveSource(sourceObj, destFieldName, breadcrumb);
-                    return getFieldValue(effective.source(), effective.fieldName(), targetClass, reflectionUtils.getDeclaredField(destFieldName, targetClass), breadcrumb);
-                })
-                .toArray(Object[]::new);
+        final TransformationPlan plan = TransformationPlan.builder().targetClass(targetClass).allArgsConstructor(constructor).build();
+        return getConstructorArgsValues(sourceObj, plan, breadcrumb, new TransformationContext(this, settings, sourceObj));
+    }
+
+    /**
+     * Checks if the source field value can be assigned by reference to the destination field, instead of being copied.
+     * It's possible if both fields have the same deeply immutable type and the transformer configuration does not apply to the
+     * fields of the value.
+     * @param sourceClass the source object class
+     * @param sourceFieldName the source field name
+     * @param fieldType the destination field type
+     * @param fieldBreadcrumb the destination field path
+     * @return true if the source field value can be shared by reference, false otherwise
+     */
+    private boolean isSharedByReference(final Class<?> sourceClass, final String sourceFieldName, final Class<?> fieldType, final String fieldBreadcrumb) {
+        if (sourceFieldName.contains(DOT.getSymbol()) || !classUtils.isDeeplyImmutable(fieldType) || hasNestedSettings(fieldBreadcrumb)) {
+            return false;
+        }
+        try {
+            return reflectionUtils.getDeclaredFieldType(sourceFieldName, sourceClass).equals(fieldType);
+        } catch (MissingFieldException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the transformer configuration applies to any field nested in the given one.
+     * @param fieldBreadcrumb the field path
+     * @return true if a field transformer, a field mapping or a field to skip is defined below the given field, or if the field
+     *         transformers are applied without evaluating the field path
+     */
+    private boolean hasNestedSettings(final String fieldBreadcrumb) {
+        final String nestedFieldPrefix = fieldBreadcrumb + DOT.getSymbol();
+        return (settings.isFlatFieldNameTransformation() && !settings.getFieldsTransformers().isEmpty())
+                || Stream.of(settings.getFieldsTransformers().keySet(), settings.getFieldsNameMapping().keySet(), settings.getFieldsToSkip())
+                .flatMap(Set::stream)
+                .anyMatch(fieldName -> fieldName.startsWith(nestedFieldPrefix));
     }
 
     /**
@@ -406,127 +936,169 @@ public class TransformerImpl extends AbstractBeanTransformer {
     }
 
     /**
-     * Retrieves all the constructor argument values.
-     * This methods retrieves the values from the declared class field into the target object.
-     * @param sourceObj   sourceObj the source object
-     * @param targetClass the destination object class
-     * @param breadcrumb  the full path of the current field starting from his ancestor
-     * @param <T>         the sourceObj object type
-     * @param <K>         the target object type
-     * @return a list containing the values for the destination constructor.
-     * @throws InvalidBeanException {@link InvalidBeanException} if an error occurs while retrieving the value
-     */
-    private <T, K> Object[] getConstructorValuesFromFields(final T sourceObj, final Class<K> targetClass, final String breadcrumb) {
-        final List<Field> declaredFields = classUtils.getDeclaredFields(targetClass, true);
-        return declaredFields.stream()
-                .map(field -> getFieldValue(sourceObj, (K) null, targetClass, field, breadcrumb))
-                .toArray(Object[]::new);
-    }
-
-    /**
-     * Injects the values for all class fields.
+     * Retrieves the values of the given steps.
+     * @param steps the steps to execute
      * @param sourceObj sourceObj the source object
-     * @param targetObject the destination object instance
-     * @param breadcrumb  the full path of the current field starting from his ancestor
+     * @param targetObject the destination object instance (if any)
+     * @param targetClass the destination object class
+     * @param context the transformation context
      * @param <T>  the sourceObj object type
      * @param <K> the target object type
+     * @return the values retrieved by each step
      * @throws InvalidBeanException {@link InvalidBeanException} if an error occurs while retrieving the value
      */
-    private <T, K> void injectAllFields(final T sourceObj, final K targetObject, final String breadcrumb) {
-        final Class<K> targetObjectClass = (Class<K>) targetObject.getClass();
-        injectFields(classUtils.getDeclaredFields(targetObjectClass, true), sourceObj, targetObject, targetObjectClass, breadcrumb);
-    }
-
-    /**
-     * Creates a {@link Consumer} that sets the field value in the given class.
-     * @param sourceObj sourceObj the source object
-     * @param targetObject the destination object instance
-     * @param targetObjectClass  the target object class
-     * @param breadcrumb  the full path of the current field starting from his ancestor
-     * @param <T>  the sourceObj object type
-     * @param <K> the target object type
-     * @return a {@link Consumer} that sets the field value in the target object
-     */
-    private <T, K> Consumer<Field> setFieldValue(final T sourceObj, final K targetObject, final Class<K> targetObjectClass, final String breadcrumb) {
-        return field -> reflectionUtils.setFieldValue(targetObject, field, getFieldValue(sourceObj, targetObject, targetObjectClass, field, breadcrumb));
+    private <T, K> Object[] getFieldValues(final FieldStep[] steps, final T sourceObj, final K targetObject, final Class<K> targetClass,
+                                           final TransformationContext context) {
+        final Object[] values = new Object[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            values[i] = getFieldValue(steps[i], sourceObj, targetObject, targetClass, context);
+        }
+        return values;
     }
 
     /**
-     * Injects the values for all the not final fields.
+     * Injects the values for the fields of the given steps.
+     * @param steps the steps to execute
      * @param sourceObj sourceObj the source object
      * @param targetObject the destination object instance
-     * @param breadcrumb  the full path of the current field starting from his ancestor
+     * @param context the transformation context
      * @param <T>  the sourceObj object type
      * @param <K> the target object type
      * @throws InvalidBeanException {@link InvalidBeanException} if an error occurs while retrieving the value
      */
-    private <T, K> void injectNotFinalFields(final T sourceObj, final K targetObject, final String breadcrumb) {
+    @SuppressWarnings("unchecked")
+    private <T, K> void injectFields(final FieldStep[] steps, final T sourceObj, final K targetObject, final TransformationContext context) {
         final Class<K> targetObjectClass = (Class<K>) targetObject.getClass();
-        injectFields(classUtils.getNotFinalFields(targetObjectClass, true), sourceObj, targetObject, targetObjectClass, breadcrumb);
+        for (FieldStep step : steps) {
+            if (nonNull(step.getPrimitiveCopier())) {
+                // the primitive value is copied without being boxed
+                step.getPrimitiveCopier().accept(sourceObj, targetObject);
+            } else {
+                injectField(step, sourceObj, targetObject, targetObjectClass, context);
+            }
+        }
     }
 
     /**
-     * Injects the values for given final fields.
-     * @param fieldList the list of field to inject
+     * Injects the value for the field of the given step.
+     * @param step the step to execute
      * @param sourceObj sourceObj the source object
      * @param targetObject the destination object instance
      * @param targetObjectClass the destination object class
-     * @param breadcrumb  the full path of the current field starting from his ancestor
+     * @param context the transformation context
      * @param <T>  the sourceObj object type
      * @param <K> the target object type
      * @throws InvalidBeanException {@link InvalidBeanException} if an error occurs while retrieving the value
      */
-    private <T, K> void injectFields(final List<Field> fieldList, final T sourceObj, final K targetObject, final Class<K> targetObjectClass, final String breadcrumb) {
-        fieldList
-                //.parallelStream()
-                .forEach(setFieldValue(sourceObj, targetObject, targetObjectClass, breadcrumb));
-    }
-
-    private <T, K> Object getFieldValue(final T sourceObj, final K targetObject, final Class<K> targetClass, final Field field, final String breadcrumb) {
-        EffectiveSource<T> effective = resolveEffectiveSource(sourceObj, field.getName(), breadcrumb);
-        return getFieldValue(effective.source(), effective.fieldName(), targetObject, targetClass, field, breadcrumb);
+    private <T, K> void injectField(final FieldStep step, final T sourceObj, final K targetObject, final Class<K> targetObjectClass,
+                                    final TransformationContext context) {
+        final Object fieldValue = getFieldValue(step, sourceObj, targetObject, targetObjectClass, context);
+        if (nonNull(step.getWriter())) {
+            step.getWriter().accept(targetObject, fieldValue);
+        } else {
+            reflectionUtils.setFieldValue(targetObject, step.getField(), fieldValue);
+        }
     }
 
     /**
-     * Retrieves the value of a field. In case it is not a primitive type it recursively inject the values inside the object.
+     * Retrieves the value of a field executing the given step. In case it is not a primitive type it recursively inject the values inside the object.
+     * @param step the step to execute
      * @param sourceObj sourceObj the source object
-     * @param sourceFieldName sourceFieldName the field name in the source object (if different from the target one)
+     * @param targetObject the destination object instance (if any)
      * @param targetClass the destination object class
-     * @param field The field for which the value has to be retrieved
-     * @param breadcrumb the full path of the current field starting from his ancestor
+     * @param context the transformation context
      * @param <T> the sourceObj object type
      * @param <K> the target object type
      * @return the field value
      * @throws InvalidBeanException {@link InvalidBeanException} if an error occurs while retrieving the value
      */
-    private <T, K> Object getFieldValue(final T sourceObj, final String sourceFieldName, final Class<K> targetClass, final Field field, final String breadcrumb) {
-        return getFieldValue(sourceObj, sourceFieldName, null, targetClass, field, breadcrumb);
-    }
-
-    private <T, K> Object getFieldValue(final T sourceObj, final String sourceFieldName, final K targetObject,
-                                        final Class<K> targetClass, final Field field, final String breadcrumb) {
-        String fieldBreadcrumb = evalBreadcrumb(field.getName(), breadcrumb);
-        Class<?> fieldType = field.getType();
-        if (doSkipTransformation(fieldBreadcrumb)) {
-            return getDefaultFieldValue(targetObject, fieldBreadcrumb, fieldType);
+    private <T, K> Object getFieldValue(final FieldStep step, final T sourceObj, final K targetObject, final Class<K> targetClass,
+                                        final TransformationContext context) {
+        if (step.isConstant()) {
+            return step.getConstantValue();
+        }
+        final Field field = step.getField();
+        final Class<?> fieldType = field.getType();
+        if (step.isSkipped()) {
+            return getDefaultFieldValue(targetObject, step.getBreadcrumb(), fieldType);
+        }
+        Object source = sourceObj;
+        String sourceFieldName = step.getSourceFieldName();
+        if (nonNull(step.getRootSourceFieldName()) && nonNull(context.getRootSource())) {
+            source = context.getRootSource();
+            sourceFieldName = step.getRootSourceFieldName();
         }
-        boolean primitiveType = classUtils.isPrimitiveType(fieldType);
-        FieldTransformer transformerFunction = getTransformerFunction(field, fieldBreadcrumb);
+        FieldTransformer transformerFunction = step.getTransformer();
         boolean isTransformerFunctionDefined = nonNull(transformerFunction);
-        Object fieldValue = getSourceFieldValue(sourceObj, sourceFieldName, field, isTransformerFunctionDefined);
+        Object fieldValue;
+        if (nonNull(step.getReader())) {
+            fieldValue = step.getReader().apply(source);
+        } else if (step.isSourceFieldMissing()) {
+            // resolved while compiling the plan, so the missing field is neither looked up nor raises an exception
+            fieldValue = getMissingSourceFieldValue(sourceObj, step.getSourceFieldName(), isTransformerFunctionDefined, context.isDefaultValueForMissingField(),
+                    () -> new MissingFieldException(sourceObj.getClass().getName() + " hasn't a field called: " + step.getSourceFieldName() + "."));
+        } else {
+            fieldValue = getSourceFieldValue(source, sourceFieldName, fieldType, isTransformerFunctionDefined, context.isDefaultValueForMissingField());
+        }
         if (nonNull(fieldValue)) {
             // is not a primitive type or an optional && there are no transformer function
             // defined it recursively evaluates the value
-            boolean notPrimitiveAndNotSpecialType = !primitiveType && !classUtils.isSpecialType(fieldType);
-            if (!isTransformerFunctionDefined
-                    && (notPrimitiveAndNotSpecialType || Optional.class.isAssignableFrom(fieldValue.getClass()))) {
-                fieldValue = getFieldValue(targetClass, field, fieldValue, fieldBreadcrumb);
+            if (!isTransformerFunctionDefined && (step.isComposite() || fieldValue instanceof Optional)) {
+                fieldValue = getFieldValue(targetClass, field, fieldValue, step.getBreadcrumb(), context);
             }
-        } else if (primitiveType && settings.isDefaultValueForMissingPrimitiveField() && !isTransformerFunctionDefined) {
+        } else if (step.isPrimitiveType() && context.isDefaultValueForMissingPrimitiveField() && !isTransformerFunctionDefined) {
             fieldValue = defaultValue(fieldType); // assign the default value
         }
-        fieldValue = getTransformedValue(transformerFunction, fieldValue, sourceObj.getClass(), sourceFieldName, field, primitiveType, fieldBreadcrumb);
-        return fieldValue;
+        return getTransformedValue(getPrimitiveTypeConversion(step, source, sourceFieldName, context), transformerFunction, fieldValue);
+    }
+
+    /**
+     * Retrieves the value of a lazily transformed property executing the given step. In case it is not a primitive type it recursively
+     * transforms the value within the given transformation.
+     * @param step the property step to execute
+     * @param sourceObj the source object
+     * @param context the transformation context
+     * @return the property value
+     * @throws InvalidBeanException {@link InvalidBeanException} if an error occurs while retrieving the value
+     */
+    @SuppressWarnings("unchecked")
+    final Object getPropertyValue(final PropertyStep step, final Object sourceObj, final TransformationContext context) {
+        final Method getterMethod = step.getGetterMethod();
+        final Class<?> propertyType = getterMethod.getReturnType();
+        if (step.isSkipped()) {
+            return defaultValue(propertyType);
+        }
+        final FieldTransformer transformerFunction = step.getTransformer();
+        final boolean isTransformerFunctionDefined = nonNull(transformerFunction);
+        Object propertyValue = nonNull(step.getReader())
+                ? step.getReader().apply(sourceObj)
+                : getSourceFieldValue(sourceObj, step.getSourceFieldName(), propertyType, isTransformerFunctionDefined, context.isDefaultValueForMissingField());
+        if (nonNull(propertyValue)) {
+            if (!isTransformerFunctionDefined && (step.isComposite() || propertyValue instanceof Optional)) {
+                final Object sourceValue = propertyValue;
+                propertyValue = getPopulator(propertyType, sourceValue.getClass(), this, context)
+                        .map(populator -> populator.getPopulatedObject(getterMethod, sourceValue))
+                        .orElseGet(() -> transform(sourceValue, propertyType, step.getBreadcrumb(), context));
+            }
+        } else if (step.isPrimitiveType() && context.isDefaultValueForMissingPrimitiveField() && !isTransformerFunctionDefined) {
+            propertyValue = defaultValue(propertyType);
+        }
+        return getTransformedValue(step.getPrimitiveTypeConversion(), transformerFunction, propertyValue);
+    }
+
+    /**
+     * Gets the automatic type conversion function for the given step, resolving it if it was not possible during the plan compilation.
+     * @param step the field step
+     * @param sourceObj the source object from which the field is read
+     * @param sourceFieldName the source field name
+     * @param context the transformation context
+     * @return the type conversion function or {@code null} if no conversion is needed
+     */
+    private FieldTransformer getPrimitiveTypeConversion(final FieldStep step, final Object sourceObj, final String sourceFieldName,
+                                                        final TransformationContext context) {
+        return step.isPrimitiveTypeConversionResolved()
+                ? step.getPrimitiveTypeConversion()
+                : getPrimitiveTypeTransformer(sourceObj.getClass(), sourceFieldName, step.getField(), step.getBreadcrumb(), context.isDefaultValueForMissingField());
     }
 
     /**
@@ -554,24 +1126,18 @@ public class TransformerImpl extends AbstractBeanTransformer {
     /**
      * Applies all the transformer function associated to the field and returns the results.
      * If the field type is different and they are primitive a conversion function is automatically applied.
+     * @param primitiveTypeConversion the automatic type conversion function (if any)
      * @param transformerFunction the transformer function defined for the current field
      * @param fieldValue the field value
-     * @param sourceObjectClass the source object class
-     * @param sourceFieldName the source field name
-     * @param field the field on which the transformation should be applied
-     * @param isDestinationFieldPrimitiveType indicates if the destination field type is primitive or not
-     * @param breadcrumb The full field path on which the transformation should be applied
-     * @return the transformer function.
+     * @return the transformed value.
      */
     @SuppressWarnings("unchecked")
-    private Object getTransformedValue(final FieldTransformer transformerFunction, final Object fieldValue,
-                                       final Class<?> sourceObjectClass, final String sourceFieldName, final Field field,
-                                       final boolean isDestinationFieldPrimitiveType, final String breadcrumb) {
+    private Object getTransformedValue(final FieldTransformer primitiveTypeConversion, final FieldTransformer transformerFunction, final Object fieldValue) {
         Object transformedValue = fieldValue;
-        if (settings.isPrimitiveTypeConversionEnabled() && isDestinationFieldPrimitiveType) {
-            transformedValue = applyPrimitiveTypeConversion(sourceObjectClass, sourceFieldName, field, breadcrumb, transformedValue);
+        if (nonNull(primitiveTypeConversion)) {
+            transformedValue = primitiveTypeConversion.getTransformedObject(transformedValue);
         }
-        if (transformerFunction != null) {
+        if (nonNull(transformerFunction)) {
             transformedValue = transformerFunction.getTransformedObject(transformedValue);
         }
         return transformedValue;
@@ -591,25 +1157,19 @@ public class TransformerImpl extends AbstractBeanTransformer {
      * Gets the source field value. If a field transformer function is defined and the field does not exists in the source object it raises an exception.
      * @param sourceObj sourceObj the source object
      * @param sourceFieldName sourceFieldName the field name in the source object (if different from the target one)
-     * @param field the field for which the value has to be retrieved
+     * @param fieldType the type of the field for which the value has to be retrieved
      * @param isFieldTransformerDefined indicates if a transformer function is implemented for this field
+     * @param defaultValueForMissingField indicates if the fields missing in the source object are allowed
      * @param <T> the sourceObj object type
      * @return the source field value
      */
-    private <T> Object getSourceFieldValue(final T sourceObj, final String sourceFieldName, final Field field, final boolean isFieldTransformerDefined) {
+    private <T> Object getSourceFieldValue(final T sourceObj, final String sourceFieldName, final Class<?> fieldType, final boolean isFieldTransformerDefined,
+                                           final boolean defaultValueForMissingField) {
         Object fieldValue = null;
         try {
-            fieldValue = reflectionUtils.getFieldValue(sourceObj, sourceFieldName, field.getType());
+            fieldValue = reflectionUtils.getFieldValue(sourceObj, sourceFieldName, fieldType);
         } catch (MissingFieldException e) {
-            // in case the source field is a primitive type and the destination one is composite, the source field value is returned without going in deep
-            if (classUtils.isPrimitiveType(sourceObj.getClass())) {
-                fieldValue = sourceObj;
-            } else if (!isFieldTransformerDefined && !settings.isSetDefaultValueForMissingField()) {
-                throw e;
-            } else {
-                log.debug("Field '{}' not found in source type '{}'; field transformer will receive null.",
-                        sourceFieldName, sourceObj.getClass().getName());
-            }
+            fieldValue = getMissingSourceFieldValue(sourceObj, sourceFieldName, isFieldTransformerDefined, defaultValueForMissingField, () -> e);
         } catch (Exception e) {
             if (!isFieldTransformerDefined) {
                 throw e;
@@ -618,6 +1178,43 @@ public class TransformerImpl extends AbstractBeanTransformer {
         return fieldValue;
     }
 
+    /**
+     * Gets the value for a field that does not exist in the source object.
+     * @param sourceObj the source object
+     * @param sourceFieldName the field name in the source object
+     * @param isFieldTransformerDefined indicates if a transformer function is implemented for this field
+     * @param defaultValueForMissingField indicates if the fields missing in the source object are allowed
+     * @param missingFieldError the error to raise if the missing field is not allowed
+     * @return the source object itself, if it's a primitive type, otherwise {@code null}
+     * @throws MissingFieldException if neither a transformer function is defined nor the default value for missing fields is enabled
+     */
+    private Object getMissingSourceFieldValue(final Object sourceObj, final String sourceFieldName, final boolean isFieldTransformerDefined,
+                                              final boolean defaultValueForMissingField, final Supplier<MissingFieldException> missingFieldError) {
+        // in case the source field is a primitive type and the destination one is composite, the source field value is returned without going in deep
+        if (classUtils.isPrimitiveType(sourceObj.getClass())) {
+            return sourceObj;
+        }
+        if (!isFieldTransformerDefined && !defaultValueForMissingField) {
+            throw missingFieldError.get();
+        }
+        log.debug("Field '{}' not found in source type '{}'; field transformer will receive null.", sourceFieldName, sourceObj.getClass().getName());
+        return null;
+    }
+
+    /**
+     * Checks if the given field can never be read from the objects of the given source class, as neither the field nor its getter method exist.
+     * The check is skipped, returning false, for the field paths (e.g. {@code nested.field}) and the {@link Optional} sources, whose
+     * fields depend on the wrapped value.
+     * @param sourceClass the source object class
+     * @param sourceFieldName the field name in the source object
+     * @param fieldType the destination field type
+     * @return true if the source field is missing, false otherwise
+     */
+    private boolean isSourceFieldMissing(final Class<?> sourceClass, final String sourceFieldName, final Class<?> fieldType) {
+        return !sourceFieldName.contains(DOT.getSymbol()) && !Optional.class.equals(sourceClass)
+                && reflectionUtils.findFieldReader(sourceClass, sourceFieldName, fieldType).isEmpty();
+    }
+
     /**
      * Gets the source field type.
      * @param sourceObjectClass the source object class
@@ -625,10 +1222,21 @@ public class TransformerImpl extends AbstractBeanTransformer {
      * @return the source field type
      */
     private Class<?> getSourceFieldType(final Class<?> sourceObjectClass, final String sourceFieldName) {
+        return getSourceFieldType(sourceObjectClass, sourceFieldName, settings.isSetDefaultValueForMissingField());
+    }
+
+    /**
+     * Gets the source field type.
+     * @param sourceObjectClass the source object class
+     * @param sourceFieldName sourceFieldName the field name in the source object (if different from the target one)
+     * @param defaultValueForMissingField indicates if the fields missing in the source object are allowed
+     * @return the source field type
+     */
+    private Class<?> getSourceFieldType(final Class<?> sourceObjectClass, final String sourceFieldName, final boolean defaultValueForMissingField) {
         String cacheKey = "SourceFieldType-" + sourceObjectClass.getName() + "-" + sourceFieldName;
         // Use ABSENT_SOURCE_FIELD_TYPE as sentinel so that null results (field not present in source
         // when default-value mode is active) are cached and not recomputed on every call.
-        var fromCache = cacheManager.getFromCache(cacheKey, Class.class);
+        var fromCache = cacheManager.getFromCache(sourceObjectClass, cacheKey, Class.class);
         if (fromCache.isPresent()) {
             Class<?> cached = fromCache.get();
             return cached == ABSENT_SOURCE_FIELD_TYPE ? null : cached;
@@ -641,11 +1249,11 @@ public class TransformerImpl extends AbstractBeanTransformer {
             // the source field type is returned without going in deep
             if (classUtils.isPrimitiveType(sourceObjectClass)) {
                 classType = sourceObjectClass;
-            } else if (!settings.isSetDefaultValueForMissingField()) {
+            } else if (!defaultValueForMissingField) {
                 throw e;
             }
         }
-        cacheManager.cacheObject(cacheKey, classType, ABSENT_SOURCE_FIELD_TYPE);
+        cacheManager.cacheObject(sourceObjectClass, cacheKey, classType, ABSENT_SOURCE_FIELD_TYPE);
         return classType;
     }
 
@@ -659,38 +1267,18 @@ public class TransformerImpl extends AbstractBeanTransformer {
         return settings.getFieldsTransformers().get(settings.isFlatFieldNameTransformation() ? field.getName() : breadcrumb);
     }
 
-    /**
-     * Retrieves the transformer functions. If the field type is different and they are primitive
-     * a conversion function is automatically added.
-     * @param sourceObjectClass the source object class
-     * @param sourceFieldName the source field name
-     * @param field the field on which the transformation should be applied
-     * @param fieldTransformerKey the field transformation key
-     * @param fieldValue the field value
-     * @return the transformer function.
-     */
-    @SuppressWarnings("unchecked")
-    private Object applyPrimitiveTypeConversion(final Class<?> sourceObjectClass, final String sourceFieldName,
-                                                final Field field, final String fieldTransformerKey, final Object fieldValue) {
-        Object transformedValue = fieldValue;
-        FieldTransformer primitiveTypeTransformer = getPrimitiveTypeTransformer(sourceObjectClass, sourceFieldName, field, fieldTransformerKey);
-        if (nonNull(primitiveTypeTransformer)) {
-            transformedValue = primitiveTypeTransformer.getTransformedObject(fieldValue);
-        }
-        return transformedValue;
-    }
-
     /**
      * Verifies if a default type transformer function is required and in case returns it.
      * @param sourceObjectClass the source object class
      * @param sourceFieldName the source field name
      * @param field the field on which the transformation should be applied.
      * @param fieldTransformerKey the field name or the full path to the field to which assign the transformer
+     * @param defaultValueForMissingField indicates if the fields missing in the source object are allowed
      * @return the default type transformer function
      */
     @SuppressWarnings("rawtypes")
     private FieldTransformer getPrimitiveTypeTransformer(final Class<?> sourceObjectClass, final String sourceFieldName,
-                                                         final Field field, final String fieldTransformerKey) {
+                                                         final Field field, final String fieldTransformerKey, final boolean defaultValueForMissingField) {
         String cacheKey = TRANSFORMER_FUNCTION_CACHE_PREFIX + "-" + field.getDeclaringClass().getName() + "-" + fieldTransformerKey + "-" + field.getName();
         var fromCache = cacheManager.getFromCache(cacheKey, FieldTransformer.class);
         if (fromCache.isPresent()) {
@@ -700,16 +1288,16 @@ public class TransformerImpl extends AbstractBeanTransformer {
             return null;
         }
         FieldTransformer primitiveTypeTransformer = null;
-        Class<?> sourceFieldType = getSourceFieldType(sourceObjectClass, sourceFieldName);
+        Class<?> sourceFieldType = getSourceFieldType(sourceObjectClass, sourceFieldName, defaultValueForMissingField);
         if (nonNull(sourceFieldType)) {
             primitiveTypeTransformer = conversionAnalyzer.getConversionFunction(sourceFieldType, field.getType())
                     .map(conversionFunction -> new FieldTransformer<>(fieldTransformerKey, conversionFunction))
                     .orElse(null);
         }
         if (primitiveTypeTransformer != null) {
-            cacheManager.cacheObject(cacheKey, primitiveTypeTransformer);
+            cacheManager.cacheObject(TRANSFORMER_FUNCTION_CACHE_PREFIX, fieldTransformerKey, cacheKey, primitiveTypeTransformer);
         } else {
-            cacheManager.cacheObject(cacheKey + NULL_PRIMITIVE_TRANSFORMER_SUFFIX, Boolean.TRUE);
+            cacheManager.cacheObject(TRANSFORMER_FUNCTION_CACHE_PREFIX, fieldTransformerKey, cacheKey + NULL_PRIMITIVE_TRANSFORMER_SUFFIX, Boolean.TRUE);
         }
         return primitiveTypeTransformer;
     }
@@ -720,17 +1308,86 @@ public class TransformerImpl extends AbstractBeanTransformer {
      * @param field The field for which the value has to be retrieved
      * @param fieldValue The current object value.
      * @param breadcrumb The full field path on which the transformation should be applied
+     * @param context the transformation context, handed to the populators to transform the nested elements within it
      * @param <K> the target object type
      * @return the field value
      * @throws InvalidBeanException {@link InvalidBeanException} if an error occurs while retrieving the value
      */
     @SuppressWarnings("unchecked")
-    private <K> Object getFieldValue(final Class<K> targetClass, final Field field, final Object fieldValue, final String breadcrumb) {
-        return getPopulator(field.getType(), fieldValue.getClass(), this)
+    private <K> Object getFieldValue(final Class<K> targetClass, final Field field, final Object fieldValue, final String breadcrumb,
+                                     final TransformationContext context) {
+        return getPopulator(field.getType(), fieldValue.getClass(), this, context)
                 .map(populator -> populator.getPopulatedObject(targetClass, field.getName(), fieldValue))
                 .orElseGet(() ->
                         // recursively inject object
-                        transform(fieldValue, classUtils.getConcreteClass(field, fieldValue), breadcrumb)
+                        transform(fieldValue, classUtils.getConcreteClass(field, fieldValue), breadcrumb, context)
                 );
     }
+
+    /**
+     * Transforms a sequence of objects into the same destination class, reusing the transformation plan of the previous object if it has
+     * the same class. Each object is the root source of its own transformation, sharing the settings snapshot taken when the instance
+     * is created. An instance must be used by one thread at a time.
+     * @param <K> the target object type
+     */
+    private final class BatchTransformation<K> {
+        /**
+         * The destination object class.
+         */
+        private final Class<? extends K> targetClass;
+
+        /**
+         * True if the source objects are returned as they are.
+         */
+        private final boolean identity;
+
+        /**
+         * The context holding the settings snapshot shared by the transformations.
+         */
+        private final TransformationContext context;
+
+        /**
+         * The identifier of the transformation plan used for the previous object.
+         */
+        private PlanKey planKey;
+
+        /**
+         * The transformation plan used for the previous object.
+         */
+        private TransformationPlan plan;
+
+        /**
+         * Default constructor.
+         * @param targetClass the destination object class
+         */
+        BatchTransformation(final Class<? extends K> targetClass) {
+            this.targetClass = targetClass;
+            this.identity = targetClass.equals(Object.class);
+            this.context = new TransformationContext(TransformerImpl.this, settings, null);
+        }
+
+        /**
+         * Copies all properties from the given object to a new one.
+         * @param sourceObj the source object
+         * @return a copy of the source object into the destination object
+         */
+        @SuppressWarnings("unchecked")
+        K transform(final Object sourceObj) {
+            final K k;
+            if (identity) {
+                k = (K) sourceObj;
+            } else {
+                if (isNull(plan) || !planKey.sourceClass().equals(sourceObj.getClass())) {
+                    planKey = new PlanKey(sourceObj.getClass(), targetClass, null);
+                    plan = getTransformationPlan(planKey);
+                } else if (isOutdated(plan)) {
+                    // the plan is recompiled if the configuration changed
+                    plan = getTransformationPlan(planKey);
+                }
+                k = injectValues(sourceObj, plan, null, context.withRootSource(sourceObj));
+            }
+            context.validate(k);
+            return k;
+        }
+    }
 }
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer;
+
+import static java.util.Objects.isNull;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Spliterator} transforming lazily the elements of another one.
+ * Each split owns its own element transformer, so the transformation state (e.g. the transformation plan of the previous element) is
+ * never shared between the threads traversing a parallel stream.
+ * @param <T> the source elements type
+ * @param <K> the transformed elements type
+ */
+final class TransformingSpliterator<T, K> implements Spliterator<K> {
+    /**
+     * The source characteristics that don't apply to the transformed elements.
+     */
+    private static final int SOURCE_ONLY_CHARACTERISTICS = SORTED | DISTINCT | NONNULL;
+
+    /**
+     * The source elements.
+     */
+    private final Spliterator<T> source;
+
+    /**
+     * Creates the element transformer of each split.
+     */
+    private final Supplier<Function<T, K>> elementTransformerFactory;
+
+    /**
+     * The function transforming each element.
+     */
+    private final Function<T, K> elementTransformer;
+
+    /**
+     * Default constructor.
+     * @param source the source elements
+     * @param elementTransformerFactory creates the element transformer of each split
+     */
+    TransformingSpliterator(final Spliterator<T> source, final Supplier<Function<T, K>> elementTransformerFactory) {
+        this.source = source;
+        this.elementTransformerFactory = elementTransformerFactory;
+        this.elementTransformer = elementTransformerFactory.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super K> action) {
+        return source.tryAdvance(sourceObj -> action.accept(elementTransformer.apply(sourceObj)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super K> action) {
+        source.forEachRemaining(sourceObj -> action.accept(elementTransformer.apply(sourceObj)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Spliterator<K> trySplit() {
+        final Spliterator<T> prefix = source.trySplit();
+        return isNull(prefix) ? null : new TransformingSpliterator<>(prefix, elementTransformerFactory);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ~SOURCE_ONLY_CHARACTERISTICS;
+    }
+}
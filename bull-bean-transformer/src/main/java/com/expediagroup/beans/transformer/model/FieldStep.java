@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer.model;
+
+import static java.util.Objects.isNull;
+
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.expediagroup.transformer.model.FieldTransformer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Pre-resolved instructions for populating a single destination field (or constructor argument).
+ * All the information that depends only on the source class, the destination class and the transformer
+ * configuration is computed once, when the {@link TransformationPlan} is compiled, so that the
+ * per-object work is limited to reading the source value and applying the resolved functions.
+ */
+@Getter
+@Builder
+public final class FieldStep {
+    /**
+     * The destination field. It's {@code null} for constructor arguments that cannot be mapped to any field.
+     */
+    private final Field field;
+
+    /**
+     * The value to return for constructor arguments that cannot be mapped to any field.
+     */
+    private final Object constantValue;
+
+    /**
+     * The full path of the destination field starting from the root object.
+     */
+    private final String breadcrumb;
+
+    /**
+     * True if the field transformation has to be skipped.
+     */
+    private final boolean skipped;
+
+    /**
+     * The field name in the source object.
+     */
+    private final String sourceFieldName;
+
+    /**
+     * The field name to read from the root source object, if a breadcrumb-based field mapping is defined for this field.
+     */
+    private final String rootSourceFieldName;
+
+    /**
+     * True if neither the source field nor its getter method exist in the source class, so the value is not read from the source object.
+     * It's resolved only for the fields read from the source object through a simple field name.
+     */
+    private final boolean sourceFieldMissing;
+
+    /**
+     * The transformer function defined for this field (if any).
+     */
+    private final FieldTransformer transformer;
+
+    /**
+     * True if the destination field type is primitive.
+     */
+    private final boolean primitiveType;
+
+    /**
+     * True if the destination field type is neither primitive nor special, hence its value has to be recursively transformed.
+     */
+    private final boolean composite;
+
+    /**
+     * True if the {@code primitiveTypeConversion} has been resolved during the plan compilation.
+     */
+    private final boolean primitiveTypeConversionResolved;
+
+    /**
+     * The automatic primitive type conversion function (if any).
+     */
+    private final FieldTransformer primitiveTypeConversion;
+
+    /**
+     * The getter function that reads the value from the source object (if any).
+     */
+    private final Function<Object, Object> reader;
+
+    /**
+     * The lambda setter or the field writer that writes the value into the destination object (if any).
+     */
+    private final BiConsumer<Object, Object> writer;
+
+    /**
+     * The function copying the value of a primitive field from the source object (first argument) into the destination object (second
+     * argument) without boxing it (if any). It's defined only if the source and destination fields have the same primitive type and the
+     * value is neither mapped from the root source nor transformed.
+     */
+    private final BiConsumer<Object, Object> primitiveCopier;
+
+    /**
+     * Checks if the step returns a constant value instead of reading it from the source object.
+     * @return true if the step has no destination field
+     */
+    public boolean isConstant() {
+        return isNull(field);
+    }
+}
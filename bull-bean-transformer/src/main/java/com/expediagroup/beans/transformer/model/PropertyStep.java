@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer.model;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import com.expediagroup.transformer.model.FieldTransformer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Pre-resolved instructions for resolving a single property of a lazily transformed destination interface.
+ * The property is exposed by a getter method instead of a field, and its value is read from the source object and transformed the
+ * first time the getter method is invoked.
+ */
+@Getter
+@Builder
+public final class PropertyStep {
+    /**
+     * The destination interface getter method exposing the property.
+     */
+    private final Method getterMethod;
+
+    /**
+     * The full path of the property starting from the root object.
+     */
+    private final String breadcrumb;
+
+    /**
+     * True if the property transformation has to be skipped.
+     */
+    private final boolean skipped;
+
+    /**
+     * The field name in the source object.
+     */
+    private final String sourceFieldName;
+
+    /**
+     * The transformer function defined for this property (if any).
+     */
+    private final FieldTransformer transformer;
+
+    /**
+     * True if the property type is primitive.
+     */
+    private final boolean primitiveType;
+
+    /**
+     * True if the property type is neither primitive nor special, hence its value has to be recursively transformed.
+     */
+    private final boolean composite;
+
+    /**
+     * The automatic primitive type conversion function (if any).
+     */
+    private final FieldTransformer primitiveTypeConversion;
+
+    /**
+     * The getter function that reads the value from the source object (if any).
+     */
+    private final Function<Object, Object> reader;
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer.model;
+
+import static java.util.Objects.isNull;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.expediagroup.transformer.constant.ClassType;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The compiled transformation for a given source class, destination class and breadcrumb.
+ * It contains everything needed to create and populate the destination object, resolved once for the
+ * current transformer configuration: the instantiation strategy and the {@link FieldStep}s to execute.
+ */
+@Getter
+@Builder
+public final class TransformationPlan {
+    /**
+     * The transformer configuration version the plan has been compiled for.
+     */
+    private final long settingsVersion;
+
+    /**
+     * The destination object class.
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * The destination object class type. It's {@code null} if the destination object is created through its builder.
+     */
+    private final ClassType classType;
+
+    /**
+     * The destination object no args constructor (if any).
+     */
+    private final Supplier<?> noArgsConstructor;
+
+    /**
+     * The destination object all args constructor (if any).
+     */
+    private final Constructor<?> allArgsConstructor;
+
+    /**
+     * The steps for populating all the destination object declared fields.
+     */
+    private final FieldStep[] declaredFieldSteps;
+
+    /**
+     * The steps for retrieving the all args constructor arguments.
+     */
+    private final FieldStep[] constructorArgSteps;
+
+    /**
+     * The steps for populating the not final fields after the constructor injection.
+     */
+    private final FieldStep[] notFinalFieldSteps;
+
+    /**
+     * The steps for resolving the properties of a lazily transformed destination interface, by getter method.
+     * It's {@code null} if the destination object is not lazily transformed.
+     */
+    private final Map<Method, PropertyStep> propertySteps;
+
+    /**
+     * The plan for populating the destination object builder (if any).
+     */
+    private final TransformationPlan builderPlan;
+
+    /**
+     * The builder method that creates the destination object (if any).
+     */
+    private final Method buildMethod;
+
+    /**
+     * True if the plan fields are read through the lambda accessors.
+     */
+    private final boolean lambdaAccessors;
+
+    /**
+     * The steps for retrieving the all args constructor arguments from the constructor parameters, compiled on the first injection
+     * that needs them.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<FieldStep[]> forcedConstructorArgSteps = new AtomicReference<>();
+
+    /**
+     * Returns the steps for retrieving the all args constructor arguments from the constructor parameters, compiling them on the first request.
+     * @param stepsCompiler the function compiling the steps
+     * @return the steps for retrieving the constructor argument values from the constructor parameters
+     */
+    public FieldStep[] getForcedConstructorArgSteps(final Supplier<FieldStep[]> stepsCompiler) {
+        return forcedConstructorArgSteps.updateAndGet(steps -> isNull(steps) ? stepsCompiler.get() : steps);
+    }
+}
@@ -24,7 +24,6 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
@@ -54,15 +53,15 @@ public class ArrayPopulatorTest {
     /**
      * The class to be tested.
      */
-    @InjectMocks
     private ArrayPopulator underTest;
 
     /**
-     * Initializes mock.
+     * Initializes mock and the class to be tested.
      */
     @BeforeClass
     public void beforeClass() {
         openMocks(this);
+        underTest = new ArrayPopulator(transformer, ElementsTransformer.SEQUENTIAL);
     }
 
     /**
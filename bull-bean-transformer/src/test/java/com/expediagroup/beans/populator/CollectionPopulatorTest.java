@@ -24,7 +24,6 @@ import static org.mockito.MockitoAnnotations.openMocks;
 import java.util.List;
 import java.util.Set;
 
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -44,15 +43,15 @@ public class CollectionPopulatorTest {
     /**
      * The class to be tested.
      */
-    @InjectMocks
     private CollectionPopulator<MixedToFooStaticField> underTest;
 
     /**
-     * Initializes mock.
+     * Initializes mock and the class to be tested.
      */
     @BeforeClass
     public void beforeClass() {
         openMocks(this);
+        underTest = new CollectionPopulator<>(transformer, ElementsTransformer.SEQUENTIAL);
     }
 
     /**
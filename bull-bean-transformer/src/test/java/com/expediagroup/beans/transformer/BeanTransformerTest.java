@@ -16,14 +16,18 @@
 package com.expediagroup.beans.transformer;
 
 import static java.math.BigInteger.ZERO;
+import static java.util.Collections.nCopies;
 import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,18 +37,32 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.util.Deque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.expediagroup.beans.conversion.analyzer.ConversionAnalyzer;
+import com.expediagroup.beans.sample.FromFoo;
 import com.expediagroup.beans.sample.FromFooSimple;
+import com.expediagroup.beans.sample.FromSubFoo;
 import com.expediagroup.beans.sample.mutable.MutableToFoo;
 import com.expediagroup.beans.sample.mutable.MutableToFooAdvFields;
+import com.expediagroup.beans.sample.mutable.MutableToFooNotExistingFields;
+import com.expediagroup.beans.sample.mutable.MutableToFooSimple;
+import com.expediagroup.beans.sample.mutable.MutableToSubFoo;
+import com.expediagroup.beans.transformer.model.ClassPair;
+import com.expediagroup.beans.transformer.model.FieldStep;
+import com.expediagroup.beans.transformer.model.TransformationPlan;
 import com.expediagroup.transformer.annotation.ConstructorArg;
 import com.expediagroup.transformer.cache.CacheManager;
+import com.expediagroup.transformer.cache.CacheManagerFactory;
+import com.expediagroup.transformer.cache.ClassScopedValue;
 import com.expediagroup.transformer.error.InvalidBeanException;
 import com.expediagroup.transformer.error.MissingFieldException;
 import com.expediagroup.transformer.model.FieldMapping;
@@ -68,9 +86,13 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
     private static final String GET_TRANSFORMER_VALUE_METHOD_NAME = "getTransformedValue";
     private static final String GET_CONSTRUCTOR_ARGS_VALUES_METHOD_NAME = "getConstructorArgsValues";
     private static final String HANDLE_INJECTION_EXCEPTION_METHOD_NAME = "handleInjectionException";
-    private static final String RESOLVE_EFFECTIVE_SOURCE_METHOD_NAME = "resolveEffectiveSource";
-    private static final String ROOT_SOURCE_STACK_FIELD_NAME = "rootSourceStack";
+    private static final String GET_FIELD_VALUE_METHOD_NAME = "getFieldValue";
+    private static final String COMPILE_FIELD_STEP_METHOD_NAME = "compileFieldStep";
+    private static final String TRANSFORMATION_PLANS_FIELD_NAME = "transformationPlans";
+    private static final String ROOT_SOURCE_NAME = "rootSourceName";
     private static final String BREADCRUMB = "bc";
+    private static final long ASYNC_TIMEOUT = 10;
+    private static final int BATCH_TRANSFORMATION_SIZE = 1000;
 
     /**
      * Test that is possible to remove a field mapping for a given field.
@@ -216,11 +238,12 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
     @Test(expectedExceptions = Exception.class)
     public void testGetSourceFieldValueRaisesAnExceptionIfTheParameterAreNull() throws Exception {
         // GIVEN
-        Method getSourceFieldValueMethod = underTest.getClass().getDeclaredMethod(GET_SOURCE_FIELD_VALUE_METHOD_NAME, Object.class, String.class, Field.class, boolean.class);
+        Method getSourceFieldValueMethod = underTest.getClass().getDeclaredMethod(GET_SOURCE_FIELD_VALUE_METHOD_NAME, Object.class, String.class, Class.class,
+                boolean.class, boolean.class);
         getSourceFieldValueMethod.setAccessible(true);
 
         // WHEN
-        getSourceFieldValueMethod.invoke(underTest, null, null, null, false);
+        getSourceFieldValueMethod.invoke(underTest, null, null, null, false, false);
     }
 
     /**
@@ -233,24 +256,22 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
     public void testGetSourceFieldValueThrowsNoExceptionIfAFieldTransformerIsDefined() throws Exception {
         // GIVEN
         ReflectionUtils reflectionUtilsMock = mock(ReflectionUtils.class);
-        Field field = mock(Field.class);
         Class fieldType = Integer.class;
 
         when(reflectionUtilsMock.getFieldValue(FromFooSimple.class, AGE_FIELD_NAME, fieldType)).thenThrow(InvalidBeanException.class);
-        when(field.getType()).thenReturn(fieldType);
 
         reflectionUtils.setFieldValue(underTest, REFLECTION_UTILS_FIELD_NAME, reflectionUtilsMock);
 
-        Method getSourceFieldValueMethod = underTest.getClass().getDeclaredMethod(GET_SOURCE_FIELD_VALUE_METHOD_NAME, Object.class, String.class, Field.class, boolean.class);
+        Method getSourceFieldValueMethod = underTest.getClass().getDeclaredMethod(GET_SOURCE_FIELD_VALUE_METHOD_NAME, Object.class, String.class, Class.class,
+                boolean.class, boolean.class);
         getSourceFieldValueMethod.setAccessible(true);
 
         // WHEN
-        ThrowingCallable actual = () -> getSourceFieldValueMethod.invoke(underTest, FromFooSimple.class, AGE_FIELD_NAME, field, true);
+        ThrowingCallable actual = () -> getSourceFieldValueMethod.invoke(underTest, FromFooSimple.class, AGE_FIELD_NAME, fieldType, true, false);
 
         // THEN
         assertThatCode(actual).doesNotThrowAnyException();
         verify(reflectionUtilsMock).getFieldValue(FromFooSimple.class, AGE_FIELD_NAME, fieldType);
-        verify(field).getType();
         restoreUnderTestObject();
     }
 
@@ -282,7 +303,7 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
         ReflectionUtils reflectionUtilsMock = mock(ReflectionUtils.class);
         ClassUtils classUtils = mock(ClassUtils.class);
 
-        when(cacheManager.getFromCache(anyString(), any(Class.class))).thenReturn(empty());
+        when(cacheManager.getFromCache(any(Class.class), anyString(), any(Class.class))).thenReturn(empty());
         when(reflectionUtilsMock.getDeclaredFieldType(AGE_FIELD_NAME, Integer.class)).thenThrow(MissingFieldException.class);
         when(classUtils.isPrimitiveType(Integer.class)).thenReturn(true);
 
@@ -297,7 +318,7 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
         Class<?> actual = (Class<?>) getSourceFieldTypeMethod.invoke(underTest, Integer.class, AGE_FIELD_NAME);
 
         // THEN
-        verify(cacheManager).getFromCache(anyString(), any(Class.class));
+        verify(cacheManager).getFromCache(any(Class.class), anyString(), any(Class.class));
         verify(reflectionUtilsMock).getDeclaredFieldType(AGE_FIELD_NAME, Integer.class);
         verify(classUtils).isPrimitiveType(Integer.class);
         assertThat(actual).isEqualTo(Integer.class);
@@ -318,7 +339,7 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
         ClassUtils classUtils = mock(ClassUtils.class);
         TransformerSettings settings = mock(TransformerSettings.class);
 
-        when(cacheManager.getFromCache(anyString(), any(Class.class))).thenReturn(empty());
+        when(cacheManager.getFromCache(any(Class.class), anyString(), any(Class.class))).thenReturn(empty());
         when(reflectionUtilsMock.getDeclaredFieldType(AGE_FIELD_NAME, FromFooSimple.class)).thenThrow(MissingFieldException.class);
         when(classUtils.isPrimitiveType(Integer.class)).thenReturn(true);
         when(settings.isSetDefaultValueForMissingField()).thenReturn(true);
@@ -335,7 +356,7 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
         Class<?> actual = (Class<?>) getSourceFieldTypeMethod.invoke(underTest, FromFooSimple.class, AGE_FIELD_NAME);
 
         // THEN
-        verify(cacheManager).getFromCache(anyString(), any(Class.class));
+        verify(cacheManager).getFromCache(any(Class.class), anyString(), any(Class.class));
         verify(reflectionUtilsMock).getDeclaredFieldType(AGE_FIELD_NAME, FromFooSimple.class);
         verify(classUtils).isPrimitiveType(FromFooSimple.class);
         verify(settings).isSetDefaultValueForMissingField();
@@ -379,7 +400,7 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
         ClassUtils classUtils = mock(ClassUtils.class);
         TransformerSettings settings = mock(TransformerSettings.class);
 
-        when(cacheManager.getFromCache(anyString(), any(Class.class))).thenReturn(empty());
+        when(cacheManager.getFromCache(any(Class.class), anyString(), any(Class.class))).thenReturn(empty());
         when(reflectionUtilsMock.getDeclaredFieldType(AGE_FIELD_NAME, FromFooSimple.class)).thenThrow(MissingFieldException.class);
         when(classUtils.isPrimitiveType(Integer.class)).thenReturn(false);
         when(settings.isSetDefaultValueForMissingField()).thenReturn(false);
@@ -397,7 +418,7 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
 
         // THEN
         assertThatThrownBy(actual).hasCauseInstanceOf(MissingFieldException.class);
-        verify(cacheManager).getFromCache(anyString(), any(Class.class));
+        verify(cacheManager).getFromCache(any(Class.class), anyString(), any(Class.class));
         verify(reflectionUtilsMock).getDeclaredFieldType(AGE_FIELD_NAME, FromFooSimple.class);
         verify(classUtils).isPrimitiveType(FromFooSimple.class);
         verify(settings).isSetDefaultValueForMissingField();
@@ -407,35 +428,25 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
     /**
      * Test that the {@code getTransformedValue} works as expected.
      * @param testCaseDescription the test case description
-     * @param fieldName the field name to which the transformer function has to be applied
-     * @param fieldValue the field value before the transformation
+     * @param primitiveTypeConversion the automatic type conversion function
      * @param fieldTransformer the field transformer associated to the given field
-     * @param isPrimitiveTypeConversionEnabled indicates if the automatic conversion function is enabled
-     * @param isDestinationFieldPrimitiveType indicates if the destination field type is primitive or not
+     * @param fieldValue the field value before the transformation
      * @param expectedValue the expected value after the transformation
      * @throws Exception if the method invocation fails
      */
     @Test(dataProvider = "dataGetTransformerFunctionTesting")
-    public void testGetTransformedValueWorksProperly(final String testCaseDescription, final String fieldName, final Object fieldValue, final FieldTransformer fieldTransformer,
-        final boolean isPrimitiveTypeConversionEnabled, final boolean isDestinationFieldPrimitiveType, final Object expectedValue)
-        throws Exception {
+    public void testGetTransformedValueWorksProperly(final String testCaseDescription, final FieldTransformer primitiveTypeConversion,
+        final FieldTransformer fieldTransformer, final Object fieldValue, final Object expectedValue) throws Exception {
         // GIVEN
-        Field field = mock(Field.class);
-        TransformerSettings settings = mock(TransformerSettings.class);
-        when(settings.isPrimitiveTypeConversionEnabled()).thenReturn(isPrimitiveTypeConversionEnabled);
-        reflectionUtils.setFieldValue(underTest, TRANSFORMER_SETTINGS_FIELD_NAME, settings);
-
-        Class[] transformedValueMethodParams = {FieldTransformer.class, Object.class, Class.class, String.class, Field.class, boolean.class, String.class};
-        Method getTransformerFunctionMethod = underTest.getClass().getDeclaredMethod(GET_TRANSFORMER_VALUE_METHOD_NAME, transformedValueMethodParams);
+        Method getTransformerFunctionMethod = underTest.getClass()
+                .getDeclaredMethod(GET_TRANSFORMER_VALUE_METHOD_NAME, FieldTransformer.class, FieldTransformer.class, Object.class);
         getTransformerFunctionMethod.setAccessible(true);
 
         // WHEN
-        Object actual = getTransformerFunctionMethod
-                .invoke(underTest, fieldTransformer, fieldValue, FromFooSimple.class, fieldName, field, isDestinationFieldPrimitiveType, fieldName);
+        Object actual = getTransformerFunctionMethod.invoke(underTest, primitiveTypeConversion, fieldTransformer, fieldValue);
 
         // THEN
         assertThat(actual).isEqualTo(expectedValue);
-        restoreUnderTestObject();
     }
 
     /**
@@ -445,10 +456,10 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
     @DataProvider
     private Object[][] dataGetTransformerFunctionTesting() {
         return new Object[][] {
-                {"Test that the primitive type conversion function is not executed if the primitive type conversion is disabled",
-                        AGE_FIELD_NAME, ZERO.intValue(), null, false, true, ZERO.intValue()},
-                {"Test that the primitive type conversion function is not executed if the destination field type is not primitive",
-                        AGE_FIELD_NAME, null, null, true, false, null}
+                {"Test that the value is returned as is if no functions are defined for the field", null, null, ZERO.intValue(), ZERO.intValue()},
+                {"Test that the primitive type conversion function is executed before the field transformer",
+                        new FieldTransformer<>(AGE_FIELD_NAME, String::valueOf), new FieldTransformer<String, String>(AGE_FIELD_NAME, val -> val + val),
+                        ZERO.intValue(), "00"}
         };
     }
 
@@ -472,13 +483,15 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
         when(classUtils.getDefaultTypeValue(Integer.class)).thenReturn(ZERO.intValue());
 
         reflectionUtils.setFieldValue(underTest, CLASS_UTILS_FIELD_NAME, classUtils);
+        TransformationPlan plan = TransformationPlan.builder().targetClass(MutableToFooAdvFields.class).allArgsConstructor(constructor).build();
 
         Method getConstructorArgsValuesMethod = underTest.getClass()
-                .getDeclaredMethod(GET_CONSTRUCTOR_ARGS_VALUES_METHOD_NAME, Object.class, Class.class, Constructor.class, String.class);
+                .getDeclaredMethod(GET_CONSTRUCTOR_ARGS_VALUES_METHOD_NAME, Object.class, TransformationPlan.class, String.class, TransformationContext.class);
         getConstructorArgsValuesMethod.setAccessible(true);
 
         // WHEN
-        Object[] actual = (Object[]) getConstructorArgsValuesMethod.invoke(underTest, fromFoo, MutableToFooAdvFields.class, constructor, ID_FIELD_NAME);
+        Object[] actual = (Object[]) getConstructorArgsValuesMethod.invoke(underTest, fromFoo, plan, ID_FIELD_NAME,
+                new TransformationContext(underTest, underTest.settings, fromFoo));
 
         // THEN
         verify(classUtils).getConstructorParameters(constructor);
@@ -490,6 +503,59 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
         restoreUnderTestObject();
     }
 
+    /**
+     * Test that the method: {@code getConstructorArgsValues} keeps working through the signature not taking the transformation plan.
+     * @throws Exception if the invoke method fails
+     */
+    @Test
+    public void testGetConstructorArgsValuesWithoutTransformationPlanReturnsTheConstructorArgs() throws Exception {
+        // GIVEN
+        Constructor constructor = mock(Constructor.class);
+        ClassUtils classUtils = mock(ClassUtils.class);
+        when(classUtils.getConstructorParameters(constructor)).thenReturn(new Parameter[] {});
+        reflectionUtils.setFieldValue(underTest, CLASS_UTILS_FIELD_NAME, classUtils);
+
+        Method getConstructorArgsValuesMethod = underTest.getClass()
+                .getDeclaredMethod(GET_CONSTRUCTOR_ARGS_VALUES_METHOD_NAME, Object.class, Class.class, Constructor.class, String.class);
+
+        // WHEN
+        Object[] actual = (Object[]) getConstructorArgsValuesMethod.invoke(underTest, fromFoo, MutableToFooAdvFields.class, constructor, ID_FIELD_NAME);
+
+        // THEN
+        verify(classUtils).getConstructorParameters(constructor);
+        assertThat(actual).isEmpty();
+        restoreUnderTestObject();
+    }
+
+    /**
+     * Test that the method: {@code getConstructorArgsValues} compiles the steps retrieving the arguments from the constructor parameters
+     * only once for a given transformation plan.
+     * @throws Exception if the invoke method fails
+     */
+    @Test
+    public void testGetConstructorArgsValuesCompilesTheConstructorArgStepsOnlyOnce() throws Exception {
+        // GIVEN
+        Constructor constructor = mock(Constructor.class);
+        ClassUtils classUtils = mock(ClassUtils.class);
+        when(classUtils.getConstructorParameters(constructor)).thenReturn(new Parameter[] {});
+        reflectionUtils.setFieldValue(underTest, CLASS_UTILS_FIELD_NAME, classUtils);
+        TransformationPlan plan = TransformationPlan.builder().targetClass(MutableToFooAdvFields.class).allArgsConstructor(constructor).build();
+        TransformationContext context = new TransformationContext(underTest, underTest.settings, fromFoo);
+
+        Method getConstructorArgsValuesMethod = underTest.getClass()
+                .getDeclaredMethod(GET_CONSTRUCTOR_ARGS_VALUES_METHOD_NAME, Object.class, TransformationPlan.class, String.class, TransformationContext.class);
+        getConstructorArgsValuesMethod.setAccessible(true);
+
+        // WHEN
+        getConstructorArgsValuesMethod.invoke(underTest, fromFoo, plan, ID_FIELD_NAME, context);
+        Object[] actual = (Object[]) getConstructorArgsValuesMethod.invoke(underTest, fromFoo, plan, ID_FIELD_NAME, context);
+
+        // THEN
+        verify(classUtils).getConstructorParameters(constructor);
+        assertThat(actual).isEmpty();
+        restoreUnderTestObject();
+    }
+
     /**
      * Test that the {@code canBeInjectedByConstructorParams} lambda correctly evaluates both branches
      * of the {@code areParameterNamesAvailable || allParameterAnnotatedWith} expression.
@@ -537,52 +603,198 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
     }
 
     /**
-     * Test that {@code resolveEffectiveSource} falls through to the default source when a field-name mapping
-     * exists for the resolved breadcrumb key but the root-source stack is empty (no active transform context).
-     * Covers the false branch of {@code mapped != null && !stack.isEmpty()} when the stack is empty.
+     * Test that a field step having a breadcrumb-based mapping reads the value from the current source object
+     * when the transformation context is not bound to any root source.
      * @throws Exception if the method invocation fails
      */
     @Test
-    @SuppressWarnings("unchecked")
-    public void testResolveEffectiveSourceWithMappingAndEmptyStackFallsThrough() throws Exception {
-        // GIVEN - add a mapping so "bc.name" → SOURCE_FIELD_NAME (mapped != null)
-        underTest.withFieldMapping(new FieldMapping<>(SOURCE_FIELD_NAME, BREADCRUMB + "." + NAME_FIELD_NAME));
-        Method method = TransformerImpl.class.getDeclaredMethod(
-                RESOLVE_EFFECTIVE_SOURCE_METHOD_NAME, Object.class, String.class, String.class);
+    public void testGetFieldValueWithRootSourceMappingAndNoRootSourceReadsFromTheCurrentSource() throws Exception {
+        // GIVEN
+        FieldStep step = FieldStep.builder()
+                .field(MutableToFooSimple.class.getDeclaredField(NAME_FIELD_NAME))
+                .breadcrumb(BREADCRUMB + "." + NAME_FIELD_NAME)
+                .sourceFieldName(NAME_FIELD_NAME)
+                .rootSourceFieldName(SOURCE_FIELD_NAME)
+                .primitiveTypeConversionResolved(true)
+                .build();
+        Method method = TransformerImpl.class.getDeclaredMethod(GET_FIELD_VALUE_METHOD_NAME, FieldStep.class, Object.class, Object.class, Class.class,
+                TransformationContext.class);
         method.setAccessible(true);
 
-        // WHEN - stack is empty (no active transform), so condition evaluates to false → falls through
-        Object result = method.invoke(underTest, fromFoo, NAME_FIELD_NAME, BREADCRUMB);
+        // WHEN
+        Object actual = method.invoke(underTest, step, fromFooSimple, null, MutableToFooSimple.class, new TransformationContext(underTest, underTest.settings, null));
 
-        // THEN - returns a non-null EffectiveSource backed by the original sourceObj
-        assertThat(result).isNotNull();
+        // THEN
+        assertThat(actual).isEqualTo(fromFooSimple.getName());
+    }
+
+    /**
+     * Test that a field step having a breadcrumb-based mapping reads the value from the root source of the transformation context.
+     * @throws Exception if the method invocation fails
+     */
+    @Test
+    public void testGetFieldValueWithRootSourceMappingReadsFromTheContextRootSource() throws Exception {
+        // GIVEN
+        FromFooSimple rootSource = new FromFooSimple(ROOT_SOURCE_NAME, fromFooSimple.getId(), fromFooSimple.isActive());
+        FieldStep step = FieldStep.builder()
+                .field(MutableToFooSimple.class.getDeclaredField(NAME_FIELD_NAME))
+                .breadcrumb(BREADCRUMB + "." + NAME_FIELD_NAME)
+                .sourceFieldName(NAME_FIELD_NAME)
+                .rootSourceFieldName(NAME_FIELD_NAME)
+                .primitiveTypeConversionResolved(true)
+                .build();
+        Method method = TransformerImpl.class.getDeclaredMethod(GET_FIELD_VALUE_METHOD_NAME, FieldStep.class, Object.class, Object.class, Class.class,
+                TransformationContext.class);
+        method.setAccessible(true);
+
+        // WHEN
+        Object actual = method.invoke(underTest, step, fromFooSimple, null, MutableToFooSimple.class, new TransformationContext(underTest, underTest.settings, rootSource));
+
+        // THEN
+        assertThat(actual).isEqualTo(ROOT_SOURCE_NAME);
+    }
+
+    /**
+     * Test that a field missing in the source object is handled according to the settings snapshot taken when the transformation
+     * started, even if the configuration changes while the transformation is running.
+     * @throws Exception if the method invocation fails
+     */
+    @Test
+    public void testGetFieldValueHandlesAMissingSourceFieldAccordingToTheContextSettings() throws Exception {
+        // GIVEN
+        FieldStep step = FieldStep.builder()
+                .field(MutableToFooSimple.class.getDeclaredField(NAME_FIELD_NAME))
+                .breadcrumb(NAME_FIELD_NAME)
+                .sourceFieldName(NAME_FIELD_NAME)
+                .sourceFieldMissing(true)
+                .primitiveTypeConversionResolved(true)
+                .build();
+        Method method = TransformerImpl.class.getDeclaredMethod(GET_FIELD_VALUE_METHOD_NAME, FieldStep.class, Object.class, Object.class, Class.class,
+                TransformationContext.class);
+        method.setAccessible(true);
+        underTest.setDefaultValueForMissingField(true);
+        TransformationContext context = new TransformationContext(underTest, underTest.settings, fromFooSimple);
+        underTest.setDefaultValueForMissingField(false);
+
+        // WHEN
+        Object actual = method.invoke(underTest, step, fromFooSimple, null, MutableToFooSimple.class, context);
+
+        // THEN
+        assertThat(actual).isNull();
+    }
+
+    /**
+     * Test that the automatic type conversion of a field step is left to the transformation time if the source field
+     * type cannot be resolved while compiling the plan.
+     * @throws Exception if the method invocation fails
+     */
+    @Test
+    public void testCompileFieldStepDefersThePrimitiveTypeConversionIfTheSourceFieldIsMissing() throws Exception {
+        // GIVEN
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getFromCache(anyString(), any(Class.class))).thenReturn(empty());
+        reflectionUtils.setFieldValue(underTest, CACHE_MANAGER_FIELD_NAME, cacheManager);
+        underTest.setPrimitiveTypeConversionEnabled(true);
+        Method compileFieldStepMethod = TransformerImpl.class.getDeclaredMethod(COMPILE_FIELD_STEP_METHOD_NAME,
+                Class.class, Field.class, String.class, String.class, boolean.class);
+        compileFieldStepMethod.setAccessible(true);
+
+        // WHEN
+        FieldStep actual = (FieldStep) compileFieldStepMethod.invoke(underTest, FromFooSimple.class,
+                MutableToFooNotExistingFields.class.getDeclaredField(AGE_FIELD_NAME), AGE_FIELD_NAME, null, false);
+
+        // THEN
+        assertThat(actual.isPrimitiveTypeConversionResolved()).isFalse();
+        assertThat(actual.getPrimitiveTypeConversion()).isNull();
+        restoreUnderTestObject();
     }
 
     /**
-     * Test that the void {@code transform(T, K, String)} method does not push or pop the root source stack
-     * when it is called in a non-root context (stack already contains an item).
-     * Covers the false branch of {@code if (isRoot)} at the beginning and end of the method.
+     * Test that the transformation plan compiled for a given class pair is reused until the transformer configuration changes.
      * @throws Exception if the field access fails
      */
     @Test
-    @SuppressWarnings("unchecked")
-    public void testVoidTransformWithPrePopulatedStackDoesNotPushAgain() throws Exception {
-        // GIVEN - pre-populate the stack to simulate a nested (non-root) call
-        Field stackField = TransformerImpl.class.getDeclaredField(ROOT_SOURCE_STACK_FIELD_NAME);
-        stackField.setAccessible(true);
-        ThreadLocal<Deque<Object>> rootSourceStack = (ThreadLocal<Deque<Object>>) stackField.get(underTest);
-        rootSourceStack.get().push(fromFoo);
-
-        MutableToFoo dest = new MutableToFoo();
-        try {
-            // WHEN - isRoot = false because stack is non-empty → push/pop are both skipped
-            underTest.transform(fromFoo, dest, null);
-        } finally {
-            rootSourceStack.get().clear();
-        }
+    public void testTransformationPlanIsReusedUntilTheConfigurationChanges() throws Exception {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+        transformer.transform(fromFooSimple, MutableToFooSimple.class);
+        TransformationPlan firstPlan = getTransformationPlans(transformer, FromFooSimple.class).get(0);
+        ClassScopedValue<Map<Object, TransformationPlan>> transformationPlans = getTransformationPlansStore(transformer);
+
+        // WHEN
+        transformer.transform(fromFooSimple, MutableToFooSimple.class);
+        TransformationPlan reusedPlan = getTransformationPlans(transformer, FromFooSimple.class).get(0);
+        MutableToFooSimple actual = transformer
+                .withFieldTransformer(new FieldTransformer<String, String>(NAME_FIELD_NAME, String::toUpperCase))
+                .transform(fromFooSimple, MutableToFooSimple.class);
+        List<TransformationPlan> recompiledPlans = getTransformationPlans(transformer, FromFooSimple.class);
 
-        // THEN - transformation completed and destination was populated
-        assertThat(dest).isNotNull();
+        // THEN
+        assertThat(getTransformationPlansStore(transformer)).isSameAs(transformationPlans);
+        assertThat(recompiledPlans).hasSize(1);
+        assertThat(reusedPlan).isSameAs(firstPlan);
+        assertThat(recompiledPlans.get(0)).isNotSameAs(firstPlan);
+        assertThat(actual.getName()).isEqualTo(fromFooSimple.getName().toUpperCase());
+    }
+
+    /**
+     * Test that the transformation plans are released when the class loader of their source class is evicted.
+     * @throws Exception if the field access fails
+     */
+    @Test
+    public void testTransformationPlansAreReleasedWhenTheSourceClassLoaderIsEvicted() throws Exception {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+        transformer.transform(fromFooSimple, MutableToFooSimple.class);
+
+        // WHEN
+        CacheManagerFactory.evict(FromFooSimple.class.getClassLoader());
+
+        // THEN
+        assertThat(getTransformationPlans(transformer, FromFooSimple.class)).isEmpty();
+    }
+
+    /**
+     * Test that the method {@code transformAll} looks up the transformation plan once for all the objects of the same class.
+     * @throws Exception if the field access fails
+     */
+    @Test
+    public void testTransformAllLooksUpTheTransformationPlanOnceForAllTheObjectsOfTheSameClass() throws Exception {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+        transformer.transform(fromFooSimple, MutableToFooSimple.class);
+        ClassScopedValue<Map<Object, TransformationPlan>> transformationPlans = spy(getTransformationPlansStore(transformer));
+        Field transformationPlansField = TransformerImpl.class.getDeclaredField(TRANSFORMATION_PLANS_FIELD_NAME);
+        transformationPlansField.setAccessible(true);
+        transformationPlansField.set(transformer, transformationPlans);
+        List<FromFooSimple> sourceObjs = nCopies(BATCH_TRANSFORMATION_SIZE, fromFooSimple);
+
+        // WHEN
+        List<MutableToFooSimple> actual = transformer.transformAll(sourceObjs, MutableToFooSimple.class);
+
+        // THEN
+        assertThat(actual).hasSize(BATCH_TRANSFORMATION_SIZE);
+        verify(transformationPlans, times(1)).get(FromFooSimple.class);
+    }
+
+    /**
+     * Test that a transformation started while another one is running on the same thread does not inherit its root source.
+     */
+    @Test
+    public void testNestedTransformationStartedByAFieldTransformerHasItsOwnRootSource() {
+        // GIVEN
+        FromFooSimple nestedSource = new FromFooSimple(ROOT_SOURCE_NAME, fromFooSimple.getId(), fromFooSimple.isActive());
+        BeanTransformer nestedTransformer = new TransformerImpl();
+        underTest.withFieldTransformer(new FieldTransformer<String, String>(NAME_FIELD_NAME,
+                name -> nestedTransformer.transform(nestedSource, MutableToFooSimple.class).getName()));
+
+        // WHEN
+        MutableToFooSimple actual = underTest.transform(fromFooSimple, MutableToFooSimple.class);
+
+        // THEN
+        assertThat(actual.getName()).isEqualTo(ROOT_SOURCE_NAME);
+        assertThat(actual.getId()).isEqualTo(fromFooSimple.getId());
+        restoreUnderTestObject();
     }
 
     /**
@@ -592,6 +804,33 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
         underTest = new TransformerImpl();
     }
 
+    /**
+     * Returns the transformation plans store of the given transformer.
+     * @param transformer the transformer
+     * @return the transformation plans, stored with their source class
+     * @throws Exception if the field access fails
+     */
+    @SuppressWarnings("unchecked")
+    private ClassScopedValue<Map<Object, TransformationPlan>> getTransformationPlansStore(final TransformerImpl transformer) throws Exception {
+        Field transformationPlansField = TransformerImpl.class.getDeclaredField(TRANSFORMATION_PLANS_FIELD_NAME);
+        transformationPlansField.setAccessible(true);
+        return (ClassScopedValue<Map<Object, TransformationPlan>>) transformationPlansField.get(transformer);
+    }
+
+    /**
+     * Returns the transformation plans compiled by the given transformer for the given source classes.
+     * @param transformer the transformer
+     * @param sourceClasses the source classes
+     * @return the transformation plans
+     * @throws Exception if the field access fails
+     */
+    private List<TransformationPlan> getTransformationPlans(final TransformerImpl transformer, final Class<?>... sourceClasses) throws Exception {
+        ClassScopedValue<Map<Object, TransformationPlan>> transformationPlans = getTransformationPlansStore(transformer);
+        return Arrays.stream(sourceClasses)
+                .flatMap(sourceClass -> transformationPlans.get(sourceClass).values().stream())
+                .toList();
+    }
+
     /**
      * Tests that an instance fo {@link Validator} is created only if the validation is enabled.
      * @param testCaseDescription the test case description
@@ -669,14 +908,17 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
         when(classUtils.getInstance(any(), any())).thenReturn(new MutableToFoo());
         reflectionUtils.setFieldValue(underTest, CLASS_UTILS_FIELD_NAME, classUtils);
 
+        TransformationPlan plan = TransformationPlan.builder().targetClass(MutableToFoo.class).build();
+
         Method handleInjectionExceptionMethod = underTest.getClass().getDeclaredMethod(HANDLE_INJECTION_EXCEPTION_METHOD_NAME, Object.class,
-                Class.class, Constructor.class, String.class, Object[].class, boolean.class, Exception.class);
+                TransformationPlan.class, String.class, Object[].class, boolean.class, Exception.class, TransformationContext.class);
         handleInjectionExceptionMethod.setAccessible(true);
 
         // WHEN
         Object actual;
         try {
-            actual = handleInjectionExceptionMethod.invoke(underTest, fromFoo, MutableToFoo.class, null, "", null, forceConstructorInjection, new Exception());
+            actual = handleInjectionExceptionMethod.invoke(underTest, fromFoo, plan, "", null, forceConstructorInjection, new Exception(),
+                    new TransformationContext(underTest, underTest.settings, fromFoo));
         } catch (InvocationTargetException e) {
             actual = e.getTargetException();
         }
@@ -686,6 +928,30 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
         restoreUnderTestObject();
     }
 
+    /**
+     * Test that the method: {@code handleInjectionException} keeps working through the signature not taking the transformation plan.
+     * @throws Exception if the invoke method fails
+     */
+    @Test
+    public void testHandleInjectionExceptionWithoutTransformationPlanRaisesAnInvalidBeanException() throws Exception {
+        // GIVEN
+        ClassUtils classUtils = mock(ClassUtils.class);
+        when(classUtils.areParameterNamesAvailable(any(Constructor.class))).thenReturn(false);
+        reflectionUtils.setFieldValue(underTest, CLASS_UTILS_FIELD_NAME, classUtils);
+
+        Method handleInjectionExceptionMethod = underTest.getClass().getDeclaredMethod(HANDLE_INJECTION_EXCEPTION_METHOD_NAME, Object.class,
+                Class.class, Constructor.class, String.class, Object[].class, boolean.class, Exception.class);
+
+        // WHEN
+        Throwable actual = catchThrowable(() -> handleInjectionExceptionMethod.invoke(underTest, fromFoo, MutableToFoo.class, null, "", null, true,
+                new Exception()));
+
+        // THEN
+        assertThat(actual).isInstanceOf(InvocationTargetException.class);
+        assertThat(((InvocationTargetException) actual).getTargetException()).isInstanceOf(InvalidBeanException.class);
+        restoreUnderTestObject();
+    }
+
     /**
      * Creates the parameters to be used for testing the method {@code handleInjectionExceptionTesting}.
      * @return parameters to be used for testing the method {@code handleInjectionExceptionTesting}.
@@ -698,4 +964,76 @@ public class BeanTransformerTest extends AbstractBeanTransformerTest {
                     false, MutableToFoo.class}
         };
     }
+
+    /**
+     * Test that the method {@code prepare} compiles the transformation plans of the given classes and of their nested objects.
+     * @throws Exception if the field access fails
+     */
+    @Test
+    public void testPrepareCompilesTheTransformationPlansOfTheClassesAndOfTheirNestedObjects() throws Exception {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+
+        // WHEN
+        transformer.prepare(FromFoo.class, MutableToFoo.class);
+
+        // THEN
+        assertThat(getTransformationPlans(transformer, FromFoo.class, FromSubFoo.class))
+                .extracting(TransformationPlan::getTargetClass)
+                .containsExactlyInAnyOrder(MutableToFoo.class, MutableToSubFoo.class);
+    }
+
+    /**
+     * Test that the method {@code prepareAll} compiles, on the given executor, the transformation plans of all the given class pairs.
+     * @throws Exception if the field access fails
+     */
+    @Test
+    public void testPrepareAllCompilesTheTransformationPlansOfAllTheClassPairsOnTheGivenExecutor() throws Exception {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+        List<ClassPair> classPairs = List.of(new ClassPair(FromFooSimple.class, MutableToFooSimple.class), new ClassPair(FromFoo.class, MutableToFoo.class));
+
+        // WHEN
+        transformer.prepareAll(classPairs, Runnable::run).join();
+
+        // THEN
+        assertThat(getTransformationPlans(transformer, FromFooSimple.class, FromFoo.class, FromSubFoo.class))
+                .extracting(TransformationPlan::getTargetClass)
+                .containsExactlyInAnyOrder(MutableToFooSimple.class, MutableToFoo.class, MutableToSubFoo.class);
+    }
+
+    /**
+     * Test that the method {@code transformAsync} completes the returned future with the transformed object.
+     * @throws Exception if the transformation fails
+     */
+    @Test
+    public void testTransformAsyncCompletesTheFutureWithTheTransformedObject() throws Exception {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+
+        // WHEN
+        CompletableFuture<MutableToFooSimple> actual = transformer.transformAsync(fromFooSimple, MutableToFooSimple.class, ForkJoinPool.commonPool());
+
+        // THEN
+        assertThat(actual.get(ASYNC_TIMEOUT, SECONDS)).usingRecursiveComparison().isEqualTo(fromFooSimple);
+    }
+
+    /**
+     * Test that the method {@code transformAllAsync} completes the returned future with the transformed objects.
+     * @throws Exception if the transformation fails
+     */
+    @Test
+    public void testTransformAllAsyncCompletesTheFutureWithTheTransformedObjects() throws Exception {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+        List<FromFooSimple> sourceObjs = List.of(fromFooSimple, fromFooSimple);
+
+        // WHEN
+        CompletableFuture<List<MutableToFooSimple>> actual = transformer.transformAllAsync(sourceObjs, MutableToFooSimple.class, ForkJoinPool.commonPool());
+
+        // THEN
+        assertThat(actual.get(ASYNC_TIMEOUT, SECONDS))
+                .hasSize(sourceObjs.size())
+                .allSatisfy(element -> assertThat(element).usingRecursiveComparison().isEqualTo(fromFooSimple));
+    }
 }
@@ -26,6 +26,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.IntStream;
@@ -38,21 +39,28 @@ import org.testng.annotations.Test;
 import com.expediagroup.beans.BeanUtils;
 import com.expediagroup.beans.sample.FromFoo;
 import com.expediagroup.beans.sample.FromFooAdvFields;
+import com.expediagroup.beans.sample.FromFooCyclic;
 import com.expediagroup.beans.sample.FromFooSimple;
 import com.expediagroup.beans.sample.FromFooSimpleBooleanField;
 import com.expediagroup.beans.sample.immutable.ImmutableFlatToFoo;
 import com.expediagroup.beans.sample.immutable.ImmutableToFoo;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooAdvFields;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooCustomAnnotation;
+import com.expediagroup.beans.sample.immutable.ImmutableToFooCyclic;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooDiffFields;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooDiffTypesFields;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooMap;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooMissingCustomAnnotation;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooNotExistingFields;
+import com.expediagroup.beans.sample.immutable.ImmutableToFooRecord;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooSimple;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooSimpleBoolean;
+import com.expediagroup.beans.sample.immutable.ImmutableToFooSimpleRecord;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooSimpleWrongTypes;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooSubClass;
+import com.expediagroup.beans.sample.immutable.ImmutableToSubFooRecord;
+import com.expediagroup.beans.transformer.model.FieldStep;
+import com.expediagroup.beans.transformer.model.TransformationPlan;
 import com.expediagroup.transformer.AbstractTransformerTest;
 import com.expediagroup.transformer.annotation.ConstructorArg;
 import com.expediagroup.transformer.cache.CacheManager;
@@ -69,7 +77,8 @@ import com.expediagroup.transformer.utils.ReflectionUtils;
 public class ImmutableObjectTransformationTest extends AbstractBeanTransformerTest {
     private static final int TOTAL_ADV_CLASS_FIELDS = 11;
     private static final String GET_DEST_FIELD_NAME_METHOD_NAME = "getDestFieldName";
-    private static final String GET_CONSTRUCTOR_VALUES_FROM_FIELDS_METHOD_NAME = "getConstructorValuesFromFields";
+    private static final String GET_TRANSFORMATION_PLAN_METHOD_NAME = "getTransformationPlan";
+    private static final String GET_FIELD_VALUES_METHOD_NAME = "getFieldValues";
     private static final String PRICE_FIELD_NAME = "price";
     private static final String NET_PRICE_FIELD_NAME = "price.netPrice";
     private static final String GROSS_PRICE_FIELD_NAME = "price.grossPrice";
@@ -83,6 +92,7 @@ public class ImmutableObjectTransformationTest extends AbstractBeanTransformerTe
     @AfterMethod
     public void afterMethod() {
         underTest.setValidationEnabled(false);
+        underTest.setIdentityTrackingEnabled(false);
     }
 
     /**
@@ -376,19 +386,25 @@ public class ImmutableObjectTransformationTest extends AbstractBeanTransformerTe
     }
 
     /**
-     * Test that the method: {@code getConstructorValuesFromFields} works properly.
+     * Test that the constructor argument values are correctly retrieved through the compiled transformation plan.
      * @throws Exception the thrown exception
      */
     @Test
-    public void testGetConstructorValuesFromFieldsWorksProperly() throws Exception {
+    public void testGetConstructorValuesFromTransformationPlanWorksProperly() throws Exception {
         // GIVEN
         underTest.withFieldTransformer(new FieldTransformer<>(LOCALE_FIELD_NAME, Locale::forLanguageTag));
 
         // WHEN
-        final Method getConstructorValuesFromFieldsMethod =
-                underTest.getClass().getDeclaredMethod(GET_CONSTRUCTOR_VALUES_FROM_FIELDS_METHOD_NAME, Object.class, Class.class, String.class);
-        getConstructorValuesFromFieldsMethod.setAccessible(true);
-        Object[] actual = (Object[]) getConstructorValuesFromFieldsMethod.invoke(underTest, fromFooAdvFields, ImmutableToFooAdvFields.class, "");
+        final Method getTransformationPlanMethod =
+                underTest.getClass().getDeclaredMethod(GET_TRANSFORMATION_PLAN_METHOD_NAME, Class.class, Class.class, String.class);
+        getTransformationPlanMethod.setAccessible(true);
+        final Method getFieldValuesMethod =
+                underTest.getClass().getDeclaredMethod(GET_FIELD_VALUES_METHOD_NAME, FieldStep[].class, Object.class, Object.class, Class.class,
+                        TransformationContext.class);
+        getFieldValuesMethod.setAccessible(true);
+        TransformationPlan plan = (TransformationPlan) getTransformationPlanMethod.invoke(underTest, FromFooAdvFields.class, ImmutableToFooAdvFields.class, "");
+        Object[] actual = (Object[]) getFieldValuesMethod.invoke(underTest, plan.getConstructorArgSteps(), fromFooAdvFields, null, ImmutableToFooAdvFields.class,
+                new TransformationContext(underTest, underTest.settings, fromFooAdvFields));
 
         // THEN
         assertThat(actual)
@@ -396,7 +412,7 @@ public class ImmutableObjectTransformationTest extends AbstractBeanTransformerTe
                 .hasSize(TOTAL_ADV_CLASS_FIELDS);
 
         // restore modified objects
-        restoreObjects(getConstructorValuesFromFieldsMethod);
+        restoreObjects(getFieldValuesMethod);
     }
 
     /**
@@ -545,6 +561,74 @@ public class ImmutableObjectTransformationTest extends AbstractBeanTransformerTe
 
     }
 
+    /**
+     * Test that the references to the same source object are transformed into the same immutable object if the identity tracking is enabled.
+     */
+    @Test
+    public void testTransformTransformsTheSharedReferencesOnceIfTheIdentityTrackingIsEnabled() {
+        // GIVEN
+        FromFooCyclic child = new FromFooCyclic(NAME, null, null);
+        FromFooCyclic sourceObj = new FromFooCyclic(NAME, child, List.of(child));
+        underTest.setIdentityTrackingEnabled(true);
+
+        // WHEN
+        ImmutableToFooCyclic actual = underTest.transform(sourceObj, ImmutableToFooCyclic.class);
+
+        // THEN
+        assertThat(actual.getChildren()).singleElement().isSameAs(actual.getParent());
+    }
+
+    /**
+     * Test that an {@link InvalidBeanException} is thrown if the identity tracking is enabled and the object graph contains a cycle
+     * through an immutable object.
+     */
+    @Test
+    public void testTransformThrowsAnInvalidBeanExceptionIfThereIsACycleThroughAnImmutableObject() {
+        // GIVEN
+        FromFooCyclic sourceObj = new FromFooCyclic(NAME, null, null);
+        sourceObj.setParent(sourceObj);
+        underTest.setIdentityTrackingEnabled(true);
+
+        // WHEN
+        ThrowingCallable actual = () -> underTest.transform(sourceObj, ImmutableToFooCyclic.class);
+
+        // THEN
+        assertThatThrownBy(actual).isInstanceOf(InvalidBeanException.class);
+    }
+
+    /**
+     * Test that a record is created through its canonical constructor, with the nested records.
+     */
+    @Test
+    public void testTransformWorksProperlyWithRecords() {
+        // GIVEN
+
+        // WHEN
+        ImmutableToFooRecord actual = underTest.transform(fromFoo, ImmutableToFooRecord.class);
+
+        // THEN
+        assertThat(actual)
+                .extracting(ImmutableToFooRecord::name, ImmutableToFooRecord::id, ImmutableToFooRecord::list)
+                .containsExactly(fromFoo.getName(), fromFoo.getId(), fromFoo.getList());
+        assertThat(actual.nestedObject())
+                .extracting(ImmutableToSubFooRecord::name, ImmutableToSubFooRecord::phoneNumbers, ImmutableToSubFooRecord::sampleMap)
+                .containsExactly(fromFoo.getNestedObject().getName(), fromFoo.getNestedObject().getPhoneNumbers(), fromFoo.getNestedObject().getSampleMap());
+    }
+
+    /**
+     * Test that a record declaring a constructor with more parameters than the canonical one is created through the canonical one.
+     */
+    @Test
+    public void testTransformUsesTheCanonicalConstructorOfRecords() {
+        // GIVEN
+
+        // WHEN
+        ImmutableToFooSimpleRecord actual = underTest.transform(fromFooSimple, ImmutableToFooSimpleRecord.class);
+
+        // THEN
+        assertThat(actual).isEqualTo(new ImmutableToFooSimpleRecord(fromFooSimple.getName(), fromFooSimple.getId(), fromFooSimple.isActive()));
+    }
+
     /**
      * Initializes the mocks required for testing method: {@code getDestFieldName}.
      * @param declaringClassName the declaring class name
@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.testng.annotations.Test;
+
+import com.expediagroup.beans.sample.FromSubFoo;
+import com.expediagroup.beans.sample.ToFooView;
+import com.expediagroup.beans.sample.ToSubFooView;
+import com.expediagroup.transformer.error.InvalidBeanException;
+import com.expediagroup.transformer.model.FieldTransformer;
+
+/**
+ * Unit test for all {@link BeanTransformer} functions related to the lazy transformation into interfaces.
+ */
+public class LazyObjectTransformationTest extends AbstractBeanTransformerTest {
+    private static final String NESTED_OBJECT_NAME_FIELD_NAME = "nestedObject.name";
+    private static final int CONCURRENT_READS = 64;
+
+    /**
+     * Test that an object is transformed into a proxy of the destination interface exposing the source values.
+     */
+    @Test
+    public void testTransformReturnsAProxyExposingTheSourceValues() {
+        // GIVEN
+        underTest.setLazyTransformationEnabled(true);
+
+        // WHEN
+        ToFooView actual = underTest.transform(fromFoo, ToFooView.class);
+
+        // THEN
+        assertThat(actual.getName()).isEqualTo(fromFoo.getName());
+        assertThat(actual.getId()).isEqualTo(fromFoo.getId());
+        assertThat(actual.getList()).isEqualTo(fromFoo.getList());
+        assertThat(actual.getDescription()).isEqualTo(fromFoo.getName() + '-' + fromFoo.getId());
+        assertThat(actual.getNestedObject())
+                .extracting(ToSubFooView::getName, ToSubFooView::getPhoneNumbers, ToSubFooView::getSampleMap)
+                .containsExactly(fromFoo.getNestedObject().getName(), fromFoo.getNestedObject().getPhoneNumbers(), fromFoo.getNestedObject().getSampleMap());
+        assertThat(actual.getNestedObjectList())
+                .extracting(ToSubFooView::getName)
+                .containsExactlyElementsOf(fromFoo.getNestedObjectList().stream().map(FromSubFoo::getName).toList());
+    }
+
+    /**
+     * Test that the properties of a lazily transformed object are resolved once, on their first access.
+     */
+    @Test
+    public void testTransformResolvesThePropertiesOnFirstAccess() {
+        // GIVEN
+        AtomicInteger nestedNameReads = new AtomicInteger();
+        underTest.setLazyTransformationEnabled(true)
+                .withFieldTransformer(new FieldTransformer<String, String>(NESTED_OBJECT_NAME_FIELD_NAME, name -> {
+                    nestedNameReads.incrementAndGet();
+                    return name;
+                }));
+
+        // WHEN
+        ToFooView actual = underTest.transform(fromFoo, ToFooView.class);
+
+        // THEN
+        assertThat(nestedNameReads).hasValue(0);
+        ToSubFooView nestedObject = actual.getNestedObject();
+        assertThat(nestedNameReads).hasValue(0);
+        assertThat(nestedObject.getName()).isEqualTo(fromFoo.getNestedObject().getName());
+        assertThat(nestedObject.getName()).isEqualTo(fromFoo.getNestedObject().getName());
+        assertThat(nestedNameReads).hasValue(1);
+        assertThat(actual.getNestedObject()).isSameAs(nestedObject);
+    }
+
+    /**
+     * Test that the properties of the lazily transformed objects can be read by several threads at the same time when the identity
+     * tracking is enabled.
+     */
+    @Test
+    public void testTheLazilyTransformedObjectsCanBeReadConcurrentlyWithTheIdentityTrackingEnabled() {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+        transformer.setLazyTransformationEnabled(true)
+                .setIdentityTrackingEnabled(true);
+        List<ToFooView> views = IntStream.range(0, CONCURRENT_READS)
+                .mapToObj(i -> transformer.transform(fromFoo, ToFooView.class))
+                .toList();
+
+        // WHEN
+        List<String> actual = IntStream.range(0, CONCURRENT_READS * 2).parallel()
+                .mapToObj(i -> views.get(i % CONCURRENT_READS))
+                .map(view -> view.getNestedObject().getName() + view.getNestedObjectList().size())
+                .toList();
+
+        // THEN
+        assertThat(actual).containsOnly(fromFoo.getNestedObject().getName() + fromFoo.getNestedObjectList().size());
+    }
+
+    /**
+     * Test that the methods of {@link Object} are based on the identity of the lazily transformed object.
+     */
+    @Test
+    public void testTheObjectMethodsOfALazilyTransformedObjectAreBasedOnItsIdentity() {
+        // GIVEN
+        underTest.setLazyTransformationEnabled(true);
+        ToFooView other = underTest.transform(fromFoo, ToFooView.class);
+
+        // WHEN
+        ToFooView actual = underTest.transform(fromFoo, ToFooView.class);
+
+        // THEN
+        assertThat(actual).isEqualTo(actual).isNotEqualTo(other);
+        assertThat(actual.hashCode()).isEqualTo(System.identityHashCode(actual));
+        assertThat(actual.toString()).startsWith(ToFooView.class.getName());
+    }
+
+    /**
+     * Test that an exception is thrown if the lazy transformation is disabled and the destination class is an interface.
+     */
+    @Test
+    public void testTransformThrowsAnExceptionIfTheLazyTransformationIsDisabledAndTheDestinationClassIsAnInterface() {
+        // GIVEN
+
+        // WHEN
+        ThrowingCallable actual = () -> underTest.transform(fromFoo, ToFooView.class);
+
+        // THEN
+        assertThatThrownBy(actual).isInstanceOf(InvalidBeanException.class);
+    }
+}
@@ -284,6 +284,28 @@ public class MixedObjectTransformationTest extends AbstractBeanTransformerTest {
         underTest.reset();
     }
 
+    /**
+     * Test that a primitive field from the source root can be mapped into a nested destination field
+     * when the automatic primitive type conversion is enabled.
+     */
+    @Test
+    public void testPrimitiveFieldMappedIntoNestedObjectWithPrimitiveTypeConversionEnabled() {
+        // GIVEN
+        FromFooWithPrimitiveAndNestedObject source = new FromFooWithPrimitiveAndNestedObject(
+                "Lucas", new FromFooSimpleNested("Mendes", 1L), EXPECTED_X_VALUE);
+
+        // WHEN
+        ToFooWithNestedFieldMapping actual = underTest
+                .withFieldMapping(new FieldMapping<>("x", "nestedObject.x"))
+                .setPrimitiveTypeConversionEnabled(true)
+                .transform(source, ToFooWithNestedFieldMapping.class);
+
+        // THEN
+        assertThat(actual.getNestedObject().getX()).isEqualTo(EXPECTED_X_VALUE);
+        underTest.setPrimitiveTypeConversionEnabled(false);
+        underTest.reset();
+    }
+
     /**
      * Test that a primitive field mapped into a nested destination works via the setter-injection path
      * (mutable destination bean). This exercises the transform(T, K, String) overload and
@@ -308,6 +330,30 @@ public class MixedObjectTransformationTest extends AbstractBeanTransformerTest {
         underTest.reset();
     }
 
+    /**
+     * Test that a primitive field mapped into a nested mutable destination is read from the root source object
+     * when the lambda accessors are enabled.
+     */
+    @Test
+    public void testPrimitiveFieldMappedIntoNestedMutableObjectWithLambdaAccessorsEnabled() {
+        // GIVEN
+        FromFooWithPrimitiveAndNestedObject source = new FromFooWithPrimitiveAndNestedObject(
+                "Lucas", new FromFooSimpleNested("Mendes", 1L), EXPECTED_X_VALUE);
+
+        // WHEN
+        MutableToFooWithNestedFieldMapping actual = underTest
+                .withFieldMapping(new FieldMapping<>("x", "nestedObject.x"))
+                .setLambdaAccessorsEnabled(true)
+                .transform(source, MutableToFooWithNestedFieldMapping.class);
+
+        // THEN
+        assertThat(actual.getName()).isEqualTo("Lucas");
+        assertThat(actual.getNestedObject().getName()).isEqualTo("Mendes");
+        assertThat(actual.getNestedObject().getX()).isEqualTo(EXPECTED_X_VALUE);
+        underTest.setLambdaAccessorsEnabled(false);
+        underTest.reset();
+    }
+
     /**
      * Test that breadcrumb-based mapping works when source and destination field names differ.
      * Maps "x" from root source into "nestedObject.y" in the destination, verifying the lookup
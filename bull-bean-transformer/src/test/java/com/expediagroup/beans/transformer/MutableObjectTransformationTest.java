@@ -21,33 +21,55 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import com.expediagroup.beans.sample.FromFoo;
+import com.expediagroup.beans.sample.FromFooCyclic;
 import com.expediagroup.beans.sample.FromFooNoField;
 import com.expediagroup.beans.sample.FromFooSimple;
 import com.expediagroup.beans.sample.FromFooSimpleNoGetters;
+import com.expediagroup.beans.sample.FromFooSimpleRecord;
+import com.expediagroup.beans.sample.FromFooWithPrice;
+import com.expediagroup.beans.sample.FromSubFoo;
+import com.expediagroup.beans.sample.immutable.ImmutablePrice;
+import com.expediagroup.beans.sample.immutable.ImmutableTags;
 import com.expediagroup.beans.sample.mixed.MutableToFooOnlyPrimitiveTypes;
 import com.expediagroup.beans.sample.mutable.MutableToFoo;
+import com.expediagroup.beans.sample.mutable.MutableToFooCyclic;
 import com.expediagroup.beans.sample.mutable.MutableToFooInvalid;
 import com.expediagroup.beans.sample.mutable.MutableToFooNotExistingFields;
 import com.expediagroup.beans.sample.mutable.MutableToFooSimple;
 import com.expediagroup.beans.sample.mutable.MutableToFooSimpleNoSetters;
 import com.expediagroup.beans.sample.mutable.MutableToFooSubClass;
+import com.expediagroup.beans.sample.mutable.MutableToFooWithPrice;
+import com.expediagroup.beans.sample.mutable.MutableToSubFoo;
+import com.expediagroup.beans.transformer.model.TransformationPlan;
 import com.expediagroup.transformer.error.InvalidBeanException;
 import com.expediagroup.transformer.error.MissingFieldException;
 import com.expediagroup.transformer.model.FieldTransformer;
 import com.expediagroup.transformer.utils.ClassUtils;
+import com.expediagroup.transformer.utils.ReflectionUtils;
 
 /**
  * Unit test for all {@link BeanTransformer} functions related to Mutable type Java Beans.
@@ -57,9 +79,15 @@ public class MutableObjectTransformationTest extends AbstractBeanTransformerTest
     private static final String PRICE_FIELD_NAME = "price";
     private static final String UUID_FIELD_NAME = "uuid";
     private static final String CLASS_UTILS_FIELD_NAME = "classUtils";
-    private static final String INJECT_VALUES_METHOD_NAME = "injectValues";
+    private static final String INJECT_VALUES_METHOD_NAME = "injectValuesThroughConstructorParams";
     private static final String NESTED_OBJECT_NAME_FIELD_NAME = "nestedObject.name";
     private static final String CODE_FIELD_NAME = "code";
+    private static final int PARALLEL_COLLECTION_SIZE = 1000;
+    private static final int PARALLELISM_THRESHOLD = 10;
+    private static final String NET_PRICE_FIELD_NAME = "price.netPrice";
+    private static final BigDecimal NET_PRICE = BigDecimal.TEN;
+    private static final BigDecimal GROSS_PRICE = BigDecimal.valueOf(12);
+    private static final Currency CURRENCY = Currency.getInstance("EUR");
 
     /**
      * Test that an exception is thrown if there is no default constructor defined for the mutable bean object.
@@ -332,6 +360,68 @@ public class MutableObjectTransformationTest extends AbstractBeanTransformerTest
         assertThat(actual).hasNoNullFieldsOrPropertiesExcept(NAME_FIELD_NAME, PHONE_NUMBER_NESTED_OBJECT_FIELD_NAME);
     }
 
+    /**
+     * Test that mutable beans are correctly copied through the lambda setters and getter functions when the lambda accessors are enabled.
+     */
+    @Test
+    public void testMutableBeanIsCorrectlyCopiedWithLambdaAccessorsEnabled() {
+        // GIVEN
+        underTest.setLambdaAccessorsEnabled(true);
+
+        // WHEN
+        MutableToFoo actual = underTest.transform(fromFoo, MutableToFoo.class);
+
+        // THEN
+        assertThat(actual).usingRecursiveComparison()
+                .isEqualTo(fromFoo);
+        underTest.setLambdaAccessorsEnabled(false);
+    }
+
+    /**
+     * Test that fields without getter or setter methods are copied through reflection when the lambda accessors are enabled.
+     */
+    @Test
+    public void testTransformerFallsBackToReflectionForFieldsWithoutAccessorsWhenLambdaAccessorsAreEnabled() {
+        // GIVEN
+        FromFooSimpleNoGetters fromFooSimpleNoGetters = new FromFooSimpleNoGetters(NAME, ID, ACTIVE);
+        underTest.setLambdaAccessorsEnabled(true);
+
+        // WHEN
+        MutableToFooSimpleNoSetters actual = underTest.transform(fromFooSimpleNoGetters, MutableToFooSimpleNoSetters.class);
+
+        // THEN
+        assertThat(actual).usingRecursiveComparison()
+                .isEqualTo(fromFooSimpleNoGetters);
+        underTest.setLambdaAccessorsEnabled(false);
+    }
+
+    /**
+     * Test that field skip, field transformers and the automatic primitive type conversion are applied when the lambda accessors are enabled.
+     */
+    @Test
+    public void testTransformationSettingsAreAppliedWhenLambdaAccessorsAreEnabled() {
+        // GIVEN
+        underTest.setLambdaAccessorsEnabled(true)
+                .setPrimitiveTypeConversionEnabled(true)
+                .withFieldTransformer(new FieldTransformer<String, String>(ID_FIELD_NAME, val -> val + val))
+                .skipTransformationForField(UUID_FIELD_NAME);
+
+        // WHEN
+        MutableToFooOnlyPrimitiveTypes actual = underTest.transform(fromFooPrimitiveTypes, MutableToFooOnlyPrimitiveTypes.class);
+
+        // THEN
+        assertThat(actual).extracting(CODE_FIELD_NAME, ID_FIELD_NAME, PRICE_FIELD_NAME, ACTIVE_FIELD_NAME, UUID_FIELD_NAME)
+                .containsExactly(
+                        parseInt(fromFooPrimitiveTypes.getCode()),
+                        String.valueOf(fromFooPrimitiveTypes.getId()) + fromFooPrimitiveTypes.getId(),
+                        (double) fromFooPrimitiveTypes.getPrice(),
+                        ACTIVE,
+                        null);
+        underTest.setLambdaAccessorsEnabled(false).setPrimitiveTypeConversionEnabled(false);
+        underTest.resetFieldsTransformer();
+        underTest.resetFieldsTransformationSkip();
+    }
+
     /**
      * Test that the automatic primitive type conversion works properly.
      */
@@ -354,6 +444,32 @@ public class MutableObjectTransformationTest extends AbstractBeanTransformerTest
         underTest.setPrimitiveTypeConversionEnabled(false);
     }
 
+    /**
+     * Test that the automatic primitive type conversion is still applied once the transformation plan is recompiled
+     * after a configuration change.
+     */
+    @Test
+    public void testAutomaticPrimitiveTypeTransformationWorksProperlyAfterAConfigurationChange() {
+        // GIVEN
+        underTest.setPrimitiveTypeConversionEnabled(true);
+        underTest.transform(fromFooPrimitiveTypes, MutableToFooOnlyPrimitiveTypes.class);
+
+        // WHEN
+        MutableToFooOnlyPrimitiveTypes actual = underTest
+                .skipTransformationForField(UUID_FIELD_NAME)
+                .transform(fromFooPrimitiveTypes, MutableToFooOnlyPrimitiveTypes.class);
+
+        // THEN
+        assertThat(actual).extracting(CODE_FIELD_NAME, ID_FIELD_NAME, PRICE_FIELD_NAME, UUID_FIELD_NAME)
+                .containsExactly(
+                        parseInt(fromFooPrimitiveTypes.getCode()),
+                        String.valueOf(fromFooPrimitiveTypes.getId()),
+                        (double) fromFooPrimitiveTypes.getPrice(),
+                        null);
+        underTest.setPrimitiveTypeConversionEnabled(false);
+        underTest.resetFieldsTransformationSkip();
+    }
+
     /**
      * Test that the second transformation hits the null-marker cache entry for a primitive destination
      * field whose source counterpart is absent (default-value mode active, no conversion function found).
@@ -432,16 +548,303 @@ public class MutableObjectTransformationTest extends AbstractBeanTransformerTest
         when(classUtils.getInstance(constructor)).thenThrow(InvalidBeanException.class);
         when(classUtils.getConstructorParameters(constructor)).thenReturn(new Parameter[] {});
         when(classUtils.areParameterNamesAvailable(constructor)).thenReturn(true);
-        doReturn(expectedException).when(underTestMock).handleInjectionException(any(), any(), any(), any(), any(), anyBoolean(), any());
+        doReturn(expectedException).when(underTestMock).handleInjectionException(any(), any(), any(), any(), anyBoolean(), any(), any());
         reflectionUtils.setFieldValue(underTestMock, CLASS_UTILS_FIELD_NAME, classUtils);
-        Method injectValuesMethod =
-            TransformerImpl.class.getDeclaredMethod(INJECT_VALUES_METHOD_NAME, Object.class, Class.class, Constructor.class, String.class, boolean.class);
+        TransformationPlan plan = TransformationPlan.builder().targetClass(MutableToFooSimple.class).allArgsConstructor(constructor).build();
+        Method injectValuesMethod = TransformerImpl.class
+                .getDeclaredMethod(INJECT_VALUES_METHOD_NAME, Object.class, TransformationPlan.class, String.class, TransformationContext.class);
         injectValuesMethod.setAccessible(true);
 
         // WHEN
-        Object actual = injectValuesMethod.invoke(underTestMock, fromFooSimple, MutableToFooSimple.class, constructor, null, true);
+        Object actual = injectValuesMethod.invoke(underTestMock, fromFooSimple, plan, null,
+                new TransformationContext(underTestMock, underTestMock.settings, fromFooSimple));
 
         // THEN
         assertThat(actual).isSameAs(expectedException);
     }
+
+    /**
+     * Test that the method {@code transformAll} transforms all the objects of a collection, keeping their order and transforming the
+     * {@code null} elements into {@code null}.
+     */
+    @Test
+    public void testTransformAllTransformsAllTheObjectsOfACollection() {
+        // GIVEN
+        FromFooSimple otherFromFooSimple = new FromFooSimple(NAME + NAME, ID, ACTIVE);
+        List<FromFooSimple> sourceObjs = Arrays.asList(fromFooSimple, null, otherFromFooSimple);
+
+        // WHEN
+        List<MutableToFooSimple> actual = underTest.transformAll(sourceObjs, MutableToFooSimple.class);
+
+        // THEN
+        assertThat(actual).hasSize(sourceObjs.size());
+        assertThat(actual.get(0)).usingRecursiveComparison().isEqualTo(fromFooSimple);
+        assertThat(actual.get(1)).isNull();
+        assertThat(actual.get(2)).usingRecursiveComparison().isEqualTo(otherFromFooSimple);
+    }
+
+    /**
+     * Test that the method {@code transformAll} transforms all the objects of an array.
+     */
+    @Test
+    public void testTransformAllTransformsAllTheObjectsOfAnArray() {
+        // GIVEN
+        FromFooSimple[] sourceObjs = {fromFooSimple, fromFooSimple};
+
+        // WHEN
+        MutableToFooSimple[] actual = underTest.transformAll(sourceObjs, MutableToFooSimple.class);
+
+        // THEN
+        assertThat(actual).hasSameSizeAs(sourceObjs);
+        assertThat(actual).allSatisfy(element -> assertThat(element).usingRecursiveComparison().isEqualTo(fromFooSimple));
+    }
+
+    /**
+     * Test that the method {@code transformAll} raises an {@link IllegalArgumentException} if the source collection is null.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testTransformAllRaisesAnIllegalArgumentExceptionIfTheSourceCollectionIsNull() {
+        // GIVEN
+
+        // WHEN
+        underTest.transformAll((List<FromFooSimple>) null, MutableToFooSimple.class);
+    }
+
+    /**
+     * Test that the elements of a collection reaching the parallelism threshold are transformed in parallel keeping their order.
+     */
+    @Test
+    public void testTransformTransformsTheCollectionElementsInParallelKeepingTheirOrder() {
+        // GIVEN
+        FromSubFoo nestedObject = fromFoo.getNestedObject();
+        List<FromSubFoo> nestedObjectList = IntStream.range(0, PARALLEL_COLLECTION_SIZE)
+                .mapToObj(i -> new FromSubFoo(NAME + i, nestedObject.getPhoneNumbers(), nestedObject.getSampleMap(),
+                        nestedObject.getComplexMap(), nestedObject.getVeryComplexMap()))
+                .toList();
+        FromFoo sourceObj = new FromFoo(NAME, ID, nestedObjectList, fromFoo.getList(), nestedObject);
+        underTest.setParallelism(PARALLELISM_THRESHOLD);
+
+        // WHEN
+        MutableToFoo actual = underTest.transform(sourceObj, MutableToFoo.class);
+
+        // THEN
+        assertThat(actual.getNestedObjectList())
+                .extracting(MutableToSubFoo::getName)
+                .containsExactlyElementsOf(nestedObjectList.stream().map(FromSubFoo::getName).toList());
+        underTest.setParallelism(0);
+    }
+
+    /**
+     * Test that the references to the same source object are transformed into the same destination object if the identity tracking is enabled.
+     */
+    @Test
+    public void testTransformTransformsTheSharedReferencesOnceIfTheIdentityTrackingIsEnabled() {
+        // GIVEN
+        FromFooCyclic child = new FromFooCyclic(NAME, null, null);
+        FromFooCyclic sourceObj = new FromFooCyclic(NAME, null, List.of(child, child, child));
+        underTest.setIdentityTrackingEnabled(true);
+
+        // WHEN
+        MutableToFooCyclic actual = underTest.transform(sourceObj, MutableToFooCyclic.class);
+
+        // THEN
+        assertThat(actual.getChildren()).hasSize(3);
+        assertThat(actual.getChildren().get(1)).isSameAs(actual.getChildren().get(0));
+        assertThat(actual.getChildren().get(2)).isSameAs(actual.getChildren().get(0));
+        underTest.setIdentityTrackingEnabled(false);
+    }
+
+    /**
+     * Test that the cyclic references are transformed into references to the already created destination objects if the identity tracking is enabled.
+     */
+    @Test
+    public void testTransformTransformsTheCyclicReferencesIfTheIdentityTrackingIsEnabled() {
+        // GIVEN
+        FromFooCyclic sourceObj = new FromFooCyclic(NAME, null, null);
+        FromFooCyclic child = new FromFooCyclic(NAME, sourceObj, null);
+        sourceObj.setParent(sourceObj);
+        sourceObj.setChildren(List.of(child));
+        underTest.setIdentityTrackingEnabled(true);
+
+        // WHEN
+        MutableToFooCyclic actual = underTest.transform(sourceObj, MutableToFooCyclic.class);
+
+        // THEN
+        assertThat(actual.getParent()).isSameAs(actual);
+        assertThat(actual.getChildren()).singleElement()
+                .satisfies(element -> assertThat(element.getParent()).isSameAs(actual));
+        underTest.setIdentityTrackingEnabled(false);
+    }
+
+    /**
+     * Test that the deeply immutable objects are shared by reference if the source and destination fields have the same type.
+     */
+    @Test
+    public void testTransformSharesTheDeeplyImmutableObjectsByReference() {
+        // GIVEN
+        FromFooWithPrice sourceObj = new FromFooWithPrice(NAME, new ImmutablePrice(NET_PRICE, GROSS_PRICE, CURRENCY), new ImmutableTags(List.of(NAME)));
+
+        // WHEN
+        MutableToFooWithPrice actual = underTest.transform(sourceObj, MutableToFooWithPrice.class);
+
+        // THEN
+        assertThat(actual.getPrice()).isSameAs(sourceObj.getPrice());
+        assertThat(actual.getTags()).isSameAs(sourceObj.getTags());
+    }
+
+    /**
+     * Test that the deeply immutable objects are copied if a field transformer is defined for one of their fields.
+     */
+    @Test
+    public void testTransformCopiesTheDeeplyImmutableObjectsIfAFieldTransformerAppliesToThem() {
+        // GIVEN
+        FromFooWithPrice sourceObj = new FromFooWithPrice(NAME, new ImmutablePrice(NET_PRICE, GROSS_PRICE, CURRENCY), new ImmutableTags(List.of(NAME)));
+        underTest.withFieldTransformer(new FieldTransformer<>(NET_PRICE_FIELD_NAME, BigDecimal::negate));
+
+        // WHEN
+        MutableToFooWithPrice actual = underTest.transform(sourceObj, MutableToFooWithPrice.class);
+
+        // THEN
+        assertThat(actual.getPrice()).isNotSameAs(sourceObj.getPrice());
+        assertThat(actual.getPrice()).isEqualTo(new ImmutablePrice(NET_PRICE.negate(), GROSS_PRICE, CURRENCY));
+        assertThat(actual.getTags()).isSameAs(sourceObj.getTags());
+        underTest.removeFieldTransformer(NET_PRICE_FIELD_NAME);
+    }
+
+    /**
+     * Test that the references to the same source object are transformed into distinct destination objects if the identity tracking is disabled.
+     */
+    @Test
+    public void testTransformTransformsEachSharedReferenceIfTheIdentityTrackingIsDisabled() {
+        // GIVEN
+        FromFooCyclic child = new FromFooCyclic(NAME, null, null);
+        FromFooCyclic sourceObj = new FromFooCyclic(NAME, null, List.of(child, child));
+
+        // WHEN
+        MutableToFooCyclic actual = underTest.transform(sourceObj, MutableToFooCyclic.class);
+
+        // THEN
+        assertThat(actual.getChildren().get(1)).isNotSameAs(actual.getChildren().get(0));
+    }
+
+    /**
+     * Test that the method {@code transformStream} transforms lazily all the objects of a stream.
+     */
+    @Test
+    public void testTransformStreamTransformsLazilyAllTheObjectsOfAStream() {
+        // GIVEN
+        AtomicInteger consumedObjs = new AtomicInteger();
+        Stream<FromFooSimple> sourceObjs = Stream.of(fromFooSimple, fromFooSimple).peek(sourceObj -> consumedObjs.incrementAndGet());
+
+        // WHEN
+        Stream<MutableToFooSimple> actual = underTest.transformStream(sourceObjs, MutableToFooSimple.class);
+
+        // THEN
+        assertThat(consumedObjs).hasValue(0);
+        assertThat(actual.toList())
+                .hasSize(2)
+                .allSatisfy(element -> assertThat(element).usingRecursiveComparison().isEqualTo(fromFooSimple));
+    }
+
+    /**
+     * Test that the method {@code transformStream} applies the transformer configuration changed while the stream is consumed.
+     */
+    @Test
+    public void testTransformStreamAppliesTheConfigurationChangedWhileTheStreamIsConsumed() {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+        FromFooSimple otherFromFooSimple = new FromFooSimple(NAME + NAME, ID, ACTIVE);
+        Stream<FromFooSimple> sourceObjs = Stream.of(fromFooSimple, otherFromFooSimple)
+                .peek(sourceObj -> {
+                    if (sourceObj == otherFromFooSimple) {
+                        transformer.withFieldTransformer(new FieldTransformer<String, String>(NAME_FIELD_NAME, String::toUpperCase));
+                    }
+                });
+
+        // WHEN
+        List<MutableToFooSimple> actual = transformer.transformStream(sourceObjs, MutableToFooSimple.class).toList();
+
+        // THEN
+        assertThat(actual)
+                .extracting(MutableToFooSimple::getName)
+                .containsExactly(fromFooSimple.getName(), otherFromFooSimple.getName().toUpperCase());
+    }
+
+    /**
+     * Test that the method {@code transformAll} reuses the transformation plan using the lambda accessors for all the objects
+     * of the same class.
+     */
+    @Test
+    public void testTransformAllTransformsAllTheObjectsThroughTheLambdaAccessors() {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+        transformer.setLambdaAccessorsEnabled(true);
+        List<FromFooSimple> sourceObjs = List.of(fromFooSimple, fromFooSimple);
+
+        // WHEN
+        List<MutableToFooSimple> actual = transformer.transformAll(sourceObjs, MutableToFooSimple.class);
+
+        // THEN
+        assertThat(actual)
+                .hasSize(sourceObjs.size())
+                .allSatisfy(element -> assertThat(element).usingRecursiveComparison().isEqualTo(fromFooSimple));
+    }
+
+    /**
+     * Test that the method {@code transformStream} transforms the objects of a parallel stream keeping their order.
+     */
+    @Test
+    public void testTransformStreamTransformsTheObjectsOfAParallelStreamKeepingTheirOrder() {
+        // GIVEN
+        List<FromFooSimple> sourceObjs = IntStream.range(0, PARALLEL_COLLECTION_SIZE)
+                .mapToObj(i -> new FromFooSimple(NAME + i, ID, ACTIVE))
+                .toList();
+
+        // WHEN
+        List<MutableToFooSimple> actual = underTest.transformStream(sourceObjs.parallelStream(), MutableToFooSimple.class).toList();
+
+        // THEN
+        assertThat(actual)
+                .extracting(MutableToFooSimple::getName)
+                .containsExactlyElementsOf(sourceObjs.stream().map(FromFooSimple::getName).toList());
+    }
+
+    /**
+     * Test that the values of a record are read through its component accessors.
+     */
+    @Test
+    public void testTransformReadsTheValuesOfARecordThroughItsComponentAccessors() {
+        // GIVEN
+        FromFooSimpleRecord sourceObj = new FromFooSimpleRecord(NAME, ID, ACTIVE);
+
+        // WHEN
+        MutableToFooSimple actual = underTest.transform(sourceObj, MutableToFooSimple.class);
+
+        // THEN
+        assertThat(actual)
+                .extracting(MutableToFooSimple::getName, MutableToFooSimple::getId, MutableToFooSimple::isActive)
+                .containsExactly(NAME, ID, ACTIVE);
+    }
+
+    /**
+     * Test that a field missing in the source object is not looked up while transforming the objects, if the default value for the
+     * missing fields is enabled.
+     */
+    @Test
+    public void testTransformDoesNotLookUpTheFieldsMissingInTheSourceObject() {
+        // GIVEN
+        FromFooSimple fromFooSimple = new FromFooSimple(NAME, ID, ACTIVE);
+        ReflectionUtils reflectionUtilsSpy = spy(ReflectionUtils.class);
+        reflectionUtils.setFieldValue(underTest, REFLECTION_UTILS_FIELD_NAME, reflectionUtilsSpy);
+        underTest.setDefaultValueForMissingField(true);
+
+        // WHEN
+        MutableToFooNotExistingFields actual = underTest.transform(fromFooSimple, MutableToFooNotExistingFields.class);
+
+        // THEN
+        assertThat(actual)
+                .extracting(MutableToFooNotExistingFields::getName, MutableToFooNotExistingFields::getAge)
+                .containsExactly(NAME, 0);
+        verify(reflectionUtilsSpy, never()).getFieldValue(any(), eq(AGE_FIELD_NAME), any());
+    }
 }
@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Unit test for {@link ParallelElementsTransformer}.
+ */
+public class ParallelElementsTransformerTest {
+    private static final int PARALLELISM_THRESHOLD = 10;
+    private static final int PARALLEL_ARRAY_SIZE = 1000;
+    private static final UnaryOperator<Object> ELEMENT_TRANSFORMER = String::valueOf;
+
+    /**
+     * Tests that the method {@code transform} transforms the array elements keeping their order, whether they are transformed in parallel or not.
+     * @param testCaseDescription the test case description
+     * @param parallelismThreshold the minimum number of elements transformed in parallel
+     * @param arraySize the number of elements of the array
+     */
+    @Test(dataProvider = "transformArrayTesting")
+    public void testTransformTransformsTheArrayElementsKeepingTheirOrder(final String testCaseDescription, final int parallelismThreshold,
+                                                                         final int arraySize) {
+        // GIVEN
+        ParallelElementsTransformer underTest = new ParallelElementsTransformer(parallelismThreshold, ForkJoinPool.commonPool());
+        Object[] elements = IntStream.range(0, arraySize).boxed().toArray();
+
+        // WHEN
+        Object[] actual = underTest.transform(elements, ELEMENT_TRANSFORMER);
+
+        // THEN
+        assertThat(actual).containsExactly(IntStream.range(0, arraySize).mapToObj(String::valueOf).toArray());
+    }
+
+    /**
+     * Creates the parameters to be used for testing the method {@code transform} with an array.
+     * @return parameters to be used for testing the method {@code transform} with an array.
+     */
+    @DataProvider
+    private Object[][] transformArrayTesting() {
+        return new Object[][] {
+                {"Tests that the array elements are transformed in parallel if the array reaches the threshold", PARALLELISM_THRESHOLD, PARALLEL_ARRAY_SIZE},
+                {"Tests that the array elements are transformed sequentially if the array is smaller than the threshold", PARALLEL_ARRAY_SIZE, PARALLELISM_THRESHOLD},
+                {"Tests that the array elements are transformed sequentially if the threshold is not positive", 0, PARALLEL_ARRAY_SIZE}
+        };
+    }
+
+    /**
+     * Tests that the transformation context transforms the array elements through the elements transformer built from the settings.
+     */
+    @Test
+    public void testTransformationContextTransformsTheArrayElementsInParallelKeepingTheirOrder() {
+        // GIVEN
+        TransformerImpl transformer = new TransformerImpl();
+        transformer.setParallelism(PARALLELISM_THRESHOLD);
+        TransformationContext underTest = new TransformationContext(transformer, transformer.settings, null);
+        Object[] elements = IntStream.range(0, PARALLEL_ARRAY_SIZE).boxed().toArray();
+
+        // WHEN
+        Object[] actual = underTest.transform(elements, ELEMENT_TRANSFORMER);
+
+        // THEN
+        assertThat(actual).containsExactly(IntStream.range(0, PARALLEL_ARRAY_SIZE).mapToObj(String::valueOf).toArray());
+    }
+}
@@ -0,0 +1,311 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.transformer;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.expediagroup.beans.BeanUtils;
+import com.expediagroup.beans.sample.FromFooSimple;
+import com.expediagroup.beans.sample.mutable.MutableToFooSimple;
+
+/**
+ * Unit test for {@link TransformationProcessor}.
+ */
+public class TransformationProcessorTest {
+    private static final int TOTAL_ITEMS = 100;
+    private static final int BATCH_SIZE = 8;
+    private static final int MAX_CONCURRENCY = 3;
+    private static final long MAX_OUTSTANDING_ITEMS = (long) BATCH_SIZE * MAX_CONCURRENCY;
+    private static final long TIMEOUT = 10;
+    private static final String NAME = "name";
+
+    /**
+     * The transformer creating the processor.
+     */
+    private BeanTransformer beanTransformer;
+
+    /**
+     * Initializes the transformer.
+     */
+    @BeforeClass
+    public void beforeClass() {
+        beanTransformer = new BeanUtils().getTransformer();
+    }
+
+    /**
+     * Tests that the processor emits all the transformed items in the order they have been published, even if the subscriber
+     * requests them one at a time.
+     * @throws Exception if the items are not received in time
+     */
+    @Test
+    public void testProcessorEmitsAllTheTransformedItemsInOrder() throws Exception {
+        // GIVEN
+        Flow.Processor<FromFooSimple, MutableToFooSimple> underTest =
+                beanTransformer.newProcessor(MutableToFooSimple.class, BATCH_SIZE, MAX_CONCURRENCY, ForkJoinPool.commonPool());
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        List<FromFooSimple> items = IntStream.range(0, TOTAL_ITEMS)
+                .mapToObj(i -> new FromFooSimple(NAME + i, BigInteger.valueOf(i), true))
+                .toList();
+
+        // WHEN
+        underTest.subscribe(subscriber);
+        try (SubmissionPublisher<FromFooSimple> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(underTest);
+            items.forEach(publisher::submit);
+        }
+
+        // THEN
+        assertThat(subscriber.completion.get(TIMEOUT, SECONDS))
+                .extracting(MutableToFooSimple::getName)
+                .containsExactlyElementsOf(items.stream().map(FromFooSimple::getName).toList());
+    }
+
+    /**
+     * Tests that the processor signals the publisher error to its subscriber.
+     */
+    @Test
+    public void testProcessorSignalsThePublisherError() {
+        // GIVEN
+        Flow.Processor<FromFooSimple, MutableToFooSimple> underTest =
+                beanTransformer.newProcessor(MutableToFooSimple.class, BATCH_SIZE, MAX_CONCURRENCY, ForkJoinPool.commonPool());
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        IllegalStateException publisherError = new IllegalStateException();
+
+        // WHEN
+        underTest.subscribe(subscriber);
+        try (SubmissionPublisher<FromFooSimple> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(underTest);
+            publisher.closeExceptionally(publisherError);
+        }
+
+        // THEN
+        assertThatThrownBy(() -> subscriber.completion.get(TIMEOUT, SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(publisherError);
+    }
+
+    /**
+     * Tests that the items requested to the publisher and not yet emitted never exceed the ones that can be held by the maximum number
+     * of batches, even if the subscriber does not request them.
+     */
+    @Test
+    public void testProcessorLimitsTheItemsRequestedToThePublisher() {
+        // GIVEN
+        TransformationProcessor<FromFooSimple, MutableToFooSimple> underTest =
+                new TransformationProcessor<>(beanTransformer, MutableToFooSimple.class, BATCH_SIZE, MAX_CONCURRENCY, Runnable::run);
+        CollectingSubscriber subscriber = new CollectingSubscriber(false);
+        RecordingSubscription upstream = new RecordingSubscription();
+        underTest.subscribe(subscriber);
+        underTest.onSubscribe(upstream);
+
+        // WHEN
+        long requestedBeforeDemand = upstream.requested.get();
+        publish(underTest, requestedBeforeDemand);
+        long requestedWithoutDemand = upstream.requested.get();
+        subscriber.subscription.request(BATCH_SIZE);
+
+        // THEN
+        assertThat(requestedBeforeDemand).isEqualTo(MAX_OUTSTANDING_ITEMS);
+        assertThat(requestedWithoutDemand).isEqualTo(MAX_OUTSTANDING_ITEMS);
+        assertThat(subscriber.items).hasSize(BATCH_SIZE);
+        assertThat(upstream.requested.get() - subscriber.items.size()).isEqualTo(MAX_OUTSTANDING_ITEMS);
+    }
+
+    /**
+     * Tests that cancelling the processor subscription cancels the publisher subscription and stops emitting the items.
+     */
+    @Test
+    public void testCancellingTheSubscriptionCancelsThePublisherSubscription() {
+        // GIVEN
+        TransformationProcessor<FromFooSimple, MutableToFooSimple> underTest =
+                new TransformationProcessor<>(beanTransformer, MutableToFooSimple.class, BATCH_SIZE, MAX_CONCURRENCY, Runnable::run);
+        CollectingSubscriber subscriber = new CollectingSubscriber(false);
+        RecordingSubscription upstream = new RecordingSubscription();
+        underTest.subscribe(subscriber);
+        underTest.onSubscribe(upstream);
+
+        // WHEN
+        subscriber.subscription.cancel();
+        publish(underTest, BATCH_SIZE);
+        subscriber.subscription.request(BATCH_SIZE);
+        underTest.onComplete();
+
+        // THEN
+        assertThat(upstream.cancelled).isTrue();
+        assertThat(subscriber.items).isEmpty();
+        assertThat(subscriber.completion).isNotDone();
+    }
+
+    /**
+     * Tests that a transformation failure is signalled to the subscriber and cancels the publisher subscription.
+     */
+    @Test
+    public void testProcessorSignalsTheTransformationFailureAndCancelsThePublisherSubscription() {
+        // GIVEN
+        BeanTransformer failingTransformer = mock(BeanTransformer.class);
+        IllegalStateException transformationError = new IllegalStateException();
+        when(failingTransformer.transformAll(anyCollection(), any())).thenThrow(transformationError);
+        TransformationProcessor<FromFooSimple, MutableToFooSimple> underTest =
+                new TransformationProcessor<>(failingTransformer, MutableToFooSimple.class, BATCH_SIZE, MAX_CONCURRENCY, Runnable::run);
+        CollectingSubscriber subscriber = new CollectingSubscriber(true);
+        RecordingSubscription upstream = new RecordingSubscription();
+        underTest.subscribe(subscriber);
+        underTest.onSubscribe(upstream);
+
+        // WHEN
+        publish(underTest, BATCH_SIZE);
+
+        // THEN
+        assertThat(upstream.cancelled).isTrue();
+        assertThatThrownBy(() -> subscriber.completion.get(TIMEOUT, SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(transformationError);
+    }
+
+    /**
+     * Tests that the method {@code newProcessor} raises an {@link IllegalArgumentException} if the batch size is not positive.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNewProcessorRaisesAnIllegalArgumentExceptionIfTheBatchSizeIsNotPositive() {
+        // GIVEN
+
+        // WHEN
+        beanTransformer.newProcessor(MutableToFooSimple.class, 0, MAX_CONCURRENCY, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Publishes the given number of items to the processor, as its publisher would do.
+     * @param processor the processor
+     * @param totalItems the number of items to publish
+     */
+    private void publish(final Flow.Processor<FromFooSimple, MutableToFooSimple> processor, final long totalItems) {
+        for (int i = 0; i < totalItems; i++) {
+            processor.onNext(new FromFooSimple(NAME + i, BigInteger.valueOf(i), true));
+        }
+    }
+
+    /**
+     * A publisher subscription recording the items requested to the publisher and its cancellation.
+     */
+    private static final class RecordingSubscription implements Flow.Subscription {
+        /**
+         * The total number of requested items.
+         */
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * True once the subscription has been cancelled.
+         */
+        private volatile boolean cancelled;
+
+        @Override
+        public void request(final long n) {
+            requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * A subscriber collecting the received items, either requesting them one at a time or leaving the requests to the test.
+     */
+    private static final class CollectingSubscriber implements Flow.Subscriber<MutableToFooSimple> {
+        /**
+         * Completed with the received items once the processor completes.
+         */
+        private final CompletableFuture<List<MutableToFooSimple>> completion = new CompletableFuture<>();
+
+        /**
+         * The received items.
+         */
+        private final List<MutableToFooSimple> items = new ArrayList<>();
+
+        /**
+         * True if the items are requested one at a time, false if they are requested by the test.
+         */
+        private final boolean requestingOneAtATime;
+
+        /**
+         * The processor subscription.
+         */
+        private Flow.Subscription subscription;
+
+        /**
+         * Creates a subscriber requesting the items one at a time.
+         */
+        CollectingSubscriber() {
+            this(true);
+        }
+
+        /**
+         * Default constructor.
+         * @param requestingOneAtATime true if the items are requested one at a time, false if they are requested by the test
+         */
+        CollectingSubscriber(final boolean requestingOneAtATime) {
+            this.requestingOneAtATime = requestingOneAtATime;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription processorSubscription) {
+            subscription = processorSubscription;
+            if (requestingOneAtATime) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(final MutableToFooSimple item) {
+            items.add(item);
+            if (requestingOneAtATime) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(items);
+        }
+    }
+}
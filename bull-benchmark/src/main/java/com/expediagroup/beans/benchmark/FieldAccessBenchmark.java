@@ -0,0 +1,206 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.expediagroup.beans.benchmark.sample.mutable.MutablePrimitives;
+import com.expediagroup.beans.benchmark.sample.mutable.MutableSimple;
+import com.expediagroup.transformer.utils.ReflectionUtils;
+
+/**
+ * JMH microbenchmarks for the field writers and the primitive field copiers used by the transformation plans, compared with the reflective
+ * access they replace.
+ *
+ * <p>Run with: {@code java -jar target/benchmarks.jar FieldAccessBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FieldAccessBenchmark {
+
+    private MutableSimple target;
+    private String name;
+    private Integer age;
+    private Field nameField;
+    private Field ageField;
+    private BiConsumer<Object, Object> nameFieldWriter;
+    private BiConsumer<Object, Object> ageFieldWriter;
+    private MutablePrimitives primitivesSource;
+    private MutablePrimitives primitivesTarget;
+    private Field countField;
+    private Field totalField;
+    private Field scoreField;
+    private BiConsumer<Object, Object> intFieldCopier;
+    private BiConsumer<Object, Object> longFieldCopier;
+    private BiConsumer<Object, Object> doubleFieldCopier;
+    private BiConsumer<Object, Object> intFieldHandleCopier;
+    private BiConsumer<Object, Object> longFieldHandleCopier;
+    private BiConsumer<Object, Object> doubleFieldHandleCopier;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        ReflectionUtils reflectionUtils = new ReflectionUtils();
+        target = new MutableSimple();
+        name = "Goofy";
+        age = 42;
+        nameField = MutableSimple.class.getDeclaredField("name");
+        nameField.setAccessible(true);
+        ageField = MutableSimple.class.getDeclaredField("age");
+        ageField.setAccessible(true);
+        nameFieldWriter = reflectionUtils.findFieldWriter(nameField).orElseThrow();
+        ageFieldWriter = reflectionUtils.findFieldWriter(ageField).orElseThrow();
+
+        primitivesSource = new MutablePrimitives();
+        primitivesSource.setCount(42);
+        primitivesSource.setTotal(1234567890123L);
+        primitivesSource.setScore(9.99);
+        primitivesTarget = new MutablePrimitives();
+        countField = getAccessibleField(MutablePrimitives.class, "count");
+        totalField = getAccessibleField(MutablePrimitives.class, "total");
+        scoreField = getAccessibleField(MutablePrimitives.class, "score");
+        intFieldCopier = reflectionUtils.findPrimitiveFieldCopier(MutablePrimitives.class, "count", countField, true).orElseThrow();
+        longFieldCopier = reflectionUtils.findPrimitiveFieldCopier(MutablePrimitives.class, "total", totalField, true).orElseThrow();
+        doubleFieldCopier = reflectionUtils.findPrimitiveFieldCopier(MutablePrimitives.class, "score", scoreField, true).orElseThrow();
+        intFieldHandleCopier = reflectionUtils.findPrimitiveFieldCopier(MutablePrimitives.class, "count", countField, false).orElseThrow();
+        longFieldHandleCopier = reflectionUtils.findPrimitiveFieldCopier(MutablePrimitives.class, "total", totalField, false).orElseThrow();
+        doubleFieldHandleCopier = reflectionUtils.findPrimitiveFieldCopier(MutablePrimitives.class, "score", scoreField, false).orElseThrow();
+    }
+
+    private static Field getAccessibleField(final Class<?> fieldClass, final String fieldName) throws NoSuchFieldException {
+        Field field = fieldClass.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field;
+    }
+
+    /** Object field written through the field writer of {@code ReflectionUtils.findFieldWriter}. */
+    @Benchmark
+    public MutableSimple objectFieldWriter() {
+        nameFieldWriter.accept(target, name);
+        return target;
+    }
+
+    /** Object field written through {@link Field#set}, the baseline of {@link #objectFieldWriter()}. */
+    @Benchmark
+    public MutableSimple objectFieldSet() throws IllegalAccessException {
+        nameField.set(target, name);
+        return target;
+    }
+
+    /** Primitive field written, unboxing the value, through the field writer of {@code ReflectionUtils.findFieldWriter}. */
+    @Benchmark
+    public MutableSimple primitiveFieldWriter() {
+        ageFieldWriter.accept(target, age);
+        return target;
+    }
+
+    /** Primitive field written through {@link Field#set}, the baseline of {@link #primitiveFieldWriter()}. */
+    @Benchmark
+    public MutableSimple primitiveFieldSet() throws IllegalAccessException {
+        ageField.set(target, age);
+        return target;
+    }
+
+    /** int field copied through the typed functions bound to its getter and setter methods. */
+    @Benchmark
+    public MutablePrimitives intFieldCopier() {
+        intFieldCopier.accept(primitivesSource, primitivesTarget);
+        return primitivesTarget;
+    }
+
+    /** int field copied through the method handle held by the hidden class copier, reading and writing the fields directly. */
+    @Benchmark
+    public MutablePrimitives intFieldHandleCopier() {
+        intFieldHandleCopier.accept(primitivesSource, primitivesTarget);
+        return primitivesTarget;
+    }
+
+    /** int field copied through {@link Field#get} and {@link Field#set}, boxing the value: the baseline of the int copiers. */
+    @Benchmark
+    public MutablePrimitives intFieldReflectionCopy() throws IllegalAccessException {
+        countField.set(primitivesTarget, countField.get(primitivesSource));
+        return primitivesTarget;
+    }
+
+    /** long field copied through the typed functions bound to its getter and setter methods. */
+    @Benchmark
+    public MutablePrimitives longFieldCopier() {
+        longFieldCopier.accept(primitivesSource, primitivesTarget);
+        return primitivesTarget;
+    }
+
+    /** long field copied through the method handle held by the hidden class copier, reading and writing the fields directly. */
+    @Benchmark
+    public MutablePrimitives longFieldHandleCopier() {
+        longFieldHandleCopier.accept(primitivesSource, primitivesTarget);
+        return primitivesTarget;
+    }
+
+    /** long field copied through {@link Field#get} and {@link Field#set}, boxing the value: the baseline of the long copiers. */
+    @Benchmark
+    public MutablePrimitives longFieldReflectionCopy() throws IllegalAccessException {
+        totalField.set(primitivesTarget, totalField.get(primitivesSource));
+        return primitivesTarget;
+    }
+
+    /** double field copied through the typed functions bound to its getter and setter methods. */
+    @Benchmark
+    public MutablePrimitives doubleFieldCopier() {
+        doubleFieldCopier.accept(primitivesSource, primitivesTarget);
+        return primitivesTarget;
+    }
+
+    /** double field copied through the method handle held by the hidden class copier, reading and writing the fields directly. */
+    @Benchmark
+    public MutablePrimitives doubleFieldHandleCopier() {
+        doubleFieldHandleCopier.accept(primitivesSource, primitivesTarget);
+        return primitivesTarget;
+    }
+
+    /** double field copied through {@link Field#get} and {@link Field#set}, boxing the value: the baseline of the double copiers. */
+    @Benchmark
+    public MutablePrimitives doubleFieldReflectionCopy() throws IllegalAccessException {
+        scoreField.set(primitivesTarget, scoreField.get(primitivesSource));
+        return primitivesTarget;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(FieldAccessBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -60,6 +60,7 @@ import com.expediagroup.beans.transformer.BeanTransformer;
 public class TransformerBenchmark {
 
     private BeanTransformer transformer;
+    private BeanTransformer lambdaAccessorsTransformer;
     private MutableSimple sourceSimple;
     private MutableComplex sourceComplex;
     private Map<String, String> sourceMap;
@@ -68,6 +69,7 @@ public class TransformerBenchmark {
     @Setup
     public void setUp() {
         transformer = new BeanUtils().getTransformer();
+        lambdaAccessorsTransformer = new BeanUtils().getTransformer().setLambdaAccessorsEnabled(true);
 
         MutableSimple nested = new MutableSimple();
         nested.setName("nested");
@@ -120,6 +122,18 @@ public class TransformerBenchmark {
         return transformer.transform(sourceComplex, ImmutableComplex.class);
     }
 
+    /** Mutable simple bean copied through the lambda setters and getter functions, to be compared with {@link #mutableSimpleBean()}. */
+    @Benchmark
+    public MutableSimple mutableSimpleBeanLambdaAccessors() {
+        return lambdaAccessorsTransformer.transform(sourceSimple, MutableSimple.class);
+    }
+
+    /** Mutable complex bean copied through the lambda setters and getter functions, to be compared with {@link #mutableComplexBean()}. */
+    @Benchmark
+    public MutableComplex mutableComplexBeanLambdaAccessors() {
+        return lambdaAccessorsTransformer.transform(sourceComplex, MutableComplex.class);
+    }
+
     /** Type conversion hot path: int → long, repeated single-field conversion. */
     @Benchmark
     public Long typeConversionIntToLong() {
@@ -18,6 +18,8 @@ package com.expediagroup.transformer;
 import static com.expediagroup.transformer.cache.CacheManagerFactory.getCacheManager;
 import static com.expediagroup.transformer.validator.Validator.notNull;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import com.expediagroup.transformer.cache.CacheManager;
 import com.expediagroup.transformer.model.FieldMapping;
 import com.expediagroup.transformer.model.FieldTransformer;
@@ -50,9 +52,17 @@ public abstract class AbstractTransformer<T extends Transformer, P, S extends Tr
      */
     protected final CacheManager cacheManager;
 
+    /**
+     * The cache namespace of the transformer function cached items.
+     */
+    protected final String transformerFunctionCachePrefix;
+
     /**
      * A regex that returns all the transformer function cached items.
+     * @deprecated the transformer function cached items are indexed under the {@link #transformerFunctionCachePrefix} namespace: remove
+     * them through {@link CacheManager#removeNamespace(String)} instead of matching all the cache keys against this regex.
      */
+    @Deprecated
     protected final String transformerFunctionRegex;
 
     /**
@@ -61,6 +71,12 @@ public abstract class AbstractTransformer<T extends Transformer, P, S extends Tr
     @Getter
     protected S settings;
 
+    /**
+     * The configuration version. It's incremented every time the transformer configuration changes,
+     * allowing implementations to invalidate any state derived from the previous configuration.
+     */
+    private final AtomicLong settingsVersion = new AtomicLong();
+
     /**
      * Default constructor.
      *
@@ -72,6 +88,7 @@ public abstract class AbstractTransformer<T extends Transformer, P, S extends Tr
         this.reflectionUtils = new ReflectionUtils();
         this.classUtils = new ClassUtils();
         this.settings = transformerSettings;
+        this.transformerFunctionCachePrefix = transformerFunctionCachePrefix;
         this.transformerFunctionRegex = "^" + transformerFunctionCachePrefix + ".*";
         this.cacheManager = getCacheManager(cacheName);
     }
@@ -88,6 +105,7 @@ public abstract class AbstractTransformer<T extends Transformer, P, S extends Tr
                 fieldsNameMapping.put(destField, mapping.getSourceFieldName());
             }
         }
+        onSettingsChange();
         return (T) this;
     }
 
@@ -103,6 +121,7 @@ public abstract class AbstractTransformer<T extends Transformer, P, S extends Tr
                 fieldsTransformers.put((P) destFieldName, transformer);
             }
         }
+        onSettingsChange();
         return (T) this;
     }
 
@@ -114,6 +133,7 @@ public abstract class AbstractTransformer<T extends Transformer, P, S extends Tr
     public final void removeFieldMapping(final String destFieldName) {
         notNull(destFieldName, "The field name for which the mapping has to be removed cannot be null!");
         settings.getFieldsNameMapping().remove(destFieldName);
+        onSettingsChange();
     }
 
     /**
@@ -122,6 +142,7 @@ public abstract class AbstractTransformer<T extends Transformer, P, S extends Tr
     @Override
     public final void resetFieldsMapping() {
         settings.getFieldsNameMapping().clear();
+        onSettingsChange();
     }
 
     /**
@@ -132,7 +153,8 @@ public abstract class AbstractTransformer<T extends Transformer, P, S extends Tr
     public final void removeFieldTransformer(final String destFieldName) {
         notNull(destFieldName, "The field name for which the transformer function has to be removed cannot be null!");
         settings.getFieldsTransformers().remove(destFieldName);
-        cacheManager.removeMatchingKeys(transformerFunctionRegex + destFieldName);
+        cacheManager.removeNamespace(transformerFunctionCachePrefix, destFieldName);
+        onSettingsChange();
     }
 
     /**
@@ -141,7 +163,8 @@ public abstract class AbstractTransformer<T extends Transformer, P, S extends Tr
     @Override
     public final void resetFieldsTransformer() {
         settings.getFieldsTransformers().clear();
-        cacheManager.removeMatchingKeys(transformerFunctionRegex);
+        cacheManager.removeNamespace(transformerFunctionCachePrefix);
+        onSettingsChange();
     }
 
     /**
@@ -151,5 +174,29 @@ public abstract class AbstractTransformer<T extends Transformer, P, S extends Tr
     @SuppressWarnings("unchecked")
     public final void reset() {
         settings = (S) new TransformerSettings<>();
+        onSettingsChange();
+    }
+
+    /**
+     * Returns the current configuration version.
+     * @return the configuration version
+     */
+    protected final long getSettingsVersion() {
+        return settingsVersion.get();
+    }
+
+    /**
+     * Notifies that the transformer configuration has changed.
+     */
+    protected final void onSettingsChange() {
+        settingsVersion.incrementAndGet();
+        releaseOutdatedState();
+    }
+
+    /**
+     * Releases any state derived from the previous transformer configuration.
+     * It's invoked every time the transformer configuration changes; the default implementation does nothing.
+     */
+    protected void releaseOutdatedState() {
     }
 }
@@ -0,0 +1,33 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.annotation;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose instances, including all the objects reachable from them, never change once created.
+ * The transformers share the instances of such classes by reference, instead of copying them, when the source and the destination fields
+ * have the same type. It's meant for the classes that cannot be recognized as deeply immutable through reflection, e.g. the ones
+ * keeping a collection that is never modified.
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface DeeplyImmutable {
+}
@@ -0,0 +1,502 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.cache;
+
+import static java.lang.Math.min;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A cache store with a maximum size and, optionally, an expiration time for the entries not accessed.
+ * The entries are kept in access order, so the least recently used one is the first candidate for the eviction; with the
+ * {@link EvictionPolicy#TINY_LFU} policy the candidate is evicted only if it's used less frequently than the new entry.
+ * The reads never lock: the entries are stored in a {@link ConcurrentHashMap} and each read is recorded in a read buffer, striped by
+ * thread, that is applied to the access order and to the frequency sketch under the eviction lock, either by the next write or by a
+ * reader if the lock is free. A full buffer overwrites its oldest reads, hence the access order is approximated under contention.
+ * The writes are guarded by the eviction lock.
+ * The maximum size only bounds the entries of this store: the objects a {@link CacheManager} keeps with their owner class, and the
+ * class metadata, are not counted as they are released together with their class.
+ */
+final class BoundedCacheMap extends AbstractMap<String, Object> {
+    /**
+     * The initial capacity of the access order map.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The load factor of the access order map.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * The maximum number of read buffers, a power of two.
+     */
+    private static final int MAX_READ_BUFFERS = 16;
+
+    /**
+     * The number of read buffers, the lowest power of two not lower than the number of processors (up to {@link #MAX_READ_BUFFERS}).
+     */
+    private static final int READ_BUFFERS = Math.min(Integer.highestOneBit((Runtime.getRuntime().availableProcessors() << 1) - 1), MAX_READ_BUFFERS);
+
+    /**
+     * The number of reads each read buffer can contain, a power of two.
+     */
+    private static final int READ_BUFFER_SIZE = 16;
+
+    /**
+     * The number of reads after which a reader tries to apply its read buffer.
+     */
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE >> 1;
+
+    /**
+     * The maximum number of entries.
+     */
+    private final int maximumSize;
+
+    /**
+     * True if the entries expire.
+     */
+    private final boolean expiring;
+
+    /**
+     * The time, in nanoseconds, after which an entry that has not been accessed expires.
+     */
+    private final long expireAfterAccessNanos;
+
+    /**
+     * The frequency sketch used for admitting the new entries (if any), guarded by the eviction lock.
+     */
+    private final FrequencySketch frequencySketch;
+
+    /**
+     * The listener notified with the key of each entry evicted, expired or not admitted.
+     */
+    private final Consumer<String> evictionListener;
+
+    /**
+     * The cached entries.
+     */
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of the cached entries, in access order, guarded by the eviction lock.
+     */
+    private final LinkedHashMap<String, Boolean> accessOrder = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+
+    /**
+     * The reads not applied yet to the access order and to the frequency sketch.
+     */
+    private final ReadBuffer[] readBuffers = new ReadBuffer[READ_BUFFERS];
+
+    /**
+     * The lock guarding the writes, the access order and the frequency sketch.
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * The time, in nanoseconds, before which no entry can expire, guarded by the eviction lock.
+     */
+    private long nextExpirationTime;
+
+    /**
+     * Creates a cache store with the given configuration.
+     * @param cacheConfig the cache configuration
+     */
+    BoundedCacheMap(final CacheConfig cacheConfig) {
+        this(cacheConfig, key -> { });
+    }
+
+    /**
+     * Creates a cache store with the given configuration.
+     * @param cacheConfig the cache configuration
+     * @param evictionListener the listener notified with the key of each entry evicted, expired or not admitted
+     */
+    BoundedCacheMap(final CacheConfig cacheConfig, final Consumer<String> evictionListener) {
+        this.maximumSize = cacheConfig.isBounded() ? cacheConfig.getMaximumSize() : Integer.MAX_VALUE;
+        this.expiring = cacheConfig.isExpiring();
+        this.expireAfterAccessNanos = expiring ? cacheConfig.getExpireAfterAccess().toNanos() : 0;
+        this.frequencySketch = cacheConfig.isBounded() && cacheConfig.getEvictionPolicy().is(EvictionPolicy.TINY_LFU)
+                ? new FrequencySketch(maximumSize) : null;
+        this.evictionListener = evictionListener;
+        this.nextExpirationTime = currentTime();
+        for (int i = 0; i < READ_BUFFERS; i++) {
+            readBuffers[i] = new ReadBuffer();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * It never locks, unless the entry is expired.
+     */
+    @Override
+    public Object get(final Object key) {
+        final CacheEntry entry = entries.get(key);
+        if (isNull(entry)) {
+            recordRead(key);
+            return null;
+        }
+        final long now = currentTime();
+        if (isExpired(entry, now)) {
+            removeExpired((String) key, entry);
+            return null;
+        }
+        entry.lastAccess = now;
+        recordRead(key);
+        return entry.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(final Object key) {
+        final CacheEntry entry = entries.get(key);
+        return nonNull(entry) && !isExpired(entry, currentTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the cache is full and the new entry is not admitted, the entry is not stored.
+     */
+    @Override
+    public Object put(final String key, final Object value) {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            recordUsage(key);
+            final long now = currentTime();
+            final CacheEntry existing = entries.get(key);
+            if (nonNull(existing)) {
+                final Object previousValue = existing.value;
+                existing.value = value;
+                existing.lastAccess = now;
+                accessOrder.get(key);
+                return previousValue;
+            }
+            removeExpiredEntries(now);
+            if (entries.size() < maximumSize || evictFor(key)) {
+                entries.put(key, new CacheEntry(value, now));
+                accessOrder.put(key, Boolean.TRUE);
+            }
+            return null;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object remove(final Object key) {
+        evictionLock.lock();
+        try {
+            accessOrder.remove(key);
+            final CacheEntry entry = entries.remove(key);
+            return isNull(entry) ? null : entry.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            accessOrder.clear();
+            entries.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The returned set iterates over a snapshot of the entries; removing an element through the iterator removes it from the cache.
+     */
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                final Iterator<Entry<String, Object>> snapshot = snapshot().iterator();
+                return new Iterator<>() {
+                    private Entry<String, Object> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return snapshot.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        current = snapshot.next();
+                        return current;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (isNull(current)) {
+                            throw new IllegalStateException();
+                        }
+                        BoundedCacheMap.this.remove(current.getKey());
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return BoundedCacheMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Copies the current entries.
+     * @return the copied entries
+     */
+    private List<Entry<String, Object>> snapshot() {
+        final List<Entry<String, Object>> snapshot = new ArrayList<>(entries.size());
+        for (Map.Entry<String, CacheEntry> entry : entries.entrySet()) {
+            snapshot.add(new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().value));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Records a read of the given key in the read buffer of the current thread and, if the buffer needs to be applied and the eviction
+     * lock is free, applies all the read buffers.
+     * @param key the key read
+     */
+    private void recordRead(final Object key) {
+        final ReadBuffer readBuffer = readBuffers[Thread.currentThread().hashCode() & (READ_BUFFERS - 1)];
+        if (readBuffer.offer(key) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Applies the reads recorded in the read buffers to the access order and to the frequency sketch.
+     * It has to be called holding the eviction lock.
+     */
+    private void drainReadBuffers() {
+        for (ReadBuffer readBuffer : readBuffers) {
+            readBuffer.drainTo(this::applyRead);
+        }
+    }
+
+    /**
+     * Applies a read of the given key to the access order and to the frequency sketch.
+     * @param key the key read
+     */
+    private void applyRead(final Object key) {
+        recordUsage(key);
+        accessOrder.get(key);
+    }
+
+    /**
+     * Removes the given expired entry, unless it has been replaced in the meantime.
+     * @param key the entry key
+     * @param entry the expired entry
+     */
+    private void removeExpired(final String key, final CacheEntry entry) {
+        evictionLock.lock();
+        try {
+            if (entries.remove(key, entry)) {
+                accessOrder.remove(key);
+                evictionListener.accept(key);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Evicts the least recently used entry for making room to the given key.
+     * @param key the key to add
+     * @return true if an entry has been evicted, false if the given key is not admitted
+     */
+    private boolean evictFor(final String key) {
+        final Iterator<String> keys = accessOrder.keySet().iterator();
+        final String victim = keys.next();
+        if (nonNull(frequencySketch) && frequencySketch.frequency(key) <= frequencySketch.frequency(victim)) {
+            evictionListener.accept(key);
+            return false;
+        }
+        keys.remove();
+        entries.remove(victim);
+        evictionListener.accept(victim);
+        return true;
+    }
+
+    /**
+     * Removes the expired entries. As the access order can lag behind the last access times of the entries read but not applied yet,
+     * all the entries are checked, once the earliest time at which one of them can expire has been reached.
+     * @param now the current time
+     */
+    private void removeExpiredEntries(final long now) {
+        if (!expiring || now - nextExpirationTime < 0) {
+            return;
+        }
+        long timeToNextExpiration = expireAfterAccessNanos;
+        final Iterator<String> keys = accessOrder.keySet().iterator();
+        while (keys.hasNext()) {
+            final String key = keys.next();
+            final CacheEntry entry = entries.get(key);
+            if (isExpired(entry, now)) {
+                keys.remove();
+                entries.remove(key);
+                evictionListener.accept(key);
+            } else {
+                timeToNextExpiration = min(timeToNextExpiration, entry.lastAccess + expireAfterAccessNanos - now);
+            }
+        }
+        nextExpirationTime = now + timeToNextExpiration;
+    }
+
+    /**
+     * Records a usage of the given key in the frequency sketch (if any).
+     * It has to be called holding the eviction lock.
+     * @param key the key
+     */
+    private void recordUsage(final Object key) {
+        if (nonNull(frequencySketch)) {
+            frequencySketch.increment(key);
+        }
+    }
+
+    /**
+     * Returns the current time if the entries expire.
+     * @return the current time in nanoseconds or 0 if the entries never expire
+     */
+    private long currentTime() {
+        return expiring ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Checks if the given entry is expired.
+     * @param entry the cache entry
+     * @param now the current time
+     * @return true if the entry is expired
+     */
+    private boolean isExpired(final CacheEntry entry, final long now) {
+        return expiring && now - entry.lastAccess >= expireAfterAccessNanos;
+    }
+
+    /**
+     * A cached value and its last access time.
+     */
+    private static final class CacheEntry {
+        /**
+         * The cached value.
+         */
+        private volatile Object value;
+
+        /**
+         * The last access time in nanoseconds.
+         */
+        private volatile long lastAccess;
+
+        /**
+         * Creates a cache entry.
+         * @param value the cached value
+         * @param lastAccess the creation time
+         */
+        private CacheEntry(final Object value, final long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * A bounded buffer of the keys read, filled by many threads without locking and applied by the thread holding the eviction lock.
+     * Once the buffer is full, a new read overwrites the oldest one not applied yet.
+     */
+    private static final class ReadBuffer {
+        /**
+         * The mask giving the slot of a read from its sequence number.
+         */
+        private static final int MASK = READ_BUFFER_SIZE - 1;
+
+        /**
+         * The mask giving, from the sequence number of a read, the reads recorded since the buffer has been applied the last time.
+         */
+        private static final int DRAIN_MASK = READ_BUFFER_DRAIN_THRESHOLD - 1;
+
+        /**
+         * The keys read, by slot.
+         */
+        private final AtomicReferenceArray<Object> keys = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+
+        /**
+         * The number of reads recorded.
+         */
+        private final AtomicInteger writeCount = new AtomicInteger();
+
+        /**
+         * Records a read of the given key.
+         * @param key the key read
+         * @return true once every drain threshold reads, when the buffer needs to be applied
+         */
+        private boolean offer(final Object key) {
+            final int sequence = writeCount.getAndIncrement();
+            keys.lazySet(sequence & MASK, key);
+            return (sequence & DRAIN_MASK) == DRAIN_MASK;
+        }
+
+        /**
+         * Passes the recorded reads to the given consumer and empties their slots.
+         * @param consumer the consumer of the keys read
+         */
+        private void drainTo(final Consumer<Object> consumer) {
+            for (int slot = 0; slot < READ_BUFFER_SIZE; slot++) {
+                if (nonNull(keys.get(slot))) {
+                    consumer.accept(keys.getAndSet(slot, null));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.cache;
+
+import static java.util.Objects.nonNull;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The configuration of a cache created by the {@link CacheManagerFactory}.
+ * By default the cache is unbounded and its entries never expire.
+ */
+@Getter
+@Builder
+public class CacheConfig {
+    /**
+     * The configuration of an unbounded cache whose entries never expire.
+     */
+    public static final CacheConfig UNBOUNDED = CacheConfig.builder().build();
+
+    /**
+     * The maximum number of entries the cache can contain.
+     * If lower or equal to 0 the cache is unbounded.
+     * It bounds only the objects cached by key: the ones cached with their owner class, through
+     * {@link CacheManager#cacheObject(Class, String, Object)}, are released together with their class and are not counted.
+     */
+    private final int maximumSize;
+
+    /**
+     * The policy adopted for choosing the entries to discard once the maximum size is reached.
+     */
+    @Builder.Default
+    private final EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+    /**
+     * The time after which an entry that has not been read or written expires.
+     * If null the entries never expire.
+     */
+    private final Duration expireAfterAccess;
+
+    /**
+     * True if the cache statistics have to be recorded, see {@link CacheStats}.
+     * It's enabled by default; disabling it removes the counters update and the load time measurement from every cache access, and the
+     * statistics report only the cache size.
+     */
+    @Builder.Default
+    private final boolean statsEnabled = true;
+
+    /**
+     * True if the statistics have to be recorded also for each key prefix (e.g. {@code ClassDeclaredFields}), see {@link CacheStats}.
+     * It's disabled by default as it requires a lookup of the prefix counters for every cache access. It has no effect if the statistics
+     * are disabled.
+     */
+    private final boolean keyPrefixStatsEnabled;
+
+    /**
+     * Checks if the cache has a maximum size.
+     * @return true if the cache has a maximum size
+     */
+    public boolean isBounded() {
+        return maximumSize > 0;
+    }
+
+    /**
+     * Checks if the cache entries expire.
+     * @return true if the entries expire after the configured time
+     */
+    public boolean isExpiring() {
+        return nonNull(expireAfterAccess);
+    }
+}
@@ -15,13 +15,19 @@
  */
 package com.expediagroup.transformer.cache;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 
 import static lombok.AccessLevel.PROTECTED;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import lombok.AllArgsConstructor;
 
@@ -30,11 +36,59 @@ import lombok.AllArgsConstructor;
  */
 @AllArgsConstructor(access = PROTECTED)
 public final class CacheManager {
+    /**
+     * The separator of the parts of the cache keys.
+     */
+    private static final String CACHE_KEY_SEPARATOR = "-";
+
     /**
      * Cache store.
      */
     private final Map<String, Object> cacheMap;
 
+    /**
+     * The cache statistics recorder.
+     */
+    private final CacheStatsRecorder statsRecorder;
+
+    /**
+     * The keys cached through {@link #cacheObject(String, String, String, Object)}, by namespace and group.
+     * It allows removing all the keys of a namespace, or of a group, without scanning the whole cache.
+     */
+    private final Map<String, Map<String, Set<String>>> namespaceIndex = new ConcurrentHashMap<>();
+
+    /**
+     * The group of the {@link #namespaceIndex} containing each indexed key.
+     * It allows removing a key from the index once it's evicted or removed from the cache.
+     */
+    private final Map<String, Set<String>> indexedKeyGroups = new ConcurrentHashMap<>();
+
+    /**
+     * The objects cached through {@link #cacheObject(Class, String, Object)}, by owner class.
+     * As the objects are stored with their owner class, they don't prevent its class loader from being garbage collected.
+     */
+    private final ClassScopedValue<Map<String, Object>> classCacheMaps = new ClassScopedValue<>(type -> new ConcurrentHashMap<>());
+
+    /**
+     * Creates a cache manager on the given store.
+     * @param cacheMap the cache store
+     */
+    protected CacheManager(final Map<String, Object> cacheMap) {
+        this(cacheMap, new CacheStatsRecorder(true, false));
+    }
+
+    /**
+     * Creates a cache manager with the given configuration.
+     * A bounded or expiring store notifies the cache manager of each evicted entry, so that it's recorded in the statistics and
+     * removed from the namespace index.
+     * @param cacheConfig the cache configuration
+     */
+    CacheManager(final CacheConfig cacheConfig) {
+        this.statsRecorder = new CacheStatsRecorder(cacheConfig.isStatsEnabled(), cacheConfig.isKeyPrefixStatsEnabled());
+        this.cacheMap = cacheConfig.isBounded() || cacheConfig.isExpiring()
+                ? new BoundedCacheMap(cacheConfig, this::onEviction) : new ConcurrentHashMap<>();
+    }
+
     /**
      * Caches the given object.
      * @param cacheKey the cache key.
@@ -53,10 +107,53 @@ public final class CacheManager {
      * @param <T> the class object type.
      */
     public <T> void cacheObject(final String cacheKey, final T object, final Object defaultValue) {
+        cacheObject(cacheMap, cacheKey, object, defaultValue);
+    }
+
+    /**
+     * Caches the given object referencing the given class (e.g. its fields, methods or constructors).
+     * The object is stored with the class, so it's released as soon as the class loader that defined the class is garbage collected
+     * or evicted through {@link CacheManagerFactory#evict(ClassLoader)}. It's not counted in the maximum size of the cache.
+     * @param owner the class the object refers to
+     * @param cacheKey the cache key.
+     * @param object the object to cache.
+     * @param <T> the class object type.
+     */
+    public <T> void cacheObject(final Class<?> owner, final String cacheKey, final T object) {
+        cacheObject(owner, cacheKey, object, null);
+    }
+
+    /**
+     * Caches the given object referencing the given class (e.g. its fields, methods or constructors).
+     * The object is stored with the class, so it's released as soon as the class loader that defined the class is garbage collected
+     * or evicted through {@link CacheManagerFactory#evict(ClassLoader)}.
+     * @param owner the class the object refers to
+     * @param cacheKey the cache key.
+     * @param object the object to cache.
+     * @param defaultValue a default value to add to cache if the object it null
+     * @param <T> the class object type.
+     */
+    public <T> void cacheObject(final Class<?> owner, final String cacheKey, final T object, final Object defaultValue) {
+        cacheObject(classCacheMaps.get(owner), cacheKey, object, defaultValue);
+    }
+
+    /**
+     * Caches the given object, indexing its key under the given namespace and group.
+     * The object can then be removed together with all the others of the same namespace, or group, through
+     * {@link #removeNamespace(String)} and {@link #removeNamespace(String, String)}.
+     * @param namespace the namespace of the key (e.g. the kind of cached object)
+     * @param group the group of the key inside the namespace (e.g. the field the cached object refers to)
+     * @param cacheKey the cache key.
+     * @param object the object to cache.
+     * @param <T> the class object type.
+     */
+    public <T> void cacheObject(final String namespace, final String group, final String cacheKey, final T object) {
         if (nonNull(object)) {
-            cacheMap.put(cacheKey, object);
-        } else if (nonNull(defaultValue)) {
-            cacheMap.put(cacheKey, defaultValue);
+            final Set<String> groupKeys = namespaceIndex.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(group, k -> ConcurrentHashMap.newKeySet());
+            groupKeys.add(cacheKey);
+            indexedKeyGroups.put(cacheKey, groupKeys);
+            cacheObject(cacheKey, object);
         }
     }
 
@@ -68,7 +165,19 @@ public final class CacheManager {
      * @return the cached object or {@code Optional.empty()} if not existing.
      */
     public <T> Optional<T> getFromCache(final String cacheKey, final Class<? extends T> objectClass) {
-        return ofNullable(cacheMap.get(cacheKey)).map(objectClass::cast);
+        return getFromCache(cacheMap, cacheKey, objectClass);
+    }
+
+    /**
+     * Retrieves an object cached through {@link #cacheObject(Class, String, Object)}.
+     * @param owner the class the object refers to
+     * @param cacheKey the cache key.
+     * @param objectClass the class of the object to return.
+     * @param <T> the class object type.
+     * @return the cached object or {@code Optional.empty()} if not existing.
+     */
+    public <T> Optional<T> getFromCache(final Class<?> owner, final String cacheKey, final Class<? extends T> objectClass) {
+        return getFromCache(classCacheMaps.get(owner), cacheKey, objectClass);
     }
 
     /**
@@ -76,14 +185,154 @@ public final class CacheManager {
      * @param cacheKey the cache key.
      */
     public void removeFromCache(final String cacheKey) {
-        ofNullable(cacheKey).ifPresent(cacheMap::remove);
+        ofNullable(cacheKey).ifPresent(this::removeKey);
+    }
+
+    /**
+     * Removes all the objects cached under the given namespace.
+     * @param namespace the namespace
+     */
+    public void removeNamespace(final String namespace) {
+        ofNullable(namespaceIndex.remove(namespace))
+                .ifPresent(groups -> groups.values().forEach(this::removeKeys));
+    }
+
+    /**
+     * Removes all the objects cached under the given group of the given namespace.
+     * @param namespace the namespace
+     * @param group the group inside the namespace
+     */
+    public void removeNamespace(final String namespace, final String group) {
+        ofNullable(namespaceIndex.get(namespace))
+                .map(groups -> groups.remove(group))
+                .ifPresent(this::removeKeys);
     }
 
     /**
      * Removes all items matching with the given regex.
+     * It scans all the cached keys, hence {@link #removeNamespace(String)} should be preferred for the objects cached under a namespace.
      * @param regex the regex key.
      */
     public void removeMatchingKeys(final String regex) {
-        cacheMap.keySet().removeIf(key -> key.matches(regex));
+        final Pattern pattern = Pattern.compile(regex);
+        for (String cacheKey : cacheMap.keySet()) {
+            if (pattern.matcher(cacheKey).matches()) {
+                removeKey(cacheKey);
+            }
+        }
+    }
+
+    /**
+     * Caches the given object in the given store.
+     * @param store the cache store
+     * @param cacheKey the cache key.
+     * @param object the object to cache.
+     * @param defaultValue a default value to add to cache if the object it null
+     */
+    private void cacheObject(final Map<String, Object> store, final String cacheKey, final Object object, final Object defaultValue) {
+        if (nonNull(object)) {
+            store.put(cacheKey, object);
+            statsRecorder.recordLoad(cacheKey);
+        } else if (nonNull(defaultValue)) {
+            store.put(cacheKey, defaultValue);
+            statsRecorder.recordLoad(cacheKey);
+        }
+    }
+
+    /**
+     * Retrieves an object from the given store.
+     * @param store the cache store
+     * @param cacheKey the cache key.
+     * @param objectClass the class of the object to return.
+     * @param <T> the class object type.
+     * @return the cached object or {@code Optional.empty()} if not existing.
+     */
+    private <T> Optional<T> getFromCache(final Map<String, Object> store, final String cacheKey, final Class<? extends T> objectClass) {
+        final Object cached = store.get(cacheKey);
+        if (isNull(cached)) {
+            statsRecorder.recordMiss(cacheKey);
+            return Optional.empty();
+        }
+        statsRecorder.recordHit(cacheKey);
+        return Optional.of(objectClass.cast(cached));
+    }
+
+    /**
+     * Removes the given keys from the cache.
+     * @param cacheKeys the keys to remove
+     */
+    private void removeKeys(final Set<String> cacheKeys) {
+        cacheKeys.forEach(this::removeKey);
+    }
+
+    /**
+     * Removes the given key from the cache and from the namespace index.
+     * @param cacheKey the cache key
+     */
+    private void removeKey(final String cacheKey) {
+        cacheMap.remove(cacheKey);
+        unindex(cacheKey);
+    }
+
+    /**
+     * Records the eviction of the given key and removes it from the namespace index.
+     * @param cacheKey the evicted key
+     */
+    private void onEviction(final String cacheKey) {
+        statsRecorder.recordEviction(cacheKey);
+        unindex(cacheKey);
+    }
+
+    /**
+     * Removes the given key from the namespace index (if indexed).
+     * @param cacheKey the cache key
+     */
+    private void unindex(final String cacheKey) {
+        ofNullable(indexedKeyGroups.remove(cacheKey)).ifPresent(groupKeys -> groupKeys.remove(cacheKey));
+    }
+
+    /**
+     * Returns the current statistics of the cache.
+     * @param cacheName the cache name
+     * @return the cache statistics
+     */
+    CacheStats getStats(final String cacheName) {
+        return statsRecorder.snapshot(cacheName, cacheMap);
+    }
+
+    /**
+     * Removes the objects whose key contains the name of one of the given classes.
+     * The objects cached with the classes as owner are removed by {@link CacheManagerFactory#evict(ClassLoader)}.
+     * @param classes the classes to evict
+     */
+    void evict(final Collection<Class<?>> classes) {
+        final Set<String> classNames = new HashSet<>();
+        for (Class<?> clazz : classes) {
+            classNames.add(clazz.getName());
+        }
+        for (String cacheKey : cacheMap.keySet()) {
+            if (containsKeyPart(cacheKey, classNames)) {
+                removeKey(cacheKey);
+            }
+        }
+    }
+
+    /**
+     * Checks if one of the parts of the given key, delimited by {@link #CACHE_KEY_SEPARATOR}, is contained in the given set.
+     * @param cacheKey the cache key
+     * @param keyParts the key parts to look for
+     * @return true if the key contains one of the given parts
+     */
+    private static boolean containsKeyPart(final String cacheKey, final Set<String> keyParts) {
+        int start = 0;
+        int end;
+        do {
+            end = cacheKey.indexOf(CACHE_KEY_SEPARATOR, start);
+            if (keyParts.contains(end < 0 ? cacheKey.substring(start) : cacheKey.substring(start, end))) {
+                return true;
+            }
+            start = end + CACHE_KEY_SEPARATOR.length();
+        } while (end >= 0);
+        return false;
     }
 }
@@ -15,11 +15,21 @@
  */
 package com.expediagroup.transformer.cache;
 
+import static java.util.Collections.newSetFromMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 import static com.expediagroup.transformer.validator.Validator.notNull;
 
 import static lombok.AccessLevel.PRIVATE;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.NoArgsConstructor;
@@ -30,17 +40,98 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = PRIVATE)
 public final class CacheManagerFactory {
     /**
-     * Cache store.
+     * The cache managers, by cache name.
+     */
+    private static final Map<String, CacheManager> CACHE_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * The classes owning cached objects, by defining class loader.
+     * Both the class loaders and the classes are weakly referenced, so they can be garbage collected once the application is undeployed.
      */
-    private static final Map<String, Map<String, Object>> CACHE_MAP = new ConcurrentHashMap<>();
+    private static final Map<ClassLoader, Set<Class<?>>> CLASSES_BY_CLASS_LOADER = new WeakHashMap<>();
 
     /**
-     * Creates a new {@link CacheManager} instance.
+     * Returns the {@link CacheManager} instance of the given cache.
+     * If the cache does not exist yet, it's created unbounded.
      * @param cacheName the cache name
      * @return a cache manager instance
      */
     public static CacheManager getCacheManager(final String cacheName) {
+        return getCacheManager(cacheName, CacheConfig.UNBOUNDED);
+    }
+
+    /**
+     * Returns the {@link CacheManager} instance of the given cache.
+     * The configuration is applied only if the cache does not exist yet, otherwise the existing cache is used.
+     * Hence, the caches used by the library (e.g. {@code classUtils}, {@code reflectionUtils}, {@code beanTransformer}) have to be configured
+     * before creating any transformer.
+     * @param cacheName the cache name
+     * @param cacheConfig the cache configuration
+     * @return a cache manager instance
+     */
+    public static CacheManager getCacheManager(final String cacheName, final CacheConfig cacheConfig) {
+        notNull(cacheName, "cacheName cannot be null!");
+        notNull(cacheConfig, "cacheConfig cannot be null!");
+        return CACHE_MAP.computeIfAbsent(cacheName, k -> createCacheManager(cacheConfig));
+    }
+
+    /**
+     * Removes, from all the caches, the objects related to the classes defined by the given class loader.
+     * The objects are released anyway once the class loader is garbage collected, this allows releasing them as soon as an
+     * application is undeployed and removes also the objects cached by class name.
+     * @param classLoader the class loader
+     */
+    public static void evict(final ClassLoader classLoader) {
+        notNull(classLoader, "classLoader cannot be null!");
+        final List<Class<?>> classes;
+        synchronized (CLASSES_BY_CLASS_LOADER) {
+            final Set<Class<?>> registeredClasses = CLASSES_BY_CLASS_LOADER.remove(classLoader);
+            classes = isNull(registeredClasses) ? List.of() : new ArrayList<>(registeredClasses);
+        }
+        ClassScopedValue.evict(classLoader, classes);
+        CACHE_MAP.values().forEach(cacheManager -> cacheManager.evict(classes));
+    }
+
+    /**
+     * Registers a class owning cached objects, so that they can be evicted together with its class loader.
+     * It's invoked by {@link ClassScopedValue} the first time a value is stored with a class.
+     * @param clazz the class
+     */
+    static void registerClass(final Class<?> clazz) {
+        final ClassLoader classLoader = clazz.getClassLoader();
+        if (nonNull(classLoader)) {
+            synchronized (CLASSES_BY_CLASS_LOADER) {
+                CLASSES_BY_CLASS_LOADER.computeIfAbsent(classLoader, k -> newSetFromMap(new WeakHashMap<>())).add(clazz);
+            }
+        }
+    }
+
+    /**
+     * Returns the current statistics of the given cache.
+     * @param cacheName the cache name
+     * @return the cache statistics or {@code Optional.empty()} if the cache does not exist
+     */
+    public static Optional<CacheStats> getCacheStats(final String cacheName) {
         notNull(cacheName, "cacheName cannot be null!");
-        return new CacheManager(CACHE_MAP.computeIfAbsent(cacheName, k -> new ConcurrentHashMap<>()));
+        return Optional.ofNullable(CACHE_MAP.get(cacheName)).map(cacheManager -> cacheManager.getStats(cacheName));
+    }
+
+    /**
+     * Returns the current statistics of all the existing caches.
+     * @return the cache statistics, by cache name
+     */
+    public static Map<String, CacheStats> getCacheStats() {
+        final Map<String, CacheStats> cacheStats = new TreeMap<>();
+        CACHE_MAP.forEach((cacheName, cacheManager) -> cacheStats.put(cacheName, cacheManager.getStats(cacheName)));
+        return cacheStats;
+    }
+
+    /**
+     * Creates the cache manager for the given configuration.
+     * @param cacheConfig the cache configuration
+     * @return the cache manager
+     */
+    private static CacheManager createCacheManager(final CacheConfig cacheConfig) {
+        return new CacheManager(cacheConfig);
     }
 }
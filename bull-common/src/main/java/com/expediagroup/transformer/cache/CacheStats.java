@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.cache;
+
+import static java.util.Collections.emptyMap;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The statistics of a cache, or of the keys of a cache sharing the same prefix, at the time they have been retrieved.
+ * The key prefix is the part of the key preceding the first {@code -} (e.g. {@code ClassDeclaredFields}).
+ */
+@Getter
+@Builder
+public class CacheStats {
+    /**
+     * The cache name or the key prefix.
+     */
+    private final String name;
+
+    /**
+     * The number of lookups that found a cached value.
+     */
+    private final long hitCount;
+
+    /**
+     * The number of lookups that did not find a cached value.
+     */
+    private final long missCount;
+
+    /**
+     * The number of values added to the cache.
+     */
+    private final long loadCount;
+
+    /**
+     * The time, in nanoseconds, spent computing the values added to the cache after a miss.
+     */
+    private final long totalLoadTime;
+
+    /**
+     * The number of entries evicted, expired or not admitted by a bounded cache.
+     */
+    private final long evictionCount;
+
+    /**
+     * The number of entries in the cache.
+     */
+    private final long size;
+
+    /**
+     * The statistics of each key prefix. Empty if the key prefix statistics are not enabled or for the statistics of a key prefix.
+     */
+    @Builder.Default
+    private final Map<String, CacheStats> keyPrefixStats = emptyMap();
+
+    /**
+     * Returns the number of lookups.
+     * @return the number of hits and misses
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio between the hits and the lookups.
+     * @return the hit rate or 1 if there has been no lookups
+     */
+    public double getHitRate() {
+        final long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns the average time spent computing a value added to the cache.
+     * @return the average load time in nanoseconds or 0 if no value has been added
+     */
+    public double getAverageLoadPenalty() {
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+}
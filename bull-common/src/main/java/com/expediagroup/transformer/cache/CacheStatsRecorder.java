@@ -0,0 +1,230 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.cache;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the statistics of a cache and, if enabled, of each key prefix.
+ * If the statistics are disabled, nothing is recorded and the cache reports only its size.
+ * The load time is measured from the miss of a key to the caching of its value on the same thread, so it's recorded only for the values
+ * computed after a lookup, that is the way the library populates its caches.
+ */
+final class CacheStatsRecorder {
+    /**
+     * The character separating the key prefix from the rest of the key.
+     */
+    private static final char KEY_PREFIX_SEPARATOR = '-';
+
+    /**
+     * The maximum number of misses, per thread, waiting for the related value to be cached.
+     */
+    private static final int MAX_PENDING_LOADS = 32;
+
+    /**
+     * The misses, per thread, waiting for the related value to be cached. The most recent is the first.
+     */
+    private static final ThreadLocal<Deque<PendingLoad>> PENDING_LOADS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * The counters of the whole cache.
+     */
+    private final StatsCounter cacheCounter = new StatsCounter();
+
+    /**
+     * The counters of each key prefix.
+     */
+    private final Map<String, StatsCounter> keyPrefixCounters = new ConcurrentHashMap<>();
+
+    /**
+     * True if the statistics are recorded.
+     */
+    private final boolean statsEnabled;
+
+    /**
+     * True if the statistics are recorded also for each key prefix.
+     */
+    private final boolean keyPrefixStatsEnabled;
+
+    /**
+     * Creates a statistics recorder.
+     * @param statsEnabled true if the statistics have to be recorded
+     * @param keyPrefixStatsEnabled true if the statistics have to be recorded also for each key prefix
+     */
+    CacheStatsRecorder(final boolean statsEnabled, final boolean keyPrefixStatsEnabled) {
+        this.statsEnabled = statsEnabled;
+        this.keyPrefixStatsEnabled = statsEnabled && keyPrefixStatsEnabled;
+    }
+
+    /**
+     * Records a hit.
+     * @param cacheKey the cache key
+     */
+    void recordHit(final String cacheKey) {
+        if (!statsEnabled) {
+            return;
+        }
+        cacheCounter.recordHit();
+        if (keyPrefixStatsEnabled) {
+            getKeyPrefixCounter(cacheKey).recordHit();
+        }
+    }
+
+    /**
+     * Records a miss.
+     * @param cacheKey the cache key
+     */
+    void recordMiss(final String cacheKey) {
+        if (!statsEnabled) {
+            return;
+        }
+        cacheCounter.recordMiss();
+        if (keyPrefixStatsEnabled) {
+            getKeyPrefixCounter(cacheKey).recordMiss();
+        }
+        final Deque<PendingLoad> pendingLoads = PENDING_LOADS.get();
+        if (pendingLoads.size() == MAX_PENDING_LOADS) {
+            pendingLoads.removeLast();
+        }
+        pendingLoads.push(new PendingLoad(this, cacheKey, System.nanoTime()));
+    }
+
+    /**
+     * Records a load.
+     * @param cacheKey the cache key
+     */
+    void recordLoad(final String cacheKey) {
+        if (!statsEnabled) {
+            return;
+        }
+        final long loadTime = getLoadTime(cacheKey);
+        cacheCounter.recordLoad(loadTime);
+        if (keyPrefixStatsEnabled) {
+            getKeyPrefixCounter(cacheKey).recordLoad(loadTime);
+        }
+    }
+
+    /**
+     * Records an eviction.
+     * @param cacheKey the evicted key
+     */
+    void recordEviction(final String cacheKey) {
+        if (!statsEnabled) {
+            return;
+        }
+        cacheCounter.recordEviction();
+        if (keyPrefixStatsEnabled) {
+            getKeyPrefixCounter(cacheKey).recordEviction();
+        }
+    }
+
+    /**
+     * Returns the current statistics.
+     * @param cacheName the cache name
+     * @param cacheMap the cache store
+     * @return the cache statistics
+     */
+    CacheStats snapshot(final String cacheName, final Map<String, Object> cacheMap) {
+        if (!keyPrefixStatsEnabled) {
+            return cacheCounter.snapshot(cacheName, cacheMap.size(), emptyMap());
+        }
+        final Map<String, Long> keyPrefixSizes = cacheMap.keySet().stream()
+                .collect(groupingBy(CacheStatsRecorder::getKeyPrefix, counting()));
+        final Map<String, CacheStats> keyPrefixStats = new TreeMap<>();
+        keyPrefixCounters.forEach((keyPrefix, counter) ->
+                keyPrefixStats.put(keyPrefix, counter.snapshot(keyPrefix, keyPrefixSizes.getOrDefault(keyPrefix, 0L), emptyMap())));
+        return cacheCounter.snapshot(cacheName, cacheMap.size(), unmodifiableMap(keyPrefixStats));
+    }
+
+    /**
+     * Returns the counters of the prefix of the given key.
+     * @param cacheKey the cache key
+     * @return the key prefix counters
+     */
+    private StatsCounter getKeyPrefixCounter(final String cacheKey) {
+        return keyPrefixCounters.computeIfAbsent(getKeyPrefix(cacheKey), k -> new StatsCounter());
+    }
+
+    /**
+     * Returns the time elapsed since the miss of the given key on the current thread.
+     * The misses more recent than the given key one are discarded as their values have not been cached.
+     * @param cacheKey the cache key
+     * @return the load time in nanoseconds or 0 if the key has been cached without a previous miss
+     */
+    private long getLoadTime(final String cacheKey) {
+        final Deque<PendingLoad> pendingLoads = PENDING_LOADS.get();
+        if (!isPending(pendingLoads, cacheKey)) {
+            return 0;
+        }
+        PendingLoad pendingLoad;
+        do {
+            pendingLoad = pendingLoads.pop();
+        } while (!pendingLoad.isFor(this, cacheKey));
+        return System.nanoTime() - pendingLoad.startTime();
+    }
+
+    /**
+     * Checks if the given pending loads contain the miss of the given key.
+     * @param pendingLoads the misses of the current thread waiting for the related value to be cached
+     * @param cacheKey the cache key
+     * @return true if the key miss is pending
+     */
+    private boolean isPending(final Deque<PendingLoad> pendingLoads, final String cacheKey) {
+        for (PendingLoad pendingLoad : pendingLoads) {
+            if (pendingLoad.isFor(this, cacheKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the prefix of the given key.
+     * @param cacheKey the cache key
+     * @return the part of the key preceding the first separator or the whole key if there is no separator
+     */
+    private static String getKeyPrefix(final String cacheKey) {
+        final int separatorIndex = cacheKey.indexOf(KEY_PREFIX_SEPARATOR);
+        return separatorIndex < 0 ? cacheKey : cacheKey.substring(0, separatorIndex);
+    }
+
+    /**
+     * A miss waiting for the related value to be cached.
+     * @param recorder the recorder of the cache that missed the key
+     * @param cacheKey the missed key
+     * @param startTime the time of the miss in nanoseconds
+     */
+    private record PendingLoad(CacheStatsRecorder recorder, String cacheKey, long startTime) {
+        /**
+         * Checks if this is the miss of the given key in the given cache.
+         * @param cacheRecorder the cache statistics recorder
+         * @param key the cache key
+         * @return true if this is the miss of the given key in the given cache
+         */
+        private boolean isFor(final CacheStatsRecorder cacheRecorder, final String key) {
+            return recorder == cacheRecorder && cacheKey.equals(key);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.cache;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
+import static java.util.Objects.nonNull;
+
+import static com.expediagroup.transformer.validator.Validator.notNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A value lazily computed for each class, that never prevents the class loader of this library from being garbage collected.
+ * A {@link ClassValue} stores its values in the class they are computed for, so a value computed for a class defined by a parent class
+ * loader (e.g. a JDK class, when the library is deployed inside a web application) would keep the library class loader reachable as
+ * long as the parent one (see JDK-8136353). Hence, the values are stored through a {@link ClassValue} only for the classes defined by
+ * the library class loader or by one of its descendants; the values of any other class are kept by this instance.
+ * In both cases the values related to a class loader are released by {@link CacheManagerFactory#evict(ClassLoader)}.
+ * The class loaders are compared only for the classes not defined by the library class loader and not found among the ones kept by
+ * this instance, i.e. on the first request for a class of another class loader and for the classes of the descendant class loaders.
+ * @param <T> the value type
+ */
+public final class ClassScopedValue<T> {
+    /**
+     * The class loader that defined this library.
+     */
+    private static final ClassLoader LIBRARY_CLASS_LOADER = ClassScopedValue.class.getClassLoader();
+
+    /**
+     * The existing instances, weakly referenced, in order to evict their values on request.
+     */
+    private static final Set<ClassScopedValue<?>> INSTANCES = synchronizedSet(newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * The values of the classes defined by the library class loader or by one of its descendants.
+     */
+    private final ClassValue<T> classValue;
+
+    /**
+     * The values of the classes not defined by the library class loader or by one of its descendants.
+     */
+    private final Map<Class<?>, T> foreignValues = new ConcurrentHashMap<>();
+
+    /**
+     * The classes whose value is stored through the {@link ClassValue}, weakly referenced, in order to remove all the values on request.
+     */
+    private final Set<Class<?>> classValueTypes = synchronizedSet(newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * The function computing the value of a class.
+     */
+    private final Function<Class<?>, ? extends T> valueFactory;
+
+    /**
+     * Creates a class scoped value computed through the given function.
+     * @param valueFactory the function computing the value of a class
+     */
+    public ClassScopedValue(final Function<Class<?>, ? extends T> valueFactory) {
+        notNull(valueFactory, "valueFactory cannot be null!");
+        this.valueFactory = valueFactory;
+        this.classValue = new ClassValue<>() {
+            @Override
+            protected T computeValue(final Class<?> type) {
+                CacheManagerFactory.registerClass(type);
+                classValueTypes.add(type);
+                return valueFactory.apply(type);
+            }
+        };
+        INSTANCES.add(this);
+    }
+
+    /**
+     * Returns the value of the given class, computing it if not existing yet.
+     * @param clazz the class
+     * @return the class value
+     */
+    public T get(final Class<?> clazz) {
+        if (clazz.getClassLoader() == LIBRARY_CLASS_LOADER) {
+            return classValue.get(clazz);
+        }
+        final T value = foreignValues.get(clazz);
+        if (nonNull(value)) {
+            return value;
+        }
+        return isDefinedBelowLibrary(clazz) ? classValue.get(clazz) : foreignValues.computeIfAbsent(clazz, valueFactory);
+    }
+
+    /**
+     * Removes the value of the given class, that will be computed again on the next request.
+     * @param clazz the class
+     */
+    public void remove(final Class<?> clazz) {
+        if (isDefinedBelowLibrary(clazz)) {
+            classValue.remove(clazz);
+        } else {
+            foreignValues.remove(clazz);
+        }
+    }
+
+    /**
+     * Removes the values of all the classes, that will be computed again on the next request.
+     * The values computed while the instance is being cleared may be kept.
+     */
+    public void clear() {
+        final List<Class<?>> types;
+        synchronized (classValueTypes) {
+            types = new ArrayList<>(classValueTypes);
+            classValueTypes.clear();
+        }
+        types.forEach(classValue::remove);
+        foreignValues.clear();
+    }
+
+    /**
+     * Removes, from all the instances, the values of the classes defined by the given class loader.
+     * @param classLoader the class loader
+     * @param classes the classes defined by the class loader whose values are stored with the class
+     */
+    static void evict(final ClassLoader classLoader, final Collection<Class<?>> classes) {
+        final List<ClassScopedValue<?>> instances;
+        synchronized (INSTANCES) {
+            instances = new ArrayList<>(INSTANCES);
+        }
+        for (ClassScopedValue<?> instance : instances) {
+            instance.foreignValues.keySet().removeIf(clazz -> clazz.getClassLoader() == classLoader);
+            classes.forEach(instance.classValue::remove);
+        }
+    }
+
+    /**
+     * Checks if the given class is defined by the library class loader or by one of its descendants, so that storing a value in it
+     * cannot keep the library class loader reachable longer than the class itself.
+     * @param clazz the class
+     * @return true if the class is defined by the library class loader or by one of its descendants
+     */
+    private static boolean isDefinedBelowLibrary(final Class<?> clazz) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        while (classLoader != LIBRARY_CLASS_LOADER && nonNull(classLoader)) {
+            classLoader = classLoader.getParent();
+        }
+        return classLoader == LIBRARY_CLASS_LOADER;
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.cache;
+
+/**
+ * The policy adopted by a bounded cache for choosing the entries to discard once its maximum size is reached.
+ */
+public enum EvictionPolicy {
+    /**
+     * The least recently used entry is evicted to make room for the new one.
+     */
+    LRU,
+    /**
+     * The least recently used entry is evicted only if it has been requested less frequently than the new one, otherwise the new entry
+     * is not stored. The frequencies are estimated with a compact sketch that is periodically aged, so that entries that are no longer used
+     * eventually lose their priority. This keeps the frequently used entries cached even when a burst of one-off entries arrives.
+     */
+    TINY_LFU;
+
+    /**
+     * Checks if a the eviction policy instance is equal to the given one.
+     * @param evictionPolicy the {@link EvictionPolicy} to which compare
+     * @return true if this is equals to the given eviction policy
+     */
+    public boolean is(final EvictionPolicy evictionPolicy) {
+        return this == evictionPolicy;
+    }
+}
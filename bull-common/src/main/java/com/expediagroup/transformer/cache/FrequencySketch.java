@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.cache;
+
+/**
+ * Estimates how frequently each key has been used, in a fixed amount of memory.
+ * It's a count-min sketch: each key is mapped to one counter in each of the {@code DEPTH} rows and its frequency is the lowest of them.
+ * The counters saturate at {@code MAX_FREQUENCY} and are halved once the number of recorded usages reaches the sample size,
+ * so that the keys that are no longer used progressively lose their frequency.
+ * This class is not thread safe: the owner has to guard the access to it.
+ */
+final class FrequencySketch {
+    /**
+     * The number of counters associated to each key.
+     */
+    private static final int DEPTH = 4;
+
+    /**
+     * The seeds used for mapping a key to a counter in each row.
+     */
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    /**
+     * The maximum value of a counter.
+     */
+    private static final int MAX_FREQUENCY = 15;
+
+    /**
+     * The minimum number of counters per row.
+     */
+    private static final int MIN_ROW_SIZE = 16;
+
+    /**
+     * The maximum number of counters per row.
+     */
+    private static final int MAX_ROW_SIZE = 1 << 24;
+
+    /**
+     * The number of usages, per expected entry, after which the counters are halved.
+     */
+    private static final int SAMPLE_SIZE_MULTIPLIER = 10;
+
+    /**
+     * The shift applied for mixing the high bits of a hash into the low ones.
+     */
+    private static final int HASH_SHIFT = 16;
+
+    /**
+     * The counters, one row after the other.
+     */
+    private final int[] counters;
+
+    /**
+     * The mask applied to a hash for obtaining the counter index inside a row.
+     */
+    private final int rowMask;
+
+    /**
+     * The number of usages after which the counters are halved.
+     */
+    private final int sampleSize;
+
+    /**
+     * The number of usages recorded since the last halving.
+     */
+    private int additions;
+
+    /**
+     * Creates a sketch able to estimate the frequencies of the given number of entries.
+     * @param expectedSize the number of entries
+     */
+    FrequencySketch(final int expectedSize) {
+        final int rowSize = Math.min(Math.max(Integer.highestOneBit(Math.max(expectedSize - 1, 1)) << 1, MIN_ROW_SIZE), MAX_ROW_SIZE);
+        this.counters = new int[rowSize * DEPTH];
+        this.rowMask = rowSize - 1;
+        this.sampleSize = (int) Math.min((long) rowSize * SAMPLE_SIZE_MULTIPLIER, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated frequency of the given key.
+     * @param key the key
+     * @return the number of times the key has been used, up to {@code MAX_FREQUENCY}
+     */
+    int frequency(final Object key) {
+        final int hash = key.hashCode();
+        int frequency = MAX_FREQUENCY;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records a usage of the given key.
+     * @param key the key
+     */
+    void increment(final Object key) {
+        final int hash = key.hashCode();
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            final int index = indexOf(hash, row);
+            if (counters[index] < MAX_FREQUENCY) {
+                counters[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            halve();
+        }
+    }
+
+    /**
+     * Returns the index of the counter associated to the given hash in the given row.
+     * @param hash the key hash
+     * @param row the row
+     * @return the counter index
+     */
+    private int indexOf(final int hash, final int row) {
+        int h = (hash ^ SEEDS[row]) * SEEDS[row];
+        h ^= h >>> HASH_SHIFT;
+        return row * (rowMask + 1) + (h & rowMask);
+    }
+
+    /**
+     * Halves all the counters.
+     */
+    private void halve() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+        additions >>>= 1;
+    }
+}
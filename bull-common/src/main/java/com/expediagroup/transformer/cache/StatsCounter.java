@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.cache;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of a cache, or of the keys of a cache sharing the same prefix.
+ * The counters are striped, so they can be updated concurrently without contention.
+ */
+final class StatsCounter {
+    /**
+     * The number of hits.
+     */
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * The number of misses.
+     */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * The number of loads.
+     */
+    private final LongAdder loadCount = new LongAdder();
+
+    /**
+     * The load time in nanoseconds.
+     */
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    /**
+     * The number of evictions.
+     */
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Records a hit.
+     */
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    /**
+     * Records a miss.
+     */
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    /**
+     * Records a load.
+     * @param loadTime the time, in nanoseconds, spent computing the loaded value
+     */
+    void recordLoad(final long loadTime) {
+        loadCount.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    /**
+     * Records an eviction.
+     */
+    void recordEviction() {
+        evictionCount.increment();
+    }
+
+    /**
+     * Returns the current value of the counters.
+     * @param name the cache name or the key prefix
+     * @param size the number of entries
+     * @param keyPrefixStats the statistics of each key prefix
+     * @return the cache statistics
+     */
+    CacheStats snapshot(final String name, final long size, final Map<String, CacheStats> keyPrefixStats) {
+        return CacheStats.builder()
+                .name(name)
+                .hitCount(hitCount.sum())
+                .missCount(missCount.sum())
+                .loadCount(loadCount.sum())
+                .totalLoadTime(totalLoadTime.sum())
+                .evictionCount(evictionCount.sum())
+                .size(size)
+                .keyPrefixStats(keyPrefixStats)
+                .build();
+    }
+}
@@ -19,6 +19,8 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.expediagroup.transformer.error.MissingFieldException;
 
@@ -96,4 +98,38 @@ public class TransformerSettings<T> {
      */
     @Setter
     private boolean customBuilderTransformationEnabled;
+
+    /**
+     * It allows to enable/disable the lambda accessors.
+     * If true the field values are read and written through the functions bound by {@code LambdaMetafactory} to each getter and setter method.
+     */
+    @Setter
+    private boolean lambdaAccessorsEnabled;
+
+    /**
+     * The minimum number of elements a collection or an array must have for being transformed in parallel.
+     * If lower or equal to 0 the elements are always transformed sequentially.
+     */
+    @Setter
+    private int parallelismThreshold;
+
+    /**
+     * The executor on which the elements of the collections and arrays are transformed in parallel.
+     */
+    @Setter
+    private Executor parallelExecutor = ForkJoinPool.commonPool();
+
+    /**
+     * It allows to enable/disable the tracking of the transformed objects identity.
+     * If set to true each source object is transformed once within a transformation and the result is reused for all its references.
+     */
+    @Setter
+    private boolean identityTrackingEnabled;
+
+    /**
+     * It allows to enable/disable the lazy transformation of the destination interfaces.
+     * If set to true the objects transformed into an interface are proxies resolving each property the first time it's read.
+     */
+    @Setter
+    private boolean lazyTransformationEnabled;
 }
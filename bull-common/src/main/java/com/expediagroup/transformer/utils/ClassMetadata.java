@@ -0,0 +1,177 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.expediagroup.transformer.cache.ClassScopedValue;
+import com.expediagroup.transformer.constant.ClassType;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The metadata of a class used by {@link ClassUtils} and {@link ReflectionUtils}.
+ * The instance related to a class is retrieved through a {@link ClassScopedValue}, so the lookup neither builds a cache key nor casts the
+ * cached value, and it never prevents the library class loader from being garbage collected.
+ * Each item is computed the first time it's requested; concurrent computations of the same item produce equivalent values, hence the
+ * last one written wins.
+ */
+@Getter
+@Setter
+final class ClassMetadata {
+    /**
+     * The metadata of each class.
+     */
+    private static final ClassScopedValue<ClassMetadata> CLASS_METADATA = new ClassScopedValue<>(type -> new ClassMetadata());
+
+    /**
+     * True if the class is a primitive type.
+     */
+    private volatile Boolean primitiveType;
+
+    /**
+     * True if the class is a primitive or a special type.
+     */
+    private volatile Boolean primitiveOrSpecialType;
+
+    /**
+     * True if the class is an array of a primitive type.
+     */
+    private volatile Boolean primitiveTypeArray;
+
+    /**
+     * True if the instances of the class, and all the objects reachable from them, cannot change.
+     */
+    private volatile Boolean deeplyImmutable;
+
+    /**
+     * The getter method prefix used for fields of this class type.
+     */
+    private volatile String getterMethodPrefix;
+
+    /**
+     * The class type.
+     */
+    private volatile ClassType classType;
+
+    /**
+     * The declared fields, including the inherited ones, without the static fields.
+     */
+    private volatile List<Field> declaredFields;
+
+    /**
+     * The declared fields, including the inherited and the static ones.
+     */
+    private volatile List<Field> declaredFieldsWithStatic;
+
+    /**
+     * The record components, in the canonical constructor order, if the class is a record.
+     */
+    private volatile RecordComponent[] recordComponents;
+
+    /**
+     * The no args constructor.
+     */
+    private volatile Supplier<?> noArgsConstructor;
+
+    /**
+     * The all args constructor.
+     */
+    private volatile Constructor<?> allArgsConstructor;
+
+    /**
+     * The constructor parameters, by number of parameters.
+     */
+    private final Map<Integer, Parameter[]> constructorParameters = new ConcurrentHashMap<>();
+
+    /**
+     * The method handles invoking the constructors with an arguments array (if they can be created), by constructor.
+     */
+    private final Map<Constructor<?>, Optional<MethodHandle>> constructorHandles = new ConcurrentHashMap<>();
+
+    /**
+     * The declared fields, including the inherited ones, by field name.
+     */
+    private final Map<String, Field> fields = new ConcurrentHashMap<>();
+
+    /**
+     * The fields reached through a dot notation path (e.g. {@code nested.field}), by path.
+     */
+    private final Map<String, Field> nestedFields = new ConcurrentHashMap<>();
+
+    /**
+     * The field types, by field name.
+     */
+    private final Map<String, Class<?>> fieldTypes = new ConcurrentHashMap<>();
+
+    /**
+     * The generic type of the fields declared by this class, by field name.
+     */
+    private final Map<String, Optional<Class<?>>> genericFieldTypes = new ConcurrentHashMap<>();
+
+    /**
+     * The functions invoking the getter methods, by field name.
+     */
+    private final Map<String, Function<Object, Object>> getterFunctions = new ConcurrentHashMap<>();
+
+    /**
+     * The functions reading the field values (if the field or its getter method exist), by field name.
+     */
+    private final Map<String, Optional<Function<Object, Object>>> fieldReaders = new ConcurrentHashMap<>();
+
+    /**
+     * The functions reading the fields, or the nested fields reached through a dot notation path, by field name or path.
+     * Each function is replaced if requested for a field type other than the one it has been resolved for.
+     */
+    private final Map<String, ReflectionUtils.FieldPathReader> fieldPathReaders = new ConcurrentHashMap<>();
+
+    /**
+     * The functions invoking the setter methods (if any), by field name.
+     */
+    private final Map<String, Optional<BiConsumer<Object, Object>>> setterFunctions = new ConcurrentHashMap<>();
+
+    /**
+     * The functions setting the fields declared by this class through a method handle (if it can be created), by field name.
+     */
+    private final Map<String, Optional<BiConsumer<Object, Object>>> fieldWriters = new ConcurrentHashMap<>();
+
+    /**
+     * The setter methods, by field name.
+     */
+    private final Map<String, Method> setterMethods = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the metadata of the given class.
+     * @param clazz the class
+     * @return the class metadata
+     */
+    static ClassMetadata of(final Class<?> clazz) {
+        return CLASS_METADATA.get(clazz);
+    }
+}
@@ -16,9 +16,12 @@
 package com.expediagroup.transformer.utils;
 
 import static java.lang.invoke.LambdaMetafactory.metafactory;
+import static java.lang.invoke.MethodHandles.catchException;
+import static java.lang.invoke.MethodHandles.dropArguments;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.lang.invoke.MethodHandles.privateLookupIn;
 import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isAbstract;
 import static java.lang.reflect.Modifier.isFinal;
 import static java.lang.reflect.Modifier.isPrivate;
 import static java.lang.reflect.Modifier.isPublic;
@@ -45,6 +48,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.temporal.Temporal;
@@ -54,12 +58,14 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import com.expediagroup.transformer.annotation.DeeplyImmutable;
 import com.expediagroup.transformer.base.Defaults;
 import com.expediagroup.transformer.cache.CacheManager;
 import com.expediagroup.transformer.cache.CacheManagerFactory;
@@ -108,11 +114,21 @@ public final class ClassUtils {
      */
     private static final Set<Class<?>> SPECIAL_TYPES = of(Currency.class, Locale.class, Temporal.class, Date.class, Properties.class);
 
+    /**
+     * The special types whose instances cannot change.
+     */
+    private static final Set<Class<?>> IMMUTABLE_SPECIAL_TYPES = of(Currency.class, Locale.class, Temporal.class);
+
     /**
      * Method Handles lookup.
      */
     private static final MethodHandles.Lookup METHOD_HANDLES_LOOKUP = lookup();
 
+    /**
+     * Method handle raising an {@link InstanceCreationException} for the error thrown by a constructor.
+     */
+    private static final MethodHandle INSTANCE_CREATION_ERROR_HANDLER = getInstanceCreationErrorHandler();
+
     /**
      * Reflection utils instance {@link ReflectionUtils}.
      */
@@ -134,12 +150,13 @@ public final class ClassUtils {
         if (isNull(clazz)) {
             return false;
         }
-        final String cacheKey = "isPrimitiveOrSpecial-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Boolean.class).orElseGet(() -> {
-            final Boolean res = isPrimitiveType(clazz) || isSpecialType(clazz);
-            CACHE_MANAGER.cacheObject(cacheKey, res);
-            return res;
-        });
+        final ClassMetadata metadata = ClassMetadata.of(clazz);
+        Boolean res = metadata.getPrimitiveOrSpecialType();
+        if (isNull(res)) {
+            res = isPrimitiveType(clazz) || isSpecialType(clazz);
+            metadata.setPrimitiveOrSpecialType(res);
+        }
+        return res;
     }
 
     /**
@@ -148,12 +165,13 @@ public final class ClassUtils {
      * @return true if is special type, false otherwise
      */
     public boolean isPrimitiveType(final Class<?> clazz) {
-        final String cacheKey = "isPrimitive-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Boolean.class).orElseGet(() -> {
-            final Boolean res = clazz.isPrimitive() || PRIMITIVE_TYPES.contains(clazz) || clazz.isEnum();
-            CACHE_MANAGER.cacheObject(cacheKey, res);
-            return res;
-        });
+        final ClassMetadata metadata = ClassMetadata.of(clazz);
+        Boolean res = metadata.getPrimitiveType();
+        if (isNull(res)) {
+            res = clazz.isPrimitive() || PRIMITIVE_TYPES.contains(clazz) || clazz.isEnum();
+            metadata.setPrimitiveType(res);
+        }
+        return res;
     }
 
     /**
@@ -162,12 +180,13 @@ public final class ClassUtils {
      * @return true if is primitive type array, false otherwise
      */
     public boolean isPrimitiveTypeArray(final Class<?> clazz) {
-        final String cacheKey = "isPrimitiveTypeArray-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Boolean.class).orElseGet(() -> {
-            final Boolean res = clazz.isArray() && isPrimitiveType(clazz.getComponentType());
-            CACHE_MANAGER.cacheObject(cacheKey, res);
-            return res;
-        });
+        final ClassMetadata metadata = ClassMetadata.of(clazz);
+        Boolean res = metadata.getPrimitiveTypeArray();
+        if (isNull(res)) {
+            res = clazz.isArray() && isPrimitiveType(clazz.getComponentType());
+            metadata.setPrimitiveTypeArray(res);
+        }
+        return res;
     }
 
     /**
@@ -188,6 +207,52 @@ public final class ClassUtils {
         return isCustomSpecialType(clazz);
     }
 
+    /**
+     * Checks if the instances of the given class, and all the objects reachable from them, cannot change once created.
+     * A class is deeply immutable if it's a primitive type, an immutable special type, a class annotated with {@link DeeplyImmutable}, or
+     * a final class (e.g. a record) whose fields, including the inherited ones, are all final and of a deeply immutable type.
+     * @param clazz the class to check
+     * @return true if the class is deeply immutable, false otherwise
+     */
+    public boolean isDeeplyImmutable(final Class<?> clazz) {
+        final ClassMetadata metadata = ClassMetadata.of(clazz);
+        Boolean res = metadata.getDeeplyImmutable();
+        if (isNull(res)) {
+            res = isDeeplyImmutable(clazz, new HashSet<>());
+            metadata.setDeeplyImmutable(res);
+        }
+        return res;
+    }
+
+    /**
+     * Checks if the instances of the given class, and all the objects reachable from them, cannot change once created.
+     * @param clazz the class to check
+     * @param visitedClasses the classes whose fields are being checked; a field referencing one of them is considered immutable, as the
+     *                       class is immutable only if all its other fields are
+     * @return true if the class is deeply immutable, false otherwise
+     */
+    private boolean isDeeplyImmutable(final Class<?> clazz, final Set<Class<?>> visitedClasses) {
+        if (isPrimitiveType(clazz) || clazz.isAnnotationPresent(DeeplyImmutable.class)
+                || IMMUTABLE_SPECIAL_TYPES.stream().anyMatch(specialType -> specialType.isAssignableFrom(clazz))) {
+            return true;
+        }
+        if (!isFinal(clazz.getModifiers()) || clazz.isArray()) {
+            return false;
+        }
+        if (!visitedClasses.add(clazz)) {
+            return true;
+        }
+        // the fields are read without being made accessible, as the class could belong to a module not open to this one
+        for (Class<?> fieldsClass = clazz; nonNull(fieldsClass); fieldsClass = fieldsClass.getSuperclass()) {
+            for (Field field : fieldsClass.getDeclaredFields()) {
+                if (!isStatic(field.getModifiers()) && (!isFinal(field.getModifiers()) || !isDeeplyImmutable(field.getType(), visitedClasses))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks if the given class is a custom provided special type.
      * @param clazz the class to check
@@ -319,7 +384,7 @@ public final class ClassUtils {
     public List<Field> getPrivateFinalFields(final Class<?> clazz) {
         notNull(clazz, CLAZZ_CANNOT_BE_NULL);
         final String cacheKey = "PrivateFinalFields-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, List.class).orElseGet(() -> {
+        return CACHE_MANAGER.getFromCache(clazz, cacheKey, List.class).orElseGet(() -> {
             final List<Field> res = new ArrayList<>();
             if (hasSuperclass(clazz.getSuperclass())) {
                 res.addAll(getPrivateFinalFields(clazz.getSuperclass()));
@@ -327,7 +392,7 @@ public final class ClassUtils {
             stream(getDeclaredFields(clazz))
                     .filter(IS_FINAL_AND_NOT_STATIC_FIELD)
                     .forEach(res::add);
-            CACHE_MANAGER.cacheObject(cacheKey, res);
+            CACHE_MANAGER.cacheObject(clazz, cacheKey, res);
             return res;
         });
     }
@@ -379,7 +444,7 @@ public final class ClassUtils {
     public List<Field> getPrivateFields(final Class<?> clazz, final boolean skipFinal) {
         notNull(clazz, CLAZZ_CANNOT_BE_NULL);
         final String cacheKey = "PrivateFields-" + clazz.getName() + "-skipFinal-" + skipFinal;
-        return CACHE_MANAGER.getFromCache(cacheKey, List.class).orElseGet(() -> {
+        return CACHE_MANAGER.getFromCache(clazz, cacheKey, List.class).orElseGet(() -> {
             final List<Field> res = new ArrayList<>();
             if (hasSuperclass(clazz.getSuperclass())) {
                 res.addAll(getPrivateFields(clazz.getSuperclass(), skipFinal));
@@ -389,7 +454,7 @@ public final class ClassUtils {
                             && (!skipFinal || !isFinal(field.getModifiers()))
                             && !isStatic(field.getModifiers()))
                     .forEach(res::add);
-            CACHE_MANAGER.cacheObject(cacheKey, res);
+            CACHE_MANAGER.cacheObject(clazz, cacheKey, res);
             return res;
         });
     }
@@ -400,23 +465,27 @@ public final class ClassUtils {
      * @param skipStatic if true it skips the static fields otherwise all private fields are retrieved.
      * @return a list of class fields.
      */
-    @SuppressWarnings("unchecked")
     public List<Field> getDeclaredFields(final Class<?> clazz, final boolean skipStatic) {
-        final String cacheKey = "DeclaredFields-" + clazz.getName() + "-skipStatic-" + skipStatic;
-        return CACHE_MANAGER.getFromCache(cacheKey, List.class).orElseGet(() -> {
-            final List<Field> res = new ArrayList<>();
+        final ClassMetadata metadata = ClassMetadata.of(clazz);
+        List<Field> res = skipStatic ? metadata.getDeclaredFields() : metadata.getDeclaredFieldsWithStatic();
+        if (isNull(res)) {
+            res = new ArrayList<>();
             if (hasSuperclass(clazz.getSuperclass())) {
                 res.addAll(getDeclaredFields(clazz.getSuperclass(), skipStatic));
             }
-            stream(getDeclaredFields(clazz))
-                    .filter(field -> !skipStatic || !isStatic(field.getModifiers()))
-                    .forEach(field -> {
-                        field.setAccessible(true);
-                        res.add(field);
-                    });
-            CACHE_MANAGER.cacheObject(cacheKey, res);
-            return res;
-        });
+            for (Field field : getDeclaredFields(clazz)) {
+                if (!skipStatic || !isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    res.add(field);
+                }
+            }
+            if (skipStatic) {
+                metadata.setDeclaredFields(res);
+            } else {
+                metadata.setDeclaredFieldsWithStatic(res);
+            }
+        }
+        return res;
     }
 
     /**
@@ -426,9 +495,9 @@ public final class ClassUtils {
      */
     private Field[] getDeclaredFields(final Class<?> clazz) {
         final String cacheKey = "ClassDeclaredFields-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Field[].class).orElseGet(() -> {
+        return CACHE_MANAGER.getFromCache(clazz, cacheKey, Field[].class).orElseGet(() -> {
             Field[] res = clazz.getDeclaredFields();
-            CACHE_MANAGER.cacheObject(cacheKey, res);
+            CACHE_MANAGER.cacheObject(clazz, cacheKey, res);
             return res;
         });
     }
@@ -446,23 +515,17 @@ public final class ClassUtils {
 
     /**
      * Returns the concrete class of a field.
+     * The class of the given value is not cached, as it may be defined by a class loader other than the field one.
      * @param field the field for which the concrete class has to be retrieved.
      * @param fieldValue the field value.
-     * @return the concrete class of a field
+     * @return the concrete class of a field: the field type, or the field value class if the field type is an interface
      */
     public Class<?> getConcreteClass(final Field field, final Object fieldValue) {
-        final String cacheKey = "ConcreteFieldClass-" + field.getName() + "-" + field.getDeclaringClass();
-        return CACHE_MANAGER.getFromCache(cacheKey, Class.class).orElseGet(() -> {
-            Class<?> concreteType = field.getType();
-            boolean isFieldValueNull = isNull(fieldValue);
-            if (field.getType().isInterface()) {
-                concreteType = isFieldValueNull ? Object.class : fieldValue.getClass();
-            }
-            if (!isFieldValueNull) {
-                CACHE_MANAGER.cacheObject(cacheKey, concreteType);
-            }
-            return concreteType;
-        });
+        final Class<?> fieldType = field.getType();
+        if (!fieldType.isInterface()) {
+            return fieldType;
+        }
+        return isNull(fieldValue) ? Object.class : fieldValue.getClass();
     }
 
     /**
@@ -488,9 +551,9 @@ public final class ClassUtils {
     public Class[] getDeclaredClasses(final Class<?> clazz) {
         notNull(clazz, CLAZZ_CANNOT_BE_NULL);
         String cacheKey = "DeclaredClasses-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Class[].class).orElseGet(() -> {
+        return CACHE_MANAGER.getFromCache(clazz, cacheKey, Class[].class).orElseGet(() -> {
             Class[] declaredClasses = clazz.getDeclaredClasses();
-            CACHE_MANAGER.cacheObject(cacheKey, declaredClasses);
+            CACHE_MANAGER.cacheObject(clazz, cacheKey, declaredClasses);
             return declaredClasses;
         });
     }
@@ -503,7 +566,7 @@ public final class ClassUtils {
     @SuppressWarnings("unchecked")
     public Optional<Class<?>> getBuilderClass(final Class<?> targetClass) {
         String cacheKey = "BuilderClass-" + targetClass.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Optional.class).orElseGet(() -> {
+        return CACHE_MANAGER.getFromCache(targetClass, cacheKey, Optional.class).orElseGet(() -> {
             Optional<Class> res = stream(getDeclaredClasses(targetClass))
                     .filter(nestedClass -> {
                         var hasBuildMethod = true;
@@ -515,7 +578,7 @@ public final class ClassUtils {
                         return hasBuildMethod;
                     })
                     .findAny();
-            CACHE_MANAGER.cacheObject(cacheKey, res);
+            CACHE_MANAGER.cacheObject(targetClass, cacheKey, res);
             return res;
         });
     }
@@ -528,14 +591,14 @@ public final class ClassUtils {
      */
     public Method getBuildMethod(final Class<?> parentClass, final Class<?> builderClass) {
         final String cacheKey = "BuildMethod-" + builderClass.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Method.class).orElseGet(() -> {
+        return CACHE_MANAGER.getFromCache(builderClass, cacheKey, Method.class).orElseGet(() -> {
             try {
                 var method = builderClass.getDeclaredMethod(BUILD_METHOD_NAME);
                 if (!method.getReturnType().equals(parentClass)) {
                     throw new MissingMethodException("Invalid " + BUILD_METHOD_NAME + " method definition. It must returns a: " + parentClass.getCanonicalName());
                 }
                 method.setAccessible(true);
-                CACHE_MANAGER.cacheObject(cacheKey, method);
+                CACHE_MANAGER.cacheObject(builderClass, cacheKey, method);
                 return method;
             } catch (NoSuchMethodException e) {
                 throw new MissingMethodException("No Builder " + BUILD_METHOD_NAME + " method defined for class: " + builderClass.getName() + ".");
@@ -545,14 +608,44 @@ public final class ClassUtils {
 
     /**
      * Creates an instance of the given class invoking the given constructor.
+     * The constructor is invoked through a method handle spreading the arguments array, bound the first time the constructor is used,
+     * falling back to reflection if the handle cannot be created.
      * @param constructor the constructor to invoke.
      * @param constructorArgs the constructor args.
      * @param <T> the class object type.
      * @return the object instance.
      * @throws InstanceCreationException in case the object creation fails.
+     * @throws IllegalArgumentException in case the arguments don't match the constructor parameters.
      */
     @SuppressWarnings("unchecked")
     public <T> T getInstance(final Constructor constructor, final Object... constructorArgs) {
+        final Optional<MethodHandle> constructorHandle = getConstructorHandle(constructor);
+        if (constructorHandle.isEmpty()) {
+            return newInstance(constructor, constructorArgs);
+        }
+        try {
+            final Object instance = constructorHandle.get().invokeExact(constructorArgs);
+            return (T) instance;
+        } catch (ClassCastException | NullPointerException e) {
+            // raised while converting the arguments, as the errors thrown by the constructor are wrapped by the handle
+            throw new IllegalArgumentException(e.getMessage(), e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InstanceCreationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates an instance of the given class invoking the given constructor through reflection.
+     * @param constructor the constructor to invoke.
+     * @param constructorArgs the constructor args.
+     * @param <T> the class object type.
+     * @return the object instance.
+     * @throws InstanceCreationException in case the object creation fails.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T newInstance(final Constructor constructor, final Object... constructorArgs) {
         try {
             return (T) constructor.newInstance(constructorArgs);
         } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
@@ -560,6 +653,56 @@ public final class ClassUtils {
         }
     }
 
+    /**
+     * Retrieves the method handle invoking the given constructor with an arguments array, with type {@code (Object[])Object}.
+     * @param constructor the constructor
+     * @return the method handle or an empty optional if it cannot be created (e.g. the class is abstract or not accessible)
+     */
+    private Optional<MethodHandle> getConstructorHandle(final Constructor<?> constructor) {
+        final Class<?> declaringClass = constructor.getDeclaringClass();
+        final Map<Constructor<?>, Optional<MethodHandle>> constructorHandles = ClassMetadata.of(declaringClass).getConstructorHandles();
+        Optional<MethodHandle> constructorHandle = constructorHandles.get(constructor);
+        if (isNull(constructorHandle)) {
+            constructorHandle = Optional.empty();
+            if (!isAbstract(declaringClass.getModifiers())) {
+                try {
+                    final MethodHandle mh = privateLookupIn(declaringClass, METHOD_HANDLES_LOOKUP).unreflectConstructor(constructor);
+                    final MethodHandle errorHandler = dropArguments(INSTANCE_CREATION_ERROR_HANDLER.asType(methodType(declaringClass, Throwable.class)),
+                            1, mh.type().parameterList());
+                    constructorHandle = Optional.of(catchException(mh, Throwable.class, errorHandler)
+                            .asType(mh.type().generic())
+                            .asSpreader(Object[].class, constructor.getParameterCount()));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    // the constructor is invoked through reflection
+                }
+            }
+            constructorHandles.put(constructor, constructorHandle);
+        }
+        return constructorHandle;
+    }
+
+    /**
+     * Raises an {@link InstanceCreationException} for the error thrown by a constructor.
+     * @param e the error thrown by the constructor
+     * @return nothing, as it always raises an exception; the return type allows it to be used as an exception handler of the constructor handles
+     * @throws InstanceCreationException always
+     */
+    private static Object raiseInstanceCreationException(final Throwable e) {
+        throw new InstanceCreationException(e.getMessage(), e);
+    }
+
+    /**
+     * Retrieves the method handle of {@link #raiseInstanceCreationException(Throwable)}.
+     * @return the method handle
+     */
+    private static MethodHandle getInstanceCreationErrorHandler() {
+        try {
+            return METHOD_HANDLES_LOOKUP.findStatic(ClassUtils.class, "raiseInstanceCreationException", methodType(Object.class, Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Retrieves the no args constructor.
      * @param clazz the class from which gets the all arg constructor.
@@ -569,32 +712,40 @@ public final class ClassUtils {
      */
     @SuppressWarnings("unchecked")
     public <K> Supplier<K> getNoArgsConstructor(final Class<K> clazz) {
-        final String cacheKey = "NoArgsConstructor-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Supplier.class).orElseGet(() -> {
+        final ClassMetadata metadata = ClassMetadata.of(clazz);
+        Supplier<K> constructor = (Supplier<K>) metadata.getNoArgsConstructor();
+        if (isNull(constructor)) {
             try {
                 var privateLookupIn = privateLookupIn(clazz, METHOD_HANDLES_LOOKUP);
                 MethodHandle mh = privateLookupIn.findConstructor(clazz, methodType(void.class));
-                Supplier<K> constructor = (Supplier<K>) metafactory(
+                constructor = (Supplier<K>) metafactory(
                         privateLookupIn, "get", methodType(Supplier.class), mh.type().generic(), mh, mh.type()
                 ).getTarget().invokeExact();
-                CACHE_MANAGER.cacheObject(cacheKey, constructor);
-                return constructor;
             } catch (Throwable e) {
                 throw new InvalidBeanException("No default constructors available for class: " + clazz.getName());
             }
-        });
+            metadata.setNoArgsConstructor(constructor);
+        }
+        return constructor;
     }
 
     /**
-     * Retrieves the all args constructor.
+     * Retrieves the all args constructor: the canonical constructor, if the class is a record, otherwise the one with the most parameters.
      * @param clazz the class from which gets the all arg constructor.
      * @param <K> the object type
      * @return the all args constructor
      */
     @SuppressWarnings("unchecked")
     public <K> Constructor<K> getAllArgsConstructor(final Class<K> clazz) {
-        final String cacheKey = "AllArgsConstructor-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Constructor.class).orElseGet(() -> {
+        final ClassMetadata metadata = ClassMetadata.of(clazz);
+        Constructor<K> constructor = (Constructor<K>) metadata.getAllArgsConstructor();
+        if (isNull(constructor)) {
+            if (clazz.isRecord()) {
+                constructor = getCanonicalConstructor(clazz);
+                constructor.setAccessible(true);
+                metadata.setAllArgsConstructor(constructor);
+                return constructor;
+            }
             Constructor<?>[] declaredConstructors = clazz.getDeclaredConstructors();
             var candidates = stream(declaredConstructors)
                     .filter(c -> !isKotlinSyntheticConstructor(c))
@@ -602,11 +753,49 @@ public final class ClassUtils {
             if (candidates.isEmpty()) {
                 candidates = asList(declaredConstructors);
             }
-            final var constructor = max(candidates, comparing(Constructor::getParameterCount));
+            constructor = (Constructor<K>) max(candidates, comparing(Constructor::getParameterCount));
             constructor.setAccessible(true);
-            CACHE_MANAGER.cacheObject(cacheKey, constructor);
-            return constructor;
-        });
+            metadata.setAllArgsConstructor(constructor);
+        }
+        return constructor;
+    }
+
+    /**
+     * Retrieves the canonical constructor of the given record, whose parameters match its components.
+     * @param recordClass the record class
+     * @param <K> the object type
+     * @return the canonical constructor
+     * @throws InvalidBeanException if the constructor cannot be retrieved
+     */
+    private <K> Constructor<K> getCanonicalConstructor(final Class<K> recordClass) {
+        final Class<?>[] parameterTypes = stream(getRecordComponents(recordClass))
+                .map(RecordComponent::getType)
+                .toArray(Class<?>[]::new);
+        try {
+            return recordClass.getDeclaredConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new InvalidBeanException("No canonical constructor available for record: " + recordClass.getName(), e);
+        }
+    }
+
+    /**
+     * Retrieves the components of the given record, in the order of its canonical constructor parameters.
+     * The returned array is shared, hence it must not be modified.
+     * @param recordClass the record class
+     * @return the record components
+     * @throws IllegalArgumentException if the class is not a record
+     */
+    public RecordComponent[] getRecordComponents(final Class<?> recordClass) {
+        final ClassMetadata metadata = ClassMetadata.of(recordClass);
+        RecordComponent[] recordComponents = metadata.getRecordComponents();
+        if (isNull(recordComponents)) {
+            if (!recordClass.isRecord()) {
+                throw new IllegalArgumentException(recordClass.getName() + " is not a record.");
+            }
+            recordComponents = recordClass.getRecordComponents();
+            metadata.setRecordComponents(recordComponents);
+        }
+        return recordComponents;
     }
 
     /**
@@ -626,12 +815,13 @@ public final class ClassUtils {
      * @return the constructor parameters
      */
     public Parameter[] getConstructorParameters(final Constructor constructor) {
-        final String cacheKey = "ConstructorParams-" + constructor.getDeclaringClass().getName() + '-' + constructor.getParameterCount();
-        return CACHE_MANAGER.getFromCache(cacheKey, Parameter[].class).orElseGet(() -> {
-            final Parameter[] parameters = constructor.getParameters();
-            CACHE_MANAGER.cacheObject(cacheKey, parameters);
-            return parameters;
-        });
+        final Map<Integer, Parameter[]> constructorParameters = ClassMetadata.of(constructor.getDeclaringClass()).getConstructorParameters();
+        Parameter[] parameters = constructorParameters.get(constructor.getParameterCount());
+        if (isNull(parameters)) {
+            parameters = constructor.getParameters();
+            constructorParameters.put(constructor.getParameterCount(), parameters);
+        }
+        return parameters;
     }
 
     /**
@@ -682,10 +872,10 @@ public final class ClassUtils {
     private Method[] getDeclaredMethods(final Class<?> clazz) {
         notNull(clazz, CLAZZ_CANNOT_BE_NULL);
         final String cacheKey = "DeclaredMethods-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Method[].class)
+        return CACHE_MANAGER.getFromCache(clazz, cacheKey, Method[].class)
                 .orElseGet(() -> {
                     final Method[] res = clazz.getDeclaredMethods();
-                    CACHE_MANAGER.cacheObject(cacheKey, res);
+                    CACHE_MANAGER.cacheObject(clazz, cacheKey, res);
                     return res;
                 });
     }
@@ -768,9 +958,9 @@ public final class ClassUtils {
      * @return the class type {@link ClassType}
      */
     public ClassType getClassType(final Class<?> clazz) {
-        final String cacheKey = "ClassType-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, ClassType.class).orElseGet(() -> {
-            final ClassType classType;
+        final ClassMetadata metadata = ClassMetadata.of(clazz);
+        ClassType classType = metadata.getClassType();
+        if (isNull(classType)) {
             boolean hasFinalFields = hasFinalFields(clazz);
             if (!hasFinalFields) {
                 classType = ClassType.MUTABLE;
@@ -782,9 +972,9 @@ public final class ClassUtils {
                     classType = ClassType.IMMUTABLE;
                 }
             }
-            CACHE_MANAGER.cacheObject(cacheKey, classType);
-            return classType;
-        });
+            metadata.setClassType(classType);
+        }
+        return classType;
     }
 
     /**
@@ -816,7 +1006,7 @@ public final class ClassUtils {
     private List<Method> getMethods(final Class<?> clazz, final String cacheKeyPrefix, final Predicate<Method> methodFilter) {
         notNull(clazz, CLAZZ_CANNOT_BE_NULL);
         final String cacheKey = cacheKeyPrefix + "-" + clazz.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, List.class).orElseGet(() -> {
+        return CACHE_MANAGER.getFromCache(clazz, cacheKey, List.class).orElseGet(() -> {
             final List<Method> methods = new ArrayList<>();
             if (hasSuperclass(clazz.getSuperclass())) {
                 methods.addAll(getMethods(clazz.getSuperclass(), cacheKeyPrefix, methodFilter));
@@ -824,7 +1014,7 @@ public final class ClassUtils {
             stream(getDeclaredMethods(clazz))
                     .filter(methodFilter)
                     .forEach(methods::add);
-            CACHE_MANAGER.cacheObject(cacheKey, methods);
+            CACHE_MANAGER.cacheObject(clazz, cacheKey, methods);
             return methods;
         });
     }
@@ -852,12 +1042,12 @@ public final class ClassUtils {
     @SuppressWarnings("unchecked")
     public List<Field> getNotFinalFields(final Class<?> clazz, final Boolean skipStatic) {
         final String cacheKey = "NotFinalFields-" + clazz.getName() + "-" + skipStatic;
-        return CACHE_MANAGER.getFromCache(cacheKey, List.class).orElseGet(() -> {
+        return CACHE_MANAGER.getFromCache(clazz, cacheKey, List.class).orElseGet(() -> {
             List<Field> notFinalFields = new ArrayList<>(getDeclaredFields(clazz, skipStatic)
                     .stream()
                     .filter(IS_NOT_FINAL_FIELD)
                     .toList());
-            CACHE_MANAGER.cacheObject(cacheKey, notFinalFields);
+            CACHE_MANAGER.cacheObject(clazz, cacheKey, notFinalFields);
             return notFinalFields;
         });
     }
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.utils;
+
+import static java.lang.invoke.MethodHandles.classData;
+import static java.lang.invoke.MethodHandles.lookup;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.BiConsumer;
+
+/**
+ * Copies a field value from a source object into a target object through a method handle of type {@code (Object, Object)void}, taking
+ * the target object as first argument and the source object as second one.
+ * As {@link FieldWriter}, this class is a template: {@link ReflectionUtils#findPrimitiveFieldCopier} defines a hidden class from its
+ * bytecode for each field, taking the method handle as class data, so that the JIT compiler inlines the field read and write.
+ */
+final class FieldCopier implements BiConsumer<Object, Object> {
+    /**
+     * The method handle reading the source field and writing the destination one, given as class data of the hidden class.
+     */
+    private static final MethodHandle COPIER = getCopier();
+
+    /**
+     * Returns the class data of this class.
+     * @return the method handle reading the source field and writing the destination one
+     */
+    private static MethodHandle getCopier() {
+        try {
+            return classData(lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Copies the field value.
+     * @param source the source object
+     * @param target the target object
+     */
+    @Override
+    public void accept(final Object source, final Object target) {
+        try {
+            COPIER.invokeExact(target, source);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.utils;
+
+import static java.lang.invoke.MethodHandles.classData;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.isNull;
+
+import static com.expediagroup.transformer.utils.ReflectionUtils.getInvalidFieldValueMessage;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.BiConsumer;
+
+/**
+ * Sets a field value through a method handle of type {@code (Object, Object)void} bound to the field.
+ * The errors raised while converting the value are reported as {@link IllegalArgumentException}, as {@link Field#set} does.
+ * This class is a template: it's never used as is, but {@link ReflectionUtils#findFieldWriter} defines a hidden class from its bytecode
+ * for each field, taking the field method handle as class data. The method handle is then a static final constant of its own class,
+ * that the JIT compiler inlines as a plain field write, while a method handle stored in an instance field is invoked as an opaque call.
+ */
+final class FieldWriter implements BiConsumer<Object, Object> {
+    /**
+     * The method handle setting the field, given as class data of the hidden class.
+     */
+    private static final MethodHandle SETTER = getSetter();
+
+    /**
+     * The field to set.
+     */
+    private final Field field;
+
+    /**
+     * Default constructor.
+     * @param field the field to set
+     */
+    FieldWriter(final Field field) {
+        this.field = field;
+    }
+
+    /**
+     * Returns the class data of this class.
+     * @return the method handle setting the field
+     */
+    private static MethodHandle getSetter() {
+        try {
+            return classData(lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sets the field value.
+     * @param target the object containing the field
+     * @param fieldValue the value to set
+     * @throws IllegalArgumentException if the value cannot be assigned to the field
+     * @throws NullPointerException if the target object is null
+     */
+    @Override
+    public void accept(final Object target, final Object fieldValue) {
+        try {
+            SETTER.invokeExact(target, fieldValue);
+        } catch (final ClassCastException | NullPointerException e) {
+            if (isNull(target)) {
+                throw e;
+            }
+            throw new IllegalArgumentException(getInvalidFieldValueMessage(field, fieldValue), e);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
@@ -16,10 +16,14 @@
 package com.expediagroup.transformer.utils;
 
 import static java.lang.invoke.LambdaMetafactory.metafactory;
+import static java.lang.invoke.MethodHandles.filterArguments;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.lang.invoke.MethodHandles.privateLookupIn;
 import static java.lang.invoke.MethodType.methodType;
 import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import static org.apache.commons.lang3.ArrayUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.capitalize;
@@ -29,9 +33,13 @@ import static com.expediagroup.transformer.constant.MethodPrefix.GET;
 import static com.expediagroup.transformer.constant.MethodPrefix.IS;
 import static com.expediagroup.transformer.constant.MethodPrefix.SET;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -43,7 +51,16 @@ import java.lang.reflect.WildcardType;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import com.expediagroup.transformer.cache.CacheManager;
 import com.expediagroup.transformer.error.InvalidBeanException;
@@ -88,6 +105,26 @@ public final class ReflectionUtils {
      */
     private static final CacheManager CACHE_MANAGER = getCacheManager("reflectionUtils");
 
+    /**
+     * The extension of the class files.
+     */
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * The name of the method of the consumer functional interfaces.
+     */
+    private static final String ACCEPT_METHOD_NAME = "accept";
+
+    /**
+     * The types of the primitive fields copied through the typed functions of {@link java.util.function}, if they have accessor methods.
+     */
+    private static final Set<Class<?>> TYPED_COPIER_FIELD_TYPES = Set.of(int.class, long.class, double.class);
+
+    /**
+     * The bytecode of the templates of the hidden classes, read on the first hidden class definition.
+     */
+    private static final Map<Class<?>, byte[]> TEMPLATES_BYTECODE = new ConcurrentHashMap<>();
+
     /**
      * Invokes the method.
      * @param method the method to be invoked.
@@ -149,27 +186,94 @@ public final class ReflectionUtils {
 
     /**
      * Gets the value of a field through getter method.
+     * The way each field is read is resolved the first time and cached, hence no exception is raised while reading existing fields.
      * @param target the field's class
      * @param fieldName the field name
      * @param fieldType the field type
      * @return the field value
+     * @throws MissingFieldException if the field and its getter method do not exist
      */
-    @SuppressWarnings("unchecked")
     public Object getFieldValue(final Object target, final String fieldName, final Class<?> fieldType) {
-        Object fieldValue = getRealTarget(target);
-        for (String currFieldName : fieldName.split(DOT_SPLIT_REGEX)) {
-            if (fieldValue == null) {
-                break;
-            }
-            try {
-                fieldValue = getGetterMethodFunction(fieldValue.getClass(), currFieldName).apply(fieldValue);
-            } catch (final ClassCastException | MissingMethodException | InvalidBeanException e) {
-                fieldValue = getFieldValueDirectAccess(fieldValue, currFieldName);
-            } catch (final MissingFieldException e) {
-                fieldValue = invokeMethod(getGetterMethod(fieldValue.getClass(), currFieldName, fieldType), fieldValue);
-            }
+        final Object realTarget = getRealTarget(target);
+        if (isNull(realTarget)) {
+            return null;
+        }
+        return getFieldPathReader(realTarget.getClass(), fieldName, fieldType).apply(realTarget);
+    }
+
+    /**
+     * Returns a {@link Function} reading the value of the given field, or of the nested field reached through the given path
+     * (e.g. {@code address.city.name}), from the objects of the given class.
+     * The path is split once and the function is cached, together with the field type, in the metadata of the given class.
+     * Each path segment keeps the reader resolved for the first class it reads, if that class is defined by the class loader of the given
+     * class or by one of its ancestors, so the function never keeps a class that could be unloaded before the given one; the objects of
+     * any other class are read through the reader cached in the metadata of their class.
+     * The function returns {@code null} as soon as a path segment value is {@code null}.
+     * @param targetClass the class of the objects to read
+     * @param fieldName the field name or the path of the nested field
+     * @param fieldType the field type, used to resolve the getter method prefix of the fields that do not exist in their class
+     * @return the field path reader, raising a {@link MissingFieldException} if a path segment cannot be read
+     */
+    public Function<Object, Object> getFieldPathReader(final Class<?> targetClass, final String fieldName, final Class<?> fieldType) {
+        final Map<String, FieldPathReader> fieldPathReaders = ClassMetadata.of(targetClass).getFieldPathReaders();
+        FieldPathReader fieldPathReader = fieldPathReaders.get(fieldName);
+        if (isNull(fieldPathReader) || fieldPathReader.fieldType != fieldType) {
+            fieldPathReader = new FieldPathReader(targetClass, fieldName.split(DOT_SPLIT_REGEX), fieldType);
+            fieldPathReaders.put(fieldName, fieldPathReader);
+        }
+        return fieldPathReader;
+    }
+
+    /**
+     * Returns a {@link Function} reading the given field value: through the getter method function, if any, otherwise through the field
+     * itself or, if the field does not exist, through the getter method invoked by reflection.
+     * The result, including the absence of the field, is cached in the metadata of the given class, so the field presence is resolved once.
+     * @param fieldClass the field's class
+     * @param fieldName the field name
+     * @param fieldType the field type, used to resolve the getter method prefix if the class has no such field
+     * @return the field reader or an empty {@link Optional} if neither the field nor its getter method exist
+     */
+    public Optional<Function<Object, Object>> findFieldReader(final Class<?> fieldClass, final String fieldName, final Class<?> fieldType) {
+        final Map<String, Optional<Function<Object, Object>>> fieldReaders = ClassMetadata.of(fieldClass).getFieldReaders();
+        Optional<Function<Object, Object>> fieldReader = fieldReaders.get(fieldName);
+        if (isNull(fieldReader)) {
+            fieldReader = resolveFieldReader(fieldClass, fieldName, fieldType);
+            fieldReaders.put(fieldName, fieldReader);
+        }
+        return fieldReader;
+    }
+
+    /**
+     * Resolves the {@link Function} reading the given field value.
+     * @param fieldClass the field's class
+     * @param fieldName the field name
+     * @param fieldType the field type
+     * @return the field reader or an empty {@link Optional} if neither the field nor its getter method exist
+     */
+    private Optional<Function<Object, Object>> resolveFieldReader(final Class<?> fieldClass, final String fieldName, final Class<?> fieldType) {
+        try {
+            return Optional.of(getGetterMethodFunction(fieldClass, fieldName));
+        } catch (final ClassCastException | MissingMethodException | InvalidBeanException e) {
+            return Optional.of(target -> getFieldValueDirectAccess(target, fieldName));
+        } catch (final MissingFieldException e) {
+            // the class has no such field, but it could have a getter method anyway
+            return findGetterMethod(fieldClass, fieldName, fieldType).<Function<Object, Object>>map(getterMethod -> target -> invokeMethod(getterMethod, target));
+        }
+    }
+
+    /**
+     * Returns the getter method for the given field, if any.
+     * @param fieldClass the field's class
+     * @param fieldName the field name
+     * @param fieldType the field type
+     * @return the getter method or an empty {@link Optional} if it does not exist
+     */
+    private Optional<Method> findGetterMethod(final Class<?> fieldClass, final String fieldName, final Class<?> fieldType) {
+        try {
+            return Optional.of(getGetterMethod(fieldClass, fieldName, fieldType));
+        } catch (final MissingFieldException e) {
+            return Optional.empty();
         }
-        return fieldValue;
     }
 
     /**
@@ -181,11 +285,11 @@ public final class ReflectionUtils {
      */
     private Method getGetterMethod(final Class<?> fieldClass, final String fieldName, final Class<?> fieldType) {
         final String cacheKey = "GetterMethod-" + fieldClass.getName() + '-' + fieldName;
-        return CACHE_MANAGER.getFromCache(cacheKey, Method.class).orElseGet(() -> {
+        return CACHE_MANAGER.getFromCache(fieldClass, cacheKey, Method.class).orElseGet(() -> {
             try {
-                var method = fieldClass.getMethod(getGetterMethodPrefix(fieldType) + capitalize(fieldName));
+                var method = fieldClass.getMethod(getGetterMethodName(fieldClass, fieldName, fieldType));
                 method.setAccessible(true);
-                CACHE_MANAGER.cacheObject(cacheKey, method);
+                CACHE_MANAGER.cacheObject(fieldClass, cacheKey, method);
                 return method;
             } catch (NoSuchMethodException e) {
                 throw new MissingFieldException(fieldClass.getName() + " hasn't a field called: " + fieldName + ".");
@@ -199,10 +303,11 @@ public final class ReflectionUtils {
      * @param fieldName the field name
      * @return the getter method
      */
-    private Function getGetterMethodFunction(final Class<?> fieldClass, final String fieldName) {
-        final String cacheKey = "getGetterMethodFunction-" + fieldClass.getName() + '-' + fieldName;
-        return CACHE_MANAGER.getFromCache(cacheKey, Function.class).orElseGet(() -> {
-            Function function;
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> getGetterMethodFunction(final Class<?> fieldClass, final String fieldName) {
+        final Map<String, Function<Object, Object>> getterFunctions = ClassMetadata.of(fieldClass).getGetterFunctions();
+        Function<Object, Object> function = getterFunctions.get(fieldName);
+        if (isNull(function)) {
             try {
                 Class<?> fieldType = getDeclaredFieldType(fieldName, fieldClass);
                 var privateLookupIn = privateLookupIn(fieldClass, METHOD_HANDLES_LOOKUP);
@@ -210,9 +315,9 @@ public final class ReflectionUtils {
                         "apply",
                         methodType(Function.class),
                         methodType(Object.class, Object.class),
-                        privateLookupIn.findVirtual(fieldClass, getGetterMethodPrefix(fieldType) + capitalize(fieldName), methodType(fieldType)),
+                        privateLookupIn.findVirtual(fieldClass, getGetterMethodName(fieldClass, fieldName, fieldType), methodType(fieldType)),
                         methodType(fieldType, fieldClass));
-                function = (Function) site.getTarget().invokeExact();
+                function = (Function<Object, Object>) site.getTarget().invokeExact();
             } catch (NoSuchFieldException | MissingFieldException e) {
                 throw new MissingFieldException(e.getMessage());
             } catch (NoSuchMethodException e) {
@@ -220,9 +325,248 @@ public final class ReflectionUtils {
             } catch (Throwable e) {
                 throw new InvalidBeanException(e.getMessage(), e);
             }
-            CACHE_MANAGER.cacheObject(cacheKey, function);
-            return function;
-        });
+            getterFunctions.put(fieldName, function);
+        }
+        return function;
+    }
+
+    /**
+     * Returns a {@link Function} that reads the given field value through its getter method.
+     * The function is a class generated at runtime, so invoking it costs as much as a direct method call.
+     * @param fieldClass the field's class
+     * @param fieldName the field name
+     * @return the getter function or an empty {@link Optional} if the field or its getter method does not exist
+     */
+    public Optional<Function<Object, Object>> findGetterMethodFunction(final Class<?> fieldClass, final String fieldName) {
+        try {
+            return Optional.of(getGetterMethodFunction(fieldClass, fieldName));
+        } catch (final MissingFieldException | MissingMethodException | InvalidBeanException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns a {@link BiConsumer} that sets the given field value through its setter method.
+     * As the getter functions returned by {@link #getGetterMethodFunction}, the function is generated at runtime through
+     * {@link java.lang.invoke.LambdaMetafactory}, so the setter method is invoked without any reflective access check.
+     * A {@code null} value passed for a primitive field is reported as {@link IllegalArgumentException}, as {@link Field#set} does.
+     * @param fieldClass the class containing the setter method
+     * @param field the field to set
+     * @return the setter function or an empty {@link Optional} if the field has no setter method
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<BiConsumer<Object, Object>> findSetterMethodFunction(final Class<?> fieldClass, final Field field) {
+        final Map<String, Optional<BiConsumer<Object, Object>>> setterFunctions = ClassMetadata.of(fieldClass).getSetterFunctions();
+        Optional<BiConsumer<Object, Object>> setterFunction = setterFunctions.get(field.getName());
+        if (isNull(setterFunction)) {
+            try {
+                Class<?> fieldType = field.getType();
+                var privateLookupIn = privateLookupIn(fieldClass, METHOD_HANDLES_LOOKUP);
+                CallSite site = metafactory(privateLookupIn,
+                        "accept",
+                        methodType(BiConsumer.class),
+                        methodType(void.class, Object.class, Object.class),
+                        privateLookupIn.findVirtual(fieldClass, SET.getPrefix() + capitalize(field.getName()), methodType(void.class, fieldType)),
+                        methodType(void.class, fieldClass, methodType(fieldType).wrap().returnType()));
+                final BiConsumer<Object, Object> setter = (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+                setterFunction = Optional.of(fieldType.isPrimitive() ? new PrimitiveSetterFunction(field, setter) : setter);
+            } catch (Throwable e) {
+                setterFunction = Optional.empty();
+            }
+            setterFunctions.put(field.getName(), setterFunction);
+        }
+        return setterFunction;
+    }
+
+    /**
+     * Returns a {@link BiConsumer} that sets the given field value directly, through a method handle bound to the field.
+     * The value of a primitive field is unboxed by the method handle itself, and widened if needed, without any reflective access check.
+     * The function is an instance of a hidden class defined for the given field from the {@link FieldWriter} bytecode, holding the method
+     * handle in a static final field, so the JIT compiler inlines the field write.
+     * @param field the field to set
+     * @return the field writer or an empty {@link Optional} if the field cannot be written through a method handle (e.g. it's static,
+     *         or it's final and not accessible)
+     */
+    public Optional<BiConsumer<Object, Object>> findFieldWriter(final Field field) {
+        final Class<?> declaringClass = field.getDeclaringClass();
+        final Map<String, Optional<BiConsumer<Object, Object>>> fieldWriters = ClassMetadata.of(declaringClass).getFieldWriters();
+        Optional<BiConsumer<Object, Object>> fieldWriter = fieldWriters.get(field.getName());
+        if (isNull(fieldWriter)) {
+            fieldWriter = Optional.empty();
+            if (!isStatic(field.getModifiers())) {
+                try {
+                    final MethodHandle setter = privateLookupIn(declaringClass, METHOD_HANDLES_LOOKUP).unreflectSetter(field);
+                    fieldWriter = Optional.of(newFieldWriter(field, setter.asType(methodType(void.class, Object.class, Object.class))));
+                } catch (Throwable e) {
+                    // the field is set through reflection
+                }
+            }
+            fieldWriters.put(field.getName(), fieldWriter);
+        }
+        return fieldWriter;
+    }
+
+    /**
+     * Defines a hidden class from the {@link FieldWriter} bytecode, taking the given method handle as class data, and creates its instance.
+     * @param field the field to set
+     * @param setter the method handle setting the field, of type {@code (Object, Object)void}
+     * @return the field writer
+     * @throws Throwable if the hidden class cannot be defined or instantiated
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> newFieldWriter(final Field field, final MethodHandle setter) throws Throwable {
+        final MethodHandles.Lookup fieldWriterLookup = defineHiddenClass(FieldWriter.class, setter);
+        return (BiConsumer<Object, Object>) fieldWriterLookup.findConstructor(fieldWriterLookup.lookupClass(), methodType(void.class, Field.class))
+                .invoke(field);
+    }
+
+    /**
+     * Defines a hidden class from the bytecode of the given template class, taking the given method handle as class data.
+     * The template bytecode is read once.
+     * @param template the template class, that reads the method handle from its class data into a static final field
+     * @param classData the method handle to pass as class data
+     * @return the lookup on the hidden class
+     * @throws IOException if the template bytecode cannot be read
+     * @throws IllegalAccessException if the hidden class cannot be defined
+     */
+    private static MethodHandles.Lookup defineHiddenClass(final Class<?> template, final MethodHandle classData) throws IOException, IllegalAccessException {
+        byte[] bytecode = TEMPLATES_BYTECODE.get(template);
+        if (isNull(bytecode)) {
+            try (InputStream classFile = template.getResourceAsStream(template.getSimpleName() + CLASS_FILE_EXTENSION)) {
+                bytecode = classFile.readAllBytes();
+            }
+            TEMPLATES_BYTECODE.put(template, bytecode);
+        }
+        return METHOD_HANDLES_LOOKUP.defineHiddenClassWithClassData(bytecode, classData, true);
+    }
+
+    /**
+     * Returns a {@link BiConsumer} that copies the value of a primitive field from a source object, given as first argument, into the given
+     * destination field of a target object, given as second argument. The value is read through the getter method of the source field,
+     * or the field itself if there is no getter, and it's passed to the destination field without being boxed.
+     * If both the getter and the preferred setter method exist, an {@code int}, {@code long} or {@code double} value is copied through the
+     * typed functions bound to them by {@link java.lang.invoke.LambdaMetafactory}, e.g. {@link ToIntFunction} and {@link ObjIntConsumer};
+     * otherwise the value is copied through a method handle held as a static final constant by a hidden class defined from the
+     * {@link FieldCopier} bytecode, so in both cases the JIT compiler sees the accessors actually invoked.
+     * @param sourceClass the source object class
+     * @param sourceFieldName the source field name
+     * @param destField the destination field
+     * @param setterPreferred if true the destination field is set through its setter method, if any
+     * @return the field copier or an empty {@link Optional} if the fields are not primitives of the same type or they cannot be accessed
+     *         through method handles
+     */
+    public Optional<BiConsumer<Object, Object>> findPrimitiveFieldCopier(final Class<?> sourceClass, final String sourceFieldName, final Field destField,
+                                                                         final boolean setterPreferred) {
+        final Class<?> fieldType = destField.getType();
+        if (!fieldType.isPrimitive() || isStatic(destField.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            final Field sourceField = getDeclaredField(sourceFieldName, sourceClass);
+            if (!sourceField.getType().equals(fieldType) || isStatic(sourceField.getModifiers())) {
+                return Optional.empty();
+            }
+            final var sourceLookup = privateLookupIn(sourceClass, METHOD_HANDLES_LOOKUP);
+            final var targetLookup = privateLookupIn(destField.getDeclaringClass(), METHOD_HANDLES_LOOKUP);
+            final Optional<MethodHandle> getterMethod = findPrimitiveGetterMethod(sourceLookup, sourceClass, sourceField);
+            final Optional<MethodHandle> setterMethod = setterPreferred ? findPrimitiveSetterMethod(targetLookup, destField) : Optional.empty();
+            if (getterMethod.isPresent() && setterMethod.isPresent() && TYPED_COPIER_FIELD_TYPES.contains(fieldType)) {
+                return Optional.of(newTypedFieldCopier(fieldType, sourceLookup, getterMethod.get(), targetLookup, setterMethod.get()));
+            }
+            final MethodHandle getter = getterMethod.isPresent()
+                    ? getterMethod.get() : sourceLookup.unreflectGetter(sourceField).asType(methodType(fieldType, sourceClass));
+            final MethodHandle setter = setterMethod.isPresent() ? setterMethod.get() : targetLookup.unreflectSetter(destField);
+            return Optional.of(newFieldCopier(filterArguments(setter, 1, getter).asType(methodType(void.class, Object.class, Object.class))));
+        } catch (final Throwable e) {
+            // e.g. the source field does not exist
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the method handle invoking the getter method of a primitive field of the given class, if any.
+     * @param lookup the lookup on the given class
+     * @param fieldClass the class containing the field
+     * @param field the field to read
+     * @return the method handle, of type {@code (fieldClass)fieldType}, or an empty {@link Optional} if the field has no getter method
+     * @throws IllegalAccessException if the getter method cannot be accessed
+     */
+    private Optional<MethodHandle> findPrimitiveGetterMethod(final MethodHandles.Lookup lookup, final Class<?> fieldClass, final Field field)
+            throws IllegalAccessException {
+        try {
+            return Optional.of(lookup.findVirtual(fieldClass, getGetterMethodName(fieldClass, field.getName(), field.getType()), methodType(field.getType())));
+        } catch (final NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the method handle invoking the setter method of a primitive field, if any.
+     * @param lookup the lookup on the class declaring the field
+     * @param field the field to write
+     * @return the method handle, of type {@code (declaringClass, fieldType)void}, or an empty {@link Optional} if the field has no setter method
+     * @throws IllegalAccessException if the setter method cannot be accessed
+     */
+    private Optional<MethodHandle> findPrimitiveSetterMethod(final MethodHandles.Lookup lookup, final Field field) throws IllegalAccessException {
+        try {
+            return Optional.of(lookup.findVirtual(field.getDeclaringClass(), SET.getPrefix() + capitalize(field.getName()), methodType(void.class, field.getType())));
+        } catch (final NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates the copier of an {@code int}, {@code long} or {@code double} field, made of the typed functions bound to its getter and setter methods.
+     * @param fieldType the field type
+     * @param sourceLookup the lookup on the source object class
+     * @param getter the getter method handle, of type {@code (sourceClass)fieldType}
+     * @param targetLookup the lookup on the class declaring the destination field
+     * @param setter the setter method handle, of type {@code (declaringClass, fieldType)void}
+     * @return the field copier
+     * @throws Throwable if the functions cannot be bound
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> newTypedFieldCopier(final Class<?> fieldType, final MethodHandles.Lookup sourceLookup, final MethodHandle getter,
+                                                                  final MethodHandles.Lookup targetLookup, final MethodHandle setter) throws Throwable {
+        if (fieldType == int.class) {
+            return new IntFieldCopier(bindFunction(sourceLookup, ToIntFunction.class, "applyAsInt", getter),
+                    bindFunction(targetLookup, ObjIntConsumer.class, ACCEPT_METHOD_NAME, setter));
+        }
+        if (fieldType == long.class) {
+            return new LongFieldCopier(bindFunction(sourceLookup, ToLongFunction.class, "applyAsLong", getter),
+                    bindFunction(targetLookup, ObjLongConsumer.class, ACCEPT_METHOD_NAME, setter));
+        }
+        return new DoubleFieldCopier(bindFunction(sourceLookup, ToDoubleFunction.class, "applyAsDouble", getter),
+                bindFunction(targetLookup, ObjDoubleConsumer.class, ACCEPT_METHOD_NAME, setter));
+    }
+
+    /**
+     * Binds an instance of the given functional interface to the given method handle through {@link java.lang.invoke.LambdaMetafactory}.
+     * @param lookup the lookup on the class declaring the method
+     * @param functionType the functional interface
+     * @param functionMethodName the name of the functional interface method
+     * @param implementation the method handle implementing the function
+     * @param <T> the functional interface type
+     * @return the function
+     * @throws Throwable if the function cannot be bound
+     */
+    private static <T> T bindFunction(final MethodHandles.Lookup lookup, final Class<T> functionType, final String functionMethodName,
+                                      final MethodHandle implementation) throws Throwable {
+        final MethodType implementationType = implementation.type();
+        return functionType.cast(metafactory(lookup, functionMethodName, methodType(functionType), implementationType.erase(), implementation, implementationType)
+                .getTarget().invoke());
+    }
+
+    /**
+     * Defines a hidden class from the {@link FieldCopier} bytecode, taking the given method handle as class data, and creates its instance.
+     * @param copier the method handle reading the source field and writing the destination one, of type {@code (Object, Object)void}
+     * @return the field copier
+     * @throws Throwable if the hidden class cannot be defined or instantiated
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> newFieldCopier(final MethodHandle copier) throws Throwable {
+        final MethodHandles.Lookup fieldCopierLookup = defineHiddenClass(FieldCopier.class, copier);
+        return (BiConsumer<Object, Object>) fieldCopierLookup.findConstructor(fieldCopierLookup.lookupClass(), methodType(void.class)).invoke();
     }
 
     /**
@@ -234,7 +578,7 @@ public final class ReflectionUtils {
      */
     public <A extends Annotation> A getFieldAnnotation(final Field field, final Class<A> annotationClazz) {
         final String cacheKey = "FieldAnnotation-" + field.getDeclaringClass().getName() + "-" + field.getName() + "-" + annotationClazz.getName();
-        return getAnnotation(field, annotationClazz, cacheKey);
+        return getAnnotation(field.getDeclaringClass(), field, annotationClazz, cacheKey);
     }
 
     /**
@@ -247,21 +591,22 @@ public final class ReflectionUtils {
      */
     public <A extends Annotation> A getParameterAnnotation(final Parameter parameter, final Class<A> annotationClazz, final String declaringClassName) {
         final String cacheKey = "ParameterAnnotation-" + declaringClassName + "-" + parameter.getName() + "-" + annotationClazz.getName();
-        return getAnnotation(parameter, annotationClazz, cacheKey);
+        return getAnnotation(parameter.getDeclaringExecutable().getDeclaringClass(), parameter, annotationClazz, cacheKey);
     }
 
     /**
      * Returns (if existing) the element's given type annotation.
+     * @param owner the class declaring the element
      * @param element the element that should have the annotation
      * @param annotationClazz the annotation type
      * @param cacheKey the cache key to use
      * @param <A> the annotation type object
      * @return the annotation
      */
-    private <A extends Annotation> A getAnnotation(final AnnotatedElement element, final Class<A> annotationClazz, final String cacheKey) {
-        return CACHE_MANAGER.getFromCache(cacheKey, annotationClazz).orElseGet(() -> {
+    private <A extends Annotation> A getAnnotation(final Class<?> owner, final AnnotatedElement element, final Class<A> annotationClazz, final String cacheKey) {
+        return CACHE_MANAGER.getFromCache(owner, cacheKey, annotationClazz).orElseGet(() -> {
             A annotation = element.getAnnotation(annotationClazz);
-            CACHE_MANAGER.cacheObject(cacheKey, annotation);
+            CACHE_MANAGER.cacheObject(owner, cacheKey, annotation);
             return annotation;
         });
     }
@@ -290,9 +635,9 @@ public final class ReflectionUtils {
      * @return the field corresponding to the given name.
      */
     private Field getClassDeclaredField(final String fieldName, final Class<?> targetClass) {
-        final String cacheKey = "ClassDeclaredField-" + targetClass.getName() + "-" + fieldName;
-        return CACHE_MANAGER.getFromCache(cacheKey, Field.class).orElseGet(() -> {
-            Field field;
+        final Map<String, Field> fields = ClassMetadata.of(targetClass).getFields();
+        Field field = fields.get(fieldName);
+        if (isNull(field)) {
             try {
                 field = targetClass.getDeclaredField(fieldName);
             } catch (NoSuchFieldException e) {
@@ -306,9 +651,9 @@ public final class ReflectionUtils {
                 throw handleReflectionException(e);
             }
             field.setAccessible(true);
-            CACHE_MANAGER.cacheObject(cacheKey, field);
-            return field;
-        });
+            fields.put(fieldName, field);
+        }
+        return field;
     }
 
     /**
@@ -318,17 +663,17 @@ public final class ReflectionUtils {
      * @return the field corresponding to the given name.
      */
     public Field getDeclaredField(final String fieldName, final Class<?> targetClass) {
-        final String cacheKey = "ClassDeclaredFieldDotNotation-" + targetClass.getName() + "-" + fieldName;
-        return CACHE_MANAGER.getFromCache(cacheKey, Field.class).orElseGet(() -> {
-            Field field = null;
+        final Map<String, Field> nestedFields = ClassMetadata.of(targetClass).getNestedFields();
+        Field field = nestedFields.get(fieldName);
+        if (isNull(field)) {
             Class<?> currentClass = targetClass;
             for (String currFieldName : fieldName.split(DOT_SPLIT_REGEX)) {
                 field = getClassDeclaredField(currFieldName, currentClass);
                 currentClass = field.getType();
             }
-            CACHE_MANAGER.cacheObject(cacheKey, field);
-            return field;
-        });
+            nestedFields.put(fieldName, field);
+        }
+        return field;
     }
 
     /**
@@ -338,12 +683,13 @@ public final class ReflectionUtils {
      * @return the class field of the given field.
      */
     public Class<?> getDeclaredFieldType(final String fieldName, final Class<?> clazz) {
-        final String cacheKey = "FieldType-" + clazz.getName() + "-" + fieldName;
-        return CACHE_MANAGER.getFromCache(cacheKey, Class.class).orElseGet(() -> {
-            Class<?> fieldType = getDeclaredField(fieldName, clazz).getType();
-            CACHE_MANAGER.cacheObject(cacheKey, fieldType);
-            return fieldType;
-        });
+        final Map<String, Class<?>> fieldTypes = ClassMetadata.of(clazz).getFieldTypes();
+        Class<?> fieldType = fieldTypes.get(fieldName);
+        if (isNull(fieldType)) {
+            fieldType = getDeclaredField(fieldName, clazz).getType();
+            fieldTypes.put(fieldName, fieldType);
+        }
+        return fieldType;
     }
 
     /**
@@ -373,12 +719,17 @@ public final class ReflectionUtils {
     }
 
     /**
-     * Set the value of a field through {@link Field#set} method.
+     * Set the value of a field through its field writer, if it can be created, or through {@link Field#set} method.
      * @param target the field's class
      * @param field the field to set
      * @param fieldValue the value to set
      */
     void setFieldValueWithoutSetterMethod(final Object target, final Field field, final Object fieldValue) {
+        final Optional<BiConsumer<Object, Object>> fieldWriter = findFieldWriter(field);
+        if (fieldWriter.isPresent()) {
+            fieldWriter.get().accept(target, fieldValue);
+            return;
+        }
         try {
             field.set(target, fieldValue);
         } catch (final Exception e) {
@@ -399,18 +750,31 @@ public final class ReflectionUtils {
         return target;
     }
 
+    /**
+     * The getter method name of the given field: the accessor of the record component, if the class is a record, otherwise the field
+     * name prefixed according to the field type.
+     * @param fieldClass the class containing the field
+     * @param fieldName the field name
+     * @param fieldType the field class
+     * @return the getter method name
+     */
+    private String getGetterMethodName(final Class<?> fieldClass, final String fieldName, final Class<?> fieldType) {
+        return fieldClass.isRecord() ? fieldName : getGetterMethodPrefix(fieldType) + capitalize(fieldName);
+    }
+
     /**
      * The getter method prefix based on the field type.
      * @param fieldType the field class
      * @return the method prefix (get or is)
      */
     private String getGetterMethodPrefix(final Class<?> fieldType) {
-        final String cacheKey = "GetterMethodPrefix-" + fieldType.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, String.class).orElseGet(() -> {
-            String res = Boolean.class.equals(fieldType) || fieldType.getName().equals(BOOLEAN) ? IS.getPrefix() : GET.getPrefix();
-            CACHE_MANAGER.cacheObject(cacheKey, res);
-            return res;
-        });
+        final ClassMetadata metadata = ClassMetadata.of(fieldType);
+        String res = metadata.getGetterMethodPrefix();
+        if (isNull(res)) {
+            res = Boolean.class.equals(fieldType) || fieldType.getName().equals(BOOLEAN) ? IS.getPrefix() : GET.getPrefix();
+            metadata.setGetterMethodPrefix(res);
+        }
+        return res;
     }
 
     /**
@@ -422,17 +786,18 @@ public final class ReflectionUtils {
      * @throws MissingMethodException if the method does not exists
      */
     public Method getSetterMethodForField(final Class<?> fieldClass, final String fieldName, final Class<?> fieldType) {
-        final String cacheKey = "SetterMethod-" + fieldClass.getName() + '-' + fieldName;
-        return CACHE_MANAGER.getFromCache(cacheKey, Method.class).orElseGet(() -> {
+        final Map<String, Method> setterMethods = ClassMetadata.of(fieldClass).getSetterMethods();
+        Method method = setterMethods.get(fieldName);
+        if (isNull(method)) {
             try {
-                var method = fieldClass.getMethod(SET.getPrefix() + capitalize(fieldName), fieldType);
-                method.setAccessible(true);
-                CACHE_MANAGER.cacheObject(cacheKey, method);
-                return method;
+                method = fieldClass.getMethod(SET.getPrefix() + capitalize(fieldName), fieldType);
             } catch (NoSuchMethodException e) {
                 throw new MissingMethodException(e.getMessage());
             }
-        });
+            method.setAccessible(true);
+            setterMethods.put(fieldName, method);
+        }
+        return method;
     }
 
     /**
@@ -441,15 +806,15 @@ public final class ReflectionUtils {
      * @return the generic type class
      */
     public Class<?> getGenericFieldType(final Field field) {
-        final String cacheKey = "GenericFieldType-" + field.getDeclaringClass().getName() + '-' + field.getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Class.class).orElseGet(() -> {
-            Class<?> res = null;
-            if (ParameterizedType.class.isAssignableFrom(field.getGenericType().getClass())) {
-                res = getGenericClassType((ParameterizedType) field.getGenericType());
-            }
-            CACHE_MANAGER.cacheObject(cacheKey, res);
-            return res;
-        });
+        final Map<String, Optional<Class<?>>> genericFieldTypes = ClassMetadata.of(field.getDeclaringClass()).getGenericFieldTypes();
+        Optional<Class<?>> res = genericFieldTypes.get(field.getName());
+        if (isNull(res)) {
+            res = ParameterizedType.class.isAssignableFrom(field.getGenericType().getClass())
+                    ? Optional.ofNullable(getGenericClassType((ParameterizedType) field.getGenericType()))
+                    : Optional.empty();
+            genericFieldTypes.put(field.getName(), res);
+        }
+        return res.orElse(null);
     }
 
     /**
@@ -590,9 +955,9 @@ public final class ReflectionUtils {
      */
     public Class<?> getArrayType(final Field arrayField) {
         final String cacheKey = "ArrayType-" + arrayField.getDeclaringClass().getName();
-        return CACHE_MANAGER.getFromCache(cacheKey, Class.class).orElseGet(() -> {
+        return CACHE_MANAGER.getFromCache(arrayField.getDeclaringClass(), cacheKey, Class.class).orElseGet(() -> {
             final Class<?> arrayType = arrayField.getType().getComponentType();
-            CACHE_MANAGER.cacheObject(cacheKey, arrayType);
+            CACHE_MANAGER.cacheObject(arrayField.getDeclaringClass(), cacheKey, arrayType);
             return arrayType;
         });
     }
@@ -612,4 +977,259 @@ public final class ReflectionUtils {
         }
         return new UndeclaredThrowableException(ex);
     }
+
+    /**
+     * Reads the value of a nested field following the path segments, each one through the reader resolved for the class of the current
+     * object: the one kept by the segment, if the class matches, otherwise the one cached in the metadata of the class.
+     */
+    final class FieldPathReader implements Function<Object, Object> {
+        /**
+         * The class of the objects from which the path starts.
+         */
+        private final Class<?> targetClass;
+
+        /**
+         * The field names of the path segments.
+         */
+        private final String[] fieldNames;
+
+        /**
+         * The field type.
+         */
+        private final Class<?> fieldType;
+
+        /**
+         * The reader kept by each path segment, {@code null} until a segment reads an object whose class can be kept.
+         */
+        private final SegmentReader[] segmentReaders;
+
+        /**
+         * Default constructor.
+         * @param targetClass the class of the objects from which the path starts
+         * @param fieldNames the field names of the path segments
+         * @param fieldType the field type
+         */
+        FieldPathReader(final Class<?> targetClass, final String[] fieldNames, final Class<?> fieldType) {
+            this.targetClass = targetClass;
+            this.fieldNames = fieldNames;
+            this.fieldType = fieldType;
+            this.segmentReaders = new SegmentReader[fieldNames.length];
+        }
+
+        /**
+         * Reads the nested field value.
+         * @param target the object from which the path starts
+         * @return the nested field value or {@code null} if any object along the path is {@code null}
+         * @throws MissingFieldException if a path segment cannot be read
+         */
+        @Override
+        public Object apply(final Object target) {
+            Object fieldValue = target;
+            for (int i = 0; i < fieldNames.length && nonNull(fieldValue); i++) {
+                final SegmentReader segmentReader = segmentReaders[i];
+                fieldValue = nonNull(segmentReader) && segmentReader.fieldClass() == fieldValue.getClass()
+                        ? segmentReader.reader().apply(fieldValue)
+                        : readSegment(i, fieldValue);
+            }
+            return fieldValue;
+        }
+
+        /**
+         * Reads a path segment through the reader cached in the metadata of the class of the given object and, if the segment has no
+         * reader yet and the class can be kept, keeps it.
+         * @param segment the path segment index
+         * @param fieldValue the object to read
+         * @return the path segment value
+         * @throws MissingFieldException if the path segment cannot be read
+         */
+        private Object readSegment(final int segment, final Object fieldValue) {
+            final Class<?> fieldClass = fieldValue.getClass();
+            final Function<Object, Object> fieldReader = findFieldReader(fieldClass, fieldNames[segment], fieldType)
+                    .orElseThrow(() -> new MissingFieldException(fieldClass.getName() + " hasn't a field called: " + fieldNames[segment] + "."));
+            if (isNull(segmentReaders[segment]) && isVisibleFromTargetClass(fieldClass)) {
+                segmentReaders[segment] = new SegmentReader(fieldClass, fieldReader);
+            }
+            return fieldReader.apply(fieldValue);
+        }
+
+        /**
+         * Checks if the given class is defined by the class loader of the target class or by one of its ancestors, so that keeping it
+         * doesn't prevent its class loader from being garbage collected before the target class one.
+         * @param fieldClass the class of a path segment object
+         * @return true if the class can be kept by this reader
+         */
+        private boolean isVisibleFromTargetClass(final Class<?> fieldClass) {
+            final ClassLoader fieldClassLoader = fieldClass.getClassLoader();
+            ClassLoader classLoader = targetClass.getClassLoader();
+            while (nonNull(classLoader) && classLoader != fieldClassLoader) {
+                classLoader = classLoader.getParent();
+            }
+            return classLoader == fieldClassLoader;
+        }
+    }
+
+    /**
+     * The reader of a path segment, resolved for the given class.
+     * @param fieldClass the class of the objects read by the reader
+     * @param reader the field reader
+     */
+    private record SegmentReader(Class<?> fieldClass, Function<Object, Object> reader) {
+    }
+
+    /**
+     * Sets a primitive field value through a setter function generated at runtime, that would unbox a {@code null} value into a
+     * {@link NullPointerException}. Such a value is reported as {@link IllegalArgumentException}, as {@link Field#set} does.
+     */
+    private static final class PrimitiveSetterFunction implements BiConsumer<Object, Object> {
+        /**
+         * The field to set.
+         */
+        private final Field field;
+
+        /**
+         * The setter function.
+         */
+        private final BiConsumer<Object, Object> setter;
+
+        /**
+         * Default constructor.
+         * @param field the field to set
+         * @param setter the setter function
+         */
+        PrimitiveSetterFunction(final Field field, final BiConsumer<Object, Object> setter) {
+            this.field = field;
+            this.setter = setter;
+        }
+
+        /**
+         * Sets the field value.
+         * @param target the object containing the field
+         * @param fieldValue the value to set
+         * @throws IllegalArgumentException if the value is null
+         * @throws NullPointerException if the target object is null
+         */
+        @Override
+        public void accept(final Object target, final Object fieldValue) {
+            if (isNull(fieldValue) && nonNull(target)) {
+                throw new IllegalArgumentException(getInvalidFieldValueMessage(field, null));
+            }
+            setter.accept(target, fieldValue);
+        }
+    }
+
+    /**
+     * Returns the message of the error raised when a value cannot be assigned to a field, worded as the {@link Field#set} one.
+     * @param field the field
+     * @param fieldValue the value that cannot be assigned
+     * @return the error message
+     */
+    static String getInvalidFieldValueMessage(final Field field, final Object fieldValue) {
+        return "Can not set " + field.getType().getName() + " field " + field.getDeclaringClass().getName()
+                + "." + field.getName() + " to " + (isNull(fieldValue) ? "null value" : fieldValue.getClass().getName());
+    }
+
+    /**
+     * Copies an {@code int} field value from a source object into a target object through the typed functions bound to the field accessors.
+     */
+    private static final class IntFieldCopier implements BiConsumer<Object, Object> {
+        /**
+         * The function reading the source field.
+         */
+        private final ToIntFunction<Object> reader;
+
+        /**
+         * The function writing the destination field.
+         */
+        private final ObjIntConsumer<Object> writer;
+
+        /**
+         * Default constructor.
+         * @param reader the function reading the source field
+         * @param writer the function writing the destination field
+         */
+        IntFieldCopier(final ToIntFunction<Object> reader, final ObjIntConsumer<Object> writer) {
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        /**
+         * Copies the field value.
+         * @param source the source object
+         * @param target the target object
+         */
+        @Override
+        public void accept(final Object source, final Object target) {
+            writer.accept(target, reader.applyAsInt(source));
+        }
+    }
+
+    /**
+     * Copies a {@code long} field value from a source object into a target object through the typed functions bound to the field accessors.
+     */
+    private static final class LongFieldCopier implements BiConsumer<Object, Object> {
+        /**
+         * The function reading the source field.
+         */
+        private final ToLongFunction<Object> reader;
+
+        /**
+         * The function writing the destination field.
+         */
+        private final ObjLongConsumer<Object> writer;
+
+        /**
+         * Default constructor.
+         * @param reader the function reading the source field
+         * @param writer the function writing the destination field
+         */
+        LongFieldCopier(final ToLongFunction<Object> reader, final ObjLongConsumer<Object> writer) {
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        /**
+         * Copies the field value.
+         * @param source the source object
+         * @param target the target object
+         */
+        @Override
+        public void accept(final Object source, final Object target) {
+            writer.accept(target, reader.applyAsLong(source));
+        }
+    }
+
+    /**
+     * Copies a {@code double} field value from a source object into a target object through the typed functions bound to the field accessors.
+     */
+    private static final class DoubleFieldCopier implements BiConsumer<Object, Object> {
+        /**
+         * The function reading the source field.
+         */
+        private final ToDoubleFunction<Object> reader;
+
+        /**
+         * The function writing the destination field.
+         */
+        private final ObjDoubleConsumer<Object> writer;
+
+        /**
+         * Default constructor.
+         * @param reader the function reading the source field
+         * @param writer the function writing the destination field
+         */
+        DoubleFieldCopier(final ToDoubleFunction<Object> reader, final ObjDoubleConsumer<Object> writer) {
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        /**
+         * Copies the field value.
+         * @param source the source object
+         * @param target the target object
+         */
+        @Override
+        public void accept(final Object source, final Object target) {
+            writer.accept(target, reader.applyAsDouble(source));
+        }
+    }
 }
@@ -53,6 +53,12 @@ public interface Validator {
      */
     <K> void validate(K k);
 
+    /**
+     * Analyses the constraints of the given class, so that the first validation of its instances does not pay for it.
+     * @param clazz the class to analyse
+     */
+    void prepare(Class<?> clazz);
+
     /**
      * Validate that the specified argument is not {@code null};
      * otherwise throws an {@link IllegalArgumentException}.
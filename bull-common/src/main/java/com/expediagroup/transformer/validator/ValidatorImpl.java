@@ -22,6 +22,8 @@ import static jakarta.validation.Validation.buildDefaultValidatorFactory;
 
 import static org.apache.commons.lang3.StringUtils.SPACE;
 
+import static com.expediagroup.transformer.validator.Validator.notNull;
+
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -82,6 +84,15 @@ public class ValidatorImpl implements Validator {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void prepare(final Class<?> clazz) {
+        notNull(clazz, "The class to analyse cannot be null!");
+        getValidator().getConstraintsForClass(clazz);
+    }
+
     /**
      * Creates a function that, given a constraint error, builds a violation message.
      * @return the constant violation message
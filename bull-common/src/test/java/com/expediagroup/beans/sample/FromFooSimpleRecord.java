@@ -0,0 +1,27 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.sample;
+
+import java.math.BigInteger;
+
+/**
+ * Sample record used as source object.
+ * @param name the name
+ * @param id the identifier
+ * @param active true if active
+ */
+public record FromFooSimpleRecord(String name, BigInteger id, boolean active) {
+}
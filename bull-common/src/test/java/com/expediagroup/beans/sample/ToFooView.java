@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.sample;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Sample interface exposing the properties of a Java Bean.
+ */
+public interface ToFooView {
+    /**
+     * Returns the name.
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Returns the identifier.
+     * @return the identifier
+     */
+    BigInteger getId();
+
+    /**
+     * Returns the string list.
+     * @return the string list
+     */
+    List<String> getList();
+
+    /**
+     * Returns the nested object.
+     * @return the nested object
+     */
+    ToSubFooView getNestedObject();
+
+    /**
+     * Returns the nested object list.
+     * @return the nested object list
+     */
+    List<ToSubFooView> getNestedObjectList();
+
+    /**
+     * Returns a description built from the other properties.
+     * @return the description
+     */
+    default String getDescription() {
+        return getName() + '-' + getId();
+    }
+}
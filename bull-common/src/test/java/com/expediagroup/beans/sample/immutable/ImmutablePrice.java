@@ -0,0 +1,28 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.sample.immutable;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Sample record whose components are all immutable.
+ * @param netPrice the net price
+ * @param grossPrice the gross price
+ * @param currency the price currency
+ */
+public record ImmutablePrice(BigDecimal netPrice, BigDecimal grossPrice, Currency currency) {
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.sample.immutable;
+
+import java.util.List;
+
+import com.expediagroup.transformer.annotation.DeeplyImmutable;
+
+import lombok.Getter;
+
+/**
+ * Sample immutable object keeping a list that is never modified.
+ */
+@DeeplyImmutable
+@Getter
+public final class ImmutableTags {
+    private final List<String> values;
+
+    /**
+     * Creates the object with a copy of the given values.
+     * @param values the tag values
+     */
+    public ImmutableTags(final List<String> values) {
+        this.values = List.copyOf(values);
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.beans.sample.immutable;
+
+import java.math.BigInteger;
+
+/**
+ * Sample record declaring a constructor with more parameters than the canonical one.
+ * @param name the name
+ * @param id the identifier
+ * @param active true if active
+ */
+public record ImmutableToFooSimpleRecord(String name, BigInteger id, boolean active) {
+    /**
+     * Constructor ignoring the given description.
+     * @param name the name
+     * @param id the identifier
+     * @param active true if active
+     * @param description the description
+     */
+    public ImmutableToFooSimpleRecord(final String name, final BigInteger id, final boolean active, final String description) {
+        this(name, id, active);
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Unit test for {@link BoundedCacheMap}.
+ */
+public class BoundedCacheMapTest {
+    private static final String FREQUENT_KEY = "frequentKey";
+    private static final String RECENT_KEY = "recentKey";
+    private static final String NEW_KEY = "newKey";
+    private static final String EXPIRED_KEY = "expiredKey";
+    private static final String OTHER_KEY = "otherKey";
+    private static final String VALUE = "value";
+    private static final int MAXIMUM_SIZE = 2;
+    private static final int READS = 32;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofSeconds(2);
+    private static final long ACCESS_INTERVAL_MILLIS = 1200;
+
+    /**
+     * Tests that the least recently used entry is evicted, or the new entry is not admitted, according to the eviction policy.
+     * @param testCaseDescription the test case description
+     * @param evictionPolicy the eviction policy
+     * @param expectedFrequentKeyCached true if the frequently used entry is expected to be still cached
+     * @param expectedNewKeyCached true if the new entry is expected to be cached
+     */
+    @Test(dataProvider = "dataEvictionTesting")
+    public void testEntriesAreEvictedAccordingToThePolicy(final String testCaseDescription, final EvictionPolicy evictionPolicy,
+                                                          final boolean expectedFrequentKeyCached, final boolean expectedNewKeyCached) {
+        // GIVEN
+        BoundedCacheMap underTest = new BoundedCacheMap(CacheConfig.builder()
+                .maximumSize(MAXIMUM_SIZE)
+                .evictionPolicy(evictionPolicy)
+                .build());
+        underTest.put(FREQUENT_KEY, VALUE);
+        underTest.get(FREQUENT_KEY);
+        underTest.get(FREQUENT_KEY);
+        underTest.put(RECENT_KEY, VALUE);
+
+        // WHEN
+        underTest.put(NEW_KEY, VALUE);
+
+        // THEN
+        assertThat(underTest).hasSize(MAXIMUM_SIZE);
+        assertThat(underTest.containsKey(RECENT_KEY)).isTrue();
+        assertThat(underTest.containsKey(FREQUENT_KEY)).isEqualTo(expectedFrequentKeyCached);
+        assertThat(underTest.containsKey(NEW_KEY)).isEqualTo(expectedNewKeyCached);
+    }
+
+    /**
+     * Creates the parameters to be used for testing the eviction policies.
+     * @return parameters to be used for testing the eviction policies.
+     */
+    @DataProvider
+    private Object[][] dataEvictionTesting() {
+        return new Object[][] {
+                {"Tests that the least recently used entry is evicted with the LRU policy", EvictionPolicy.LRU, false, true},
+                {"Tests that the new entry is not admitted with the TINY_LFU policy if the least recently used one is more frequently used",
+                        EvictionPolicy.TINY_LFU, true, false}
+        };
+    }
+
+    /**
+     * Tests that the entries not accessed for the configured time expire.
+     */
+    @Test
+    public void testEntriesExpireAfterAccess() {
+        // GIVEN
+        BoundedCacheMap underTest = new BoundedCacheMap(CacheConfig.builder()
+                .expireAfterAccess(Duration.ZERO)
+                .build());
+        underTest.put(NEW_KEY, VALUE);
+
+        // WHEN
+        Object actual = underTest.get(NEW_KEY);
+
+        // THEN
+        assertThat(actual).isNull();
+        assertThat(underTest).isEmpty();
+    }
+
+    /**
+     * Tests that the expired entries are removed when a new entry is added, even if they follow in the access order an entry whose last
+     * read has been dropped from the read buffer, hence has not been applied to the access order.
+     * @throws Exception if the test is interrupted or the write fails
+     */
+    @Test
+    public void testPutRemovesTheExpiredEntriesFollowingAnEntryReadMoreRecently() throws Exception {
+        // GIVEN
+        final CountDownLatch evicting = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> removedKeys = new CopyOnWriteArrayList<>();
+        BoundedCacheMap underTest = new BoundedCacheMap(CacheConfig.builder()
+                .maximumSize(MAXIMUM_SIZE)
+                .evictionPolicy(EvictionPolicy.TINY_LFU)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .build(), key -> {
+                    removedKeys.add(key);
+                    awaitRelease(evicting, release);
+                });
+        underTest.put(RECENT_KEY, VALUE);
+        underTest.put(EXPIRED_KEY, VALUE);
+        Thread.sleep(ACCESS_INTERVAL_MILLIS);
+        final CompletableFuture<Object> notAdmittedWrite = CompletableFuture.supplyAsync(() -> underTest.put(OTHER_KEY, VALUE));
+        evicting.await();
+        underTest.get(RECENT_KEY);
+        IntStream.range(0, READS).forEach(i -> underTest.get(NEW_KEY));
+        release.countDown();
+        notAdmittedWrite.get();
+        Thread.sleep(ACCESS_INTERVAL_MILLIS);
+
+        // WHEN
+        underTest.put(NEW_KEY, VALUE);
+
+        // THEN
+        assertThat(removedKeys).containsExactly(OTHER_KEY, EXPIRED_KEY);
+        assertThat(underTest).containsOnlyKeys(RECENT_KEY, NEW_KEY);
+    }
+
+    /**
+     * Tests that the entries removed through the key set iterator are removed from the cache.
+     */
+    @Test
+    public void testKeySetRemoveIfRemovesTheEntriesFromTheCache() {
+        // GIVEN
+        BoundedCacheMap underTest = new BoundedCacheMap(CacheConfig.builder()
+                .maximumSize(MAXIMUM_SIZE)
+                .build());
+        underTest.put(RECENT_KEY, VALUE);
+        underTest.put(NEW_KEY, VALUE);
+
+        // WHEN
+        underTest.keySet().removeIf(NEW_KEY::equals);
+
+        // THEN
+        assertThat(underTest).containsOnlyKeys(RECENT_KEY);
+    }
+
+    /**
+     * Tests that the reads neither wait for a write holding the eviction lock nor prevent it from completing.
+     * @throws Exception if the write fails
+     */
+    @Test
+    public void testGetDoesNotWaitForTheWriteInProgress() throws Exception {
+        // GIVEN
+        final CountDownLatch evicting = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        BoundedCacheMap underTest = new BoundedCacheMap(CacheConfig.builder()
+                .maximumSize(MAXIMUM_SIZE)
+                .build(), key -> awaitRelease(evicting, release));
+        underTest.put(FREQUENT_KEY, VALUE);
+        underTest.put(RECENT_KEY, VALUE);
+        final CompletableFuture<Object> write = CompletableFuture.supplyAsync(() -> underTest.put(NEW_KEY, VALUE));
+        evicting.await();
+
+        // WHEN
+        List<Object> actual = IntStream.range(0, READS)
+                .mapToObj(i -> underTest.get(RECENT_KEY))
+                .toList();
+
+        // THEN
+        release.countDown();
+        write.get();
+        assertThat(actual).hasSize(READS).containsOnly(VALUE);
+        assertThat(underTest).containsOnlyKeys(RECENT_KEY, NEW_KEY);
+    }
+
+    /**
+     * Signals that an eviction is in progress and waits until it's released.
+     * @param evicting the latch signaling the eviction
+     * @param release the latch releasing the eviction
+     */
+    private void awaitRelease(final CountDownLatch evicting, final CountDownLatch release) {
+        evicting.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -18,6 +18,11 @@ package com.expediagroup.transformer.cache;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.MockitoAnnotations.openMocks;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Optional;
+
 import org.mockito.InjectMocks;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -31,6 +36,71 @@ public class CacheManagerFactoryTest {
      */
     private static final String CACHE_NAME = "cacheName";
 
+    /**
+     * Bounded cache name param.
+     */
+    private static final String BOUNDED_CACHE_NAME = "boundedCacheName";
+
+    /**
+     * Bounded cache maximum size.
+     */
+    private static final int MAXIMUM_SIZE = 1;
+
+    /**
+     * Cache key param.
+     */
+    private static final String CACHE_KEY = "cacheKey";
+
+    /**
+     * Other cache key param.
+     */
+    private static final String OTHER_CACHE_KEY = "otherCacheKey";
+
+    /**
+     * Cache name param of the cache recording the statistics.
+     */
+    private static final String STATS_CACHE_NAME = "statsCacheName";
+
+    /**
+     * Cache name param of the cache not recording the statistics.
+     */
+    private static final String DISABLED_STATS_CACHE_NAME = "disabledStatsCacheName";
+
+    /**
+     * Cache key prefix param.
+     */
+    private static final String CACHE_KEY_PREFIX = "KeyPrefix";
+
+    /**
+     * Cache key param starting with the prefix.
+     */
+    private static final String PREFIXED_CACHE_KEY = CACHE_KEY_PREFIX + "-" + CACHE_KEY;
+
+    /**
+     * Other cache key param starting with the prefix.
+     */
+    private static final String OTHER_PREFIXED_CACHE_KEY = CACHE_KEY_PREFIX + "-" + OTHER_CACHE_KEY;
+
+    /**
+     * Name of a cache that does not exist.
+     */
+    private static final String NOT_EXISTING_CACHE_NAME = "notExistingCacheName";
+
+    /**
+     * Expected hit rate after a miss and a hit.
+     */
+    private static final double EXPECTED_HIT_RATE = 0.5;
+
+    /**
+     * Cache name param of the cache used for testing the eviction.
+     */
+    private static final String EVICTION_CACHE_NAME = "evictionCacheName";
+
+    /**
+     * Cache key param containing the name of the owner class.
+     */
+    private static final String OWNER_CACHE_KEY = CACHE_KEY_PREFIX + "-" + CacheManagerFactoryTest.class.getName();
+
     /**
      * The class to be tested.
      */
@@ -69,4 +139,153 @@ public class CacheManagerFactoryTest {
         // THEN
         assertThat(actual).isNotNull();
     }
+
+    /**
+     * Tests that the method: {@code getCacheManager} raises an {@link IllegalArgumentException} if the cache configuration is null.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGetCacheThrowsExceptionIfTheCacheConfigIsNull() {
+        // GIVEN
+
+        // WHEN
+        underTest.getCacheManager(CACHE_NAME, null);
+    }
+
+    /**
+     * Tests that the method: {@code getCacheManager} returns a {@link CacheManager} instance backed by a cache with the given configuration.
+     */
+    @Test
+    public void testGetCacheReturnsACacheManagerWithTheGivenConfiguration() {
+        // GIVEN
+        final CacheManager actual = underTest.getCacheManager(BOUNDED_CACHE_NAME, CacheConfig.builder().maximumSize(MAXIMUM_SIZE).build());
+
+        // WHEN
+        actual.cacheObject(CACHE_KEY, CACHE_KEY);
+        actual.cacheObject(OTHER_CACHE_KEY, OTHER_CACHE_KEY);
+
+        // THEN
+        assertThat(actual.getFromCache(CACHE_KEY, String.class)).isEmpty();
+        assertThat(actual.getFromCache(OTHER_CACHE_KEY, String.class)).contains(OTHER_CACHE_KEY);
+    }
+
+    /**
+     * Tests that the method: {@code getCacheStats} returns the statistics of the cache and of each key prefix.
+     */
+    @Test
+    public void testGetCacheStatsReturnsTheCacheAndKeyPrefixStatistics() {
+        // GIVEN
+        final CacheManager cacheManager = underTest.getCacheManager(STATS_CACHE_NAME, CacheConfig.builder()
+                .maximumSize(MAXIMUM_SIZE)
+                .keyPrefixStatsEnabled(true)
+                .build());
+        cacheManager.getFromCache(PREFIXED_CACHE_KEY, String.class);
+        cacheManager.cacheObject(PREFIXED_CACHE_KEY, CACHE_KEY);
+        cacheManager.getFromCache(PREFIXED_CACHE_KEY, String.class);
+        cacheManager.cacheObject(OTHER_PREFIXED_CACHE_KEY, OTHER_CACHE_KEY);
+
+        // WHEN
+        final Optional<CacheStats> actual = underTest.getCacheStats(STATS_CACHE_NAME);
+
+        // THEN
+        assertThat(actual).isPresent();
+        assertThat(actual.get())
+                .extracting(CacheStats::getHitCount, CacheStats::getMissCount, CacheStats::getLoadCount, CacheStats::getEvictionCount, CacheStats::getSize)
+                .containsExactly(1L, 1L, 2L, 1L, 1L);
+        assertThat(actual.get().getHitRate()).isEqualTo(EXPECTED_HIT_RATE);
+        assertThat(actual.get().getKeyPrefixStats()).containsOnlyKeys(CACHE_KEY_PREFIX);
+        assertThat(actual.get().getKeyPrefixStats().get(CACHE_KEY_PREFIX))
+                .extracting(CacheStats::getHitCount, CacheStats::getMissCount, CacheStats::getLoadCount, CacheStats::getEvictionCount, CacheStats::getSize)
+                .containsExactly(1L, 1L, 2L, 1L, 1L);
+        assertThat(underTest.getCacheStats()).containsKey(STATS_CACHE_NAME);
+    }
+
+    /**
+     * Tests that the method: {@code getCacheStats} returns only the size of a cache whose statistics are disabled.
+     */
+    @Test
+    public void testGetCacheStatsReturnsOnlyTheSizeIfTheStatisticsAreDisabled() {
+        // GIVEN
+        final CacheManager cacheManager = underTest.getCacheManager(DISABLED_STATS_CACHE_NAME, CacheConfig.builder()
+                .statsEnabled(false)
+                .keyPrefixStatsEnabled(true)
+                .build());
+        cacheManager.getFromCache(PREFIXED_CACHE_KEY, String.class);
+        cacheManager.cacheObject(PREFIXED_CACHE_KEY, CACHE_KEY);
+        cacheManager.getFromCache(PREFIXED_CACHE_KEY, String.class);
+
+        // WHEN
+        final Optional<CacheStats> actual = underTest.getCacheStats(DISABLED_STATS_CACHE_NAME);
+
+        // THEN
+        assertThat(actual).isPresent();
+        assertThat(actual.get())
+                .extracting(CacheStats::getHitCount, CacheStats::getMissCount, CacheStats::getLoadCount, CacheStats::getTotalLoadTime,
+                        CacheStats::getEvictionCount, CacheStats::getSize)
+                .containsExactly(0L, 0L, 0L, 0L, 0L, 1L);
+        assertThat(actual.get().getKeyPrefixStats()).isEmpty();
+    }
+
+    /**
+     * Tests that the method: {@code getCacheStats} returns an empty optional if the cache does not exist.
+     */
+    @Test
+    public void testGetCacheStatsReturnsEmptyIfTheCacheDoesNotExist() {
+        // GIVEN
+
+        // WHEN
+        final Optional<CacheStats> actual = underTest.getCacheStats(NOT_EXISTING_CACHE_NAME);
+
+        // THEN
+        assertThat(actual).isEmpty();
+    }
+
+    /**
+     * Tests that the method: {@code evict} removes the objects related to the classes defined by the given class loader.
+     */
+    @Test
+    public void testEvictRemovesTheObjectsRelatedToTheClassLoaderClasses() {
+        // GIVEN
+        final CacheManager cacheManager = underTest.getCacheManager(EVICTION_CACHE_NAME);
+        cacheManager.cacheObject(CacheManagerFactoryTest.class, CACHE_KEY, CACHE_KEY);
+        cacheManager.cacheObject(OWNER_CACHE_KEY, CACHE_KEY);
+        cacheManager.cacheObject(OTHER_CACHE_KEY, OTHER_CACHE_KEY);
+
+        // WHEN
+        underTest.evict(CacheManagerFactoryTest.class.getClassLoader());
+
+        // THEN
+        assertThat(cacheManager.getFromCache(CacheManagerFactoryTest.class, CACHE_KEY, String.class)).isEmpty();
+        assertThat(cacheManager.getFromCache(OWNER_CACHE_KEY, String.class)).isEmpty();
+        assertThat(cacheManager.getFromCache(OTHER_CACHE_KEY, String.class)).contains(OTHER_CACHE_KEY);
+    }
+
+    /**
+     * Tests that the method: {@code evict} keeps the cached objects if no class of the given class loader has been cached.
+     * @throws IOException if the class loader cannot be closed
+     */
+    @Test
+    public void testEvictKeepsTheCachedObjectsIfNoClassOfTheClassLoaderHasBeenCached() throws IOException {
+        // GIVEN
+        final CacheManager cacheManager = underTest.getCacheManager(EVICTION_CACHE_NAME);
+        cacheManager.cacheObject(OTHER_CACHE_KEY, OTHER_CACHE_KEY);
+
+        // WHEN
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0])) {
+            underTest.evict(classLoader);
+        }
+
+        // THEN
+        assertThat(cacheManager.getFromCache(OTHER_CACHE_KEY, String.class)).contains(OTHER_CACHE_KEY);
+    }
+
+    /**
+     * Tests that the method: {@code evict} raises an {@link IllegalArgumentException} if the class loader is null.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testEvictThrowsExceptionIfTheClassLoaderIsNull() {
+        // GIVEN
+
+        // WHEN
+        underTest.evict(null);
+    }
 }
@@ -32,6 +32,12 @@ public class CacheManagerTest {
     private static final String CACHE_KEY = "cacheKey";
     private static final Class<String> CACHED_OBJECT_CLASS = String.class;
     private static final String STARTS_WITH_REGEX = "^ca.*";
+    private static final String NAMESPACE = "namespace";
+    private static final String GROUP = "group";
+    private static final String OTHER_GROUP = "otherGroup";
+    private static final String NAMESPACE_CACHE_KEY = NAMESPACE + "-" + GROUP;
+    private static final String OTHER_NAMESPACE_CACHE_KEY = NAMESPACE + "-" + OTHER_GROUP;
+    private static final int SINGLE_ENTRY = 1;
 
     /**
      * The class to be tested.
@@ -107,4 +113,93 @@ public class CacheManagerTest {
         // THEN
         assertThat(actual).isNotPresent();
     }
+
+    /**
+     * Tests that the keys removed by the method {@code removeMatchingKeys} are removed from the namespace index, so that removing the
+     * namespace does not remove the objects cached again with the same keys outside the namespace.
+     */
+    @Test
+    public void testRemoveMatchingKeysRemovesTheKeysFromTheNamespaceIndex() {
+        // GIVEN
+        CacheManager cacheManager = new CacheManager(new ConcurrentHashMap<>());
+        cacheManager.cacheObject(NAMESPACE, GROUP, NAMESPACE_CACHE_KEY, VALUE);
+        cacheManager.removeMatchingKeys(NAMESPACE_CACHE_KEY);
+        cacheManager.cacheObject(NAMESPACE_CACHE_KEY, DEFAULT_VALUE);
+
+        // WHEN
+        cacheManager.removeNamespace(NAMESPACE);
+
+        // THEN
+        assertThat(cacheManager.getFromCache(NAMESPACE_CACHE_KEY, CACHED_OBJECT_CLASS)).containsSame(DEFAULT_VALUE);
+    }
+
+    /**
+     * Tests that the method {@code removeNamespace} removes all the objects cached under the given namespace.
+     */
+    @Test
+    public void testRemoveNamespaceRemovesAllTheObjectsOfTheNamespace() {
+        // GIVEN
+        underTest.cacheObject(NAMESPACE, GROUP, NAMESPACE_CACHE_KEY, VALUE);
+        underTest.cacheObject(NAMESPACE, OTHER_GROUP, OTHER_NAMESPACE_CACHE_KEY, VALUE);
+
+        // WHEN
+        underTest.removeNamespace(NAMESPACE);
+
+        // THEN
+        assertThat(underTest.getFromCache(NAMESPACE_CACHE_KEY, CACHED_OBJECT_CLASS)).isNotPresent();
+        assertThat(underTest.getFromCache(OTHER_NAMESPACE_CACHE_KEY, CACHED_OBJECT_CLASS)).isNotPresent();
+    }
+
+    /**
+     * Tests that the method {@code removeNamespace} removes only the objects cached under the given group of the namespace.
+     */
+    @Test
+    public void testRemoveNamespaceGroupRemovesOnlyTheObjectsOfTheGroup() {
+        // GIVEN
+        underTest.cacheObject(NAMESPACE, GROUP, NAMESPACE_CACHE_KEY, VALUE);
+        underTest.cacheObject(NAMESPACE, OTHER_GROUP, OTHER_NAMESPACE_CACHE_KEY, VALUE);
+
+        // WHEN
+        underTest.removeNamespace(NAMESPACE, GROUP);
+
+        // THEN
+        assertThat(underTest.getFromCache(NAMESPACE_CACHE_KEY, CACHED_OBJECT_CLASS)).isNotPresent();
+        assertThat(underTest.getFromCache(OTHER_NAMESPACE_CACHE_KEY, CACHED_OBJECT_CLASS)).containsSame(VALUE);
+    }
+
+    /**
+     * Tests that the keys evicted from a bounded cache are removed from the namespace index, so that removing the namespace does not
+     * remove the objects cached again with the same keys outside the namespace.
+     */
+    @Test
+    public void testEvictedKeysAreRemovedFromTheNamespaceIndex() {
+        // GIVEN
+        CacheManager boundedCacheManager = new CacheManager(CacheConfig.builder().maximumSize(SINGLE_ENTRY).build());
+        boundedCacheManager.cacheObject(NAMESPACE, GROUP, NAMESPACE_CACHE_KEY, VALUE);
+        boundedCacheManager.cacheObject(NAMESPACE, GROUP, OTHER_NAMESPACE_CACHE_KEY, VALUE);
+        boundedCacheManager.cacheObject(NAMESPACE_CACHE_KEY, DEFAULT_VALUE);
+
+        // WHEN
+        boundedCacheManager.removeNamespace(NAMESPACE);
+
+        // THEN
+        assertThat(boundedCacheManager.getFromCache(NAMESPACE_CACHE_KEY, CACHED_OBJECT_CLASS)).containsSame(DEFAULT_VALUE);
+        assertThat(boundedCacheManager.getFromCache(OTHER_NAMESPACE_CACHE_KEY, CACHED_OBJECT_CLASS)).isNotPresent();
+    }
+
+    /**
+     * Tests that the objects cached with an owner class are retrieved only through the same owner class.
+     */
+    @Test
+    public void testCacheObjectWithOwnerStoresTheObjectWithTheOwnerClass() {
+        // GIVEN
+        underTest.cacheObject(CacheManagerTest.class, NAMESPACE_CACHE_KEY, VALUE);
+
+        // WHEN
+        Optional<String> actual = underTest.getFromCache(CacheManagerTest.class, NAMESPACE_CACHE_KEY, CACHED_OBJECT_CLASS);
+
+        // THEN
+        assertThat(actual).containsSame(VALUE);
+        assertThat(underTest.getFromCache(String.class, NAMESPACE_CACHE_KEY, CACHED_OBJECT_CLASS)).isNotPresent();
+    }
 }
@@ -0,0 +1,191 @@
+/**
+ * Copyright (C) 2019-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.transformer.cache;
+
+import static java.util.Objects.nonNull;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.sql.Date;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+/**
+ * Unit test for class: {@link ClassScopedValue}.
+ */
+public class ClassScopedValueTest {
+    /**
+     * The maximum number of garbage collections requested while waiting for a class loader to be collected.
+     */
+    private static final int MAX_GC_ATTEMPTS = 20;
+
+    /**
+     * The pause, in milliseconds, between two garbage collection requests.
+     */
+    private static final long GC_PAUSE_MILLIS = 100;
+
+    /**
+     * Tests that the method: {@code get} computes the value of a class only once, both for a class defined by the library class loader
+     * and for the classes defined by the bootstrap and the platform class loaders.
+     */
+    @Test
+    public void testGetComputesTheValueOfAClassOnlyOnce() {
+        // GIVEN
+        final AtomicInteger computations = new AtomicInteger();
+        final ClassScopedValue<String> underTest = new ClassScopedValue<>(type -> type.getName() + computations.incrementAndGet());
+
+        // WHEN
+        final String actual = underTest.get(ClassScopedValueTest.class);
+        final String actualBootstrapClassValue = underTest.get(String.class);
+        final String actualPlatformClassValue = underTest.get(Date.class);
+
+        // THEN
+        assertThat(underTest.get(ClassScopedValueTest.class)).isSameAs(actual);
+        assertThat(underTest.get(String.class)).isSameAs(actualBootstrapClassValue);
+        assertThat(underTest.get(Date.class)).isSameAs(actualPlatformClassValue);
+        assertThat(computations).hasValue(3);
+    }
+
+    /**
+     * Tests that the method: {@code remove} makes the value be computed again on the next request.
+     */
+    @Test
+    public void testRemoveMakesTheValueBeComputedAgain() {
+        // GIVEN
+        final AtomicInteger computations = new AtomicInteger();
+        final ClassScopedValue<Integer> underTest = new ClassScopedValue<>(type -> computations.incrementAndGet());
+        underTest.get(ClassScopedValueTest.class);
+        underTest.get(String.class);
+
+        // WHEN
+        underTest.remove(ClassScopedValueTest.class);
+        underTest.remove(String.class);
+
+        // THEN
+        assertThat(underTest.get(ClassScopedValueTest.class)).isEqualTo(3);
+        assertThat(underTest.get(String.class)).isEqualTo(4);
+    }
+
+    /**
+     * Tests that the method: {@code clear} makes the values of all the classes be computed again on the next request.
+     */
+    @Test
+    public void testClearMakesAllTheValuesBeComputedAgain() {
+        // GIVEN
+        final AtomicInteger computations = new AtomicInteger();
+        final ClassScopedValue<Integer> underTest = new ClassScopedValue<>(type -> computations.incrementAndGet());
+        underTest.get(ClassScopedValueTest.class);
+        underTest.get(String.class);
+
+        // WHEN
+        underTest.clear();
+
+        // THEN
+        assertThat(underTest.get(ClassScopedValueTest.class)).isEqualTo(3);
+        assertThat(underTest.get(String.class)).isEqualTo(4);
+    }
+
+    /**
+     * Tests that the method: {@code evict} removes the values of the given classes and the ones of the classes defined by the given
+     * class loader kept outside their class.
+     */
+    @Test
+    public void testEvictRemovesTheValuesOfTheClassLoaderClasses() {
+        // GIVEN
+        final AtomicInteger computations = new AtomicInteger();
+        final ClassScopedValue<Integer> underTest = new ClassScopedValue<>(type -> computations.incrementAndGet());
+        underTest.get(String.class);
+        underTest.get(Date.class);
+        underTest.get(ClassScopedValueTest.class);
+
+        // WHEN
+        ClassScopedValue.evict(Date.class.getClassLoader(), List.of(ClassScopedValueTest.class));
+
+        // THEN
+        assertThat(underTest.get(String.class)).isEqualTo(1);
+        assertThat(underTest.get(Date.class)).isEqualTo(4);
+        assertThat(underTest.get(ClassScopedValueTest.class)).isEqualTo(5);
+    }
+
+    /**
+     * Tests that the values computed for the JDK classes do not prevent the library class loader from being garbage collected.
+     * @throws Exception if the library cannot be loaded through an isolated class loader
+     */
+    @Test
+    public void testGetDoesNotPreventTheLibraryClassLoaderFromBeingCollected() throws Exception {
+        // GIVEN
+        final WeakReference<ClassLoader> libraryClassLoader = computeJdkClassValueThroughIsolatedLibrary();
+
+        // WHEN
+        for (int attempt = 0; attempt < MAX_GC_ATTEMPTS && nonNull(libraryClassLoader.get()); attempt++) {
+            System.gc();
+            Thread.sleep(GC_PAUSE_MILLIS);
+        }
+
+        // THEN
+        assertThat(libraryClassLoader.get()).isNull();
+    }
+
+    /**
+     * Loads this library through a throwaway class loader, not sharing its classes with the test one, and computes with it the value
+     * of a JDK class. As the library caches its own objects (e.g. the class metadata), the value refers to a library class.
+     * @return a weak reference to the throwaway class loader
+     * @throws Exception if the library cannot be loaded through the throwaway class loader
+     */
+    private WeakReference<ClassLoader> computeJdkClassValueThroughIsolatedLibrary() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(getClassPath(), ClassLoader.getPlatformClassLoader())) {
+            final Class<?> isolatedClass = classLoader.loadClass(ClassScopedValue.class.getName());
+            final Function<Class<?>, Class<?>> valueFactory = type -> isolatedClass;
+            final Object classScopedValue = isolatedClass.getConstructor(Function.class).newInstance(valueFactory);
+            final Object actual = isolatedClass.getMethod("get", Class.class).invoke(classScopedValue, String.class);
+            assertThat(isolatedClass.getClassLoader()).isSameAs(classLoader);
+            assertThat(actual).isSameAs(isolatedClass);
+            return new WeakReference<>(classLoader);
+        }
+    }
+
+    /**
+     * Returns the class path the tests are running with.
+     * @return the class path entries
+     */
+    private URL[] getClassPath() {
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .map(this::toUrl)
+                .toArray(URL[]::new);
+    }
+
+    /**
+     * Converts the given class path entry into an {@link URL}.
+     * @param classPathEntry the class path entry
+     * @return the class path entry URL
+     */
+    private URL toUrl(final String classPathEntry) {
+        try {
+            return new File(classPathEntry).toURI().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Instant;
@@ -57,8 +58,11 @@ import com.expediagroup.beans.sample.FromFooAdvFields;
 import com.expediagroup.beans.sample.FromFooSimple;
 import com.expediagroup.beans.sample.FromFooSimpleNoGetters;
 import com.expediagroup.beans.sample.FromFooSubClass;
+import com.expediagroup.beans.sample.immutable.ImmutablePrice;
+import com.expediagroup.beans.sample.immutable.ImmutableTags;
 import com.expediagroup.beans.sample.immutable.ImmutableToFoo;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooCustomAnnotation;
+import com.expediagroup.beans.sample.immutable.ImmutableToFooSimpleRecord;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooSubClass;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooWithKotlinDefaultConstructor;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooWithOnlySyntheticConstructor;
@@ -310,6 +314,41 @@ public class ClassUtilsTest {
         };
     }
 
+    /**
+     * Tests that the method {@code isDeeplyImmutable} returns the expected value.
+     * @param testCaseDescription the test case description
+     * @param testClass the class to test
+     * @param expectedResult the expected result
+     */
+    @Test(dataProvider = "dataDeeplyImmutableTesting")
+    public void testIsDeeplyImmutableWorksAsExpected(final String testCaseDescription, final Class<?> testClass, final boolean expectedResult) {
+        // GIVEN
+
+        // WHEN
+        boolean actual = underTest.isDeeplyImmutable(testClass);
+
+        // THEN
+        assertThat(actual).isEqualTo(expectedResult);
+    }
+
+    /**
+     * Creates the parameters to be used for testing the method {@code isDeeplyImmutable}.
+     * @return parameters to be used for testing the method {@code isDeeplyImmutable}.
+     */
+    @DataProvider
+    private Object[][] dataDeeplyImmutableTesting() {
+        return new Object[][] {
+                {"Tests that the method returns true if the class is a primitive type", BigDecimal.class, true},
+                {"Tests that the method returns true if the class is an immutable special type", Instant.class, true},
+                {"Tests that the method returns false if the class is a mutable special type", Date.class, false},
+                {"Tests that the method returns true if the class is a record whose components are all immutable", ImmutablePrice.class, true},
+                {"Tests that the method returns true if the class is annotated with DeeplyImmutable", ImmutableTags.class, true},
+                {"Tests that the method returns false if the class is not final", ImmutableToFoo.class, false},
+                {"Tests that the method returns false if the class has fields of a mutable type", Optional.class, false},
+                {"Tests that the method returns false if the class is an array", Integer[].class, false}
+        };
+    }
+
     /**
      * Tests that {@code isPrimitiveTypeArray} returns false for a non-array class,
      * covering the false branch of {@code clazz.isArray()}.
@@ -496,6 +535,24 @@ public class ClassUtilsTest {
         };
     }
 
+    /**
+     * Tests that the method {@code getDeclaredFields} returns the cached fields and keeps separated the results with and without the static fields.
+     */
+    @Test
+    public void testGetDeclaredFieldsReturnsTheCachedFields() {
+        // GIVEN
+        List<Field> notStaticFields = underTest.getDeclaredFields(CLASS_WITH_STATIC_FIELDS, true);
+        List<Field> allFields = underTest.getDeclaredFields(CLASS_WITH_STATIC_FIELDS, false);
+
+        // WHEN
+        List<Field> actualNotStaticFields = underTest.getDeclaredFields(CLASS_WITH_STATIC_FIELDS, true);
+        List<Field> actualAllFields = underTest.getDeclaredFields(CLASS_WITH_STATIC_FIELDS, false);
+
+        // THEN
+        assertThat(actualNotStaticFields).isSameAs(notStaticFields).hasSize(EXPECTED_NOT_STATIC_FIELDS);
+        assertThat(actualAllFields).isSameAs(allFields).hasSize(CLASS_WITH_STATIC_FIELDS.getDeclaredFields().length);
+    }
+
     /**
      * Test that the a manual declared Builder is returned by method: {@code getDeclaredClasses}.
      * @param testCaseDescription the test case description
@@ -573,6 +630,48 @@ public class ClassUtilsTest {
         assertThat(actual.getParameterCount()).isEqualTo(KOTLIN_SYNTHETIC_CONSTRUCTOR_PARAMS);
     }
 
+    /**
+     * Tests that the method {@code getAllArgsConstructor} returns the canonical constructor of a record, even if it declares a
+     * constructor with more parameters.
+     */
+    @Test
+    public void testGetAllArgsConstructorReturnsTheCanonicalConstructorOfARecord() {
+        // GIVEN
+
+        // WHEN
+        Constructor<?> actual = underTest.getAllArgsConstructor(ImmutableToFooSimpleRecord.class);
+
+        // THEN
+        assertThat(actual.getParameterTypes()).containsExactly(String.class, BigInteger.class, boolean.class);
+    }
+
+    /**
+     * Tests that the method {@code getRecordComponents} returns the record components in the canonical constructor order.
+     */
+    @Test
+    public void testGetRecordComponentsWorksAsExpected() {
+        // GIVEN
+
+        // WHEN
+        RecordComponent[] actual = underTest.getRecordComponents(ImmutableToFooSimpleRecord.class);
+
+        // THEN
+        assertThat(actual)
+                .extracting(RecordComponent::getName)
+                .containsExactly(NAME_FIELD_NAME, "id", "active");
+    }
+
+    /**
+     * Tests that the method {@code getRecordComponents} throws an {@link IllegalArgumentException} if the class is not a record.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGetRecordComponentsThrowsExceptionIfTheClassIsNotARecord() {
+        // GIVEN
+
+        // WHEN
+        underTest.getRecordComponents(ImmutableToFoo.class);
+    }
+
     /**
      * Tests that the method {@code getNoArgsConstructor} works as expected.
      */
@@ -1210,6 +1309,50 @@ public class ClassUtilsTest {
         assertThat(actual).isNotNull().isInstanceOf(MutableToFoo.class);
     }
 
+    /**
+     * Tests that the method {@link ClassUtils#getInstance(Constructor, Object...)} creates an instance through the all args constructor,
+     * converting the arguments of the primitive parameters.
+     */
+    @Test
+    public void testGetInstanceReturnsANewInstanceThroughTheAllArgsConstructor() {
+        // GIVEN
+        Constructor<FromFooSimple> constructor = underTest.getAllArgsConstructor(FromFooSimple.class);
+
+        // WHEN
+        FromFooSimple actual = underTest.getInstance(constructor, NAME_FIELD_NAME, BigInteger.ONE, true);
+
+        // THEN
+        assertThat(actual).isEqualTo(new FromFooSimple(NAME_FIELD_NAME, BigInteger.ONE, true));
+    }
+
+    /**
+     * Tests that the method {@link ClassUtils#getInstance(Constructor, Object...)} raises an {@link IllegalArgumentException} if the
+     * arguments don't match the constructor parameters.
+     * @param testCaseDescription the test case description
+     * @param constructorArgs the constructor arguments
+     */
+    @Test(dataProvider = "dataGetInstanceWithWrongArgumentsTesting", expectedExceptions = IllegalArgumentException.class)
+    public void testGetInstanceRaisesAnIllegalArgumentExceptionIfTheArgumentsAreWrong(final String testCaseDescription, final Object[] constructorArgs) {
+        // GIVEN
+        Constructor<FromFooSimple> constructor = underTest.getAllArgsConstructor(FromFooSimple.class);
+
+        // WHEN
+        underTest.getInstance(constructor, constructorArgs);
+    }
+
+    /**
+     * Creates the parameters to be used for testing the method {@code getInstance} with wrong arguments.
+     * @return parameters to be used for testing the method {@code getInstance} with wrong arguments.
+     */
+    @DataProvider
+    private Object[][] dataGetInstanceWithWrongArgumentsTesting() {
+        return new Object[][] {
+                {"Tests that an exception is raised if an argument has a wrong type", new Object[] {NAME_FIELD_NAME, NAME_FIELD_NAME, true}},
+                {"Tests that an exception is raised if a primitive argument is null", new Object[] {NAME_FIELD_NAME, BigInteger.ONE, null}},
+                {"Tests that an exception is raised if the number of arguments is wrong", new Object[] {NAME_FIELD_NAME}}
+        };
+    }
+
     /**
      * Returns the class field with the given name.
      * @param objectInstance the class containing the field
@@ -31,6 +31,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -38,11 +39,15 @@ import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -56,16 +61,22 @@ import org.testng.annotations.Test;
 
 import com.expediagroup.beans.sample.FromFoo;
 import com.expediagroup.beans.sample.FromFooMap;
+import com.expediagroup.beans.sample.FromFooOnlyPrimitiveTypes;
 import com.expediagroup.beans.sample.FromFooSimple;
 import com.expediagroup.beans.sample.FromFooSimpleNoGetters;
+import com.expediagroup.beans.sample.FromFooSimpleRecord;
 import com.expediagroup.beans.sample.FromFooSubClass;
 import com.expediagroup.beans.sample.FromSubFoo;
 import com.expediagroup.beans.sample.immutable.ImmutableToFoo;
 import com.expediagroup.beans.sample.immutable.ImmutableToFooAdvFields;
 import com.expediagroup.beans.sample.immutable.ImmutableToSubFoo;
+import com.expediagroup.beans.sample.mixed.MixedToFooStaticField;
 import com.expediagroup.beans.sample.mutable.MutableToFoo;
 import com.expediagroup.beans.sample.mutable.MutableToFooAdvFields;
+import com.expediagroup.beans.sample.mutable.MutableToFooPrimitiveNumbers;
 import com.expediagroup.beans.sample.mutable.MutableToFooSimple;
+import com.expediagroup.beans.sample.mutable.MutableToFooSimpleNoSetters;
+import com.expediagroup.beans.sample.mutable.MutableToSubFoo;
 import com.expediagroup.transformer.constant.MethodPrefix;
 import com.expediagroup.transformer.error.MissingFieldException;
 import com.expediagroup.transformer.error.MissingMethodException;
@@ -78,8 +89,13 @@ import com.expediagroup.transformer.model.MapType;
  */
 public class ReflectionUtilsTest {
     private static final String ID_FIELD_NAME = "id";
+    private static final Executable DECLARING_EXECUTABLE = Object.class.getDeclaredConstructors()[0];
     private static final String NOT_EXISTING_FIELD_NAME = "notExistingField";
     private static final String NESTED_OBJECT_NAME_FIELD_NAME = "nestedObject.name";
+    private static final String NESTED_OBJECT_NAME = "nestedObjectName";
+    private static final String OTHER_NESTED_OBJECT_NAME = "otherNestedObjectName";
+    private static final String UUID_NAME_FIELD_NAME = "uuid.name";
+    private static final String UUID_SETTER_METHOD_NAME = "setUuid";
     private static final String LIST_FIELD_NAME = "list";
     private static final String PHONE_NUMBERS_FIELD_NAME = "phoneNumbers";
     private static final String GETTER_METHOD_PREFIX_METHOD_NAME = "getGetterMethodPrefix";
@@ -97,6 +113,14 @@ public class ReflectionUtilsTest {
     private static final String GET_REAL_TARGET_METHOD_NAME = "getRealTarget";
     private static final String GET_CLASS_DECLARED_FIELD_METHOD_NAME = "getClassDeclaredField";
     private static final String NAME_FIELD_NAME = "name";
+    private static final String ACTIVE_FIELD_NAME = "active";
+    private static final String STATIC_FIELD_NAME = "STATIC_FIELD";
+    private static final String COUNT_FIELD_NAME = "count";
+    private static final String TOTAL_FIELD_NAME = "total";
+    private static final String SCORE_FIELD_NAME = "score";
+    private static final int COUNT = 3;
+    private static final long TOTAL = 30L;
+    private static final double SCORE = 7.5;
 
     /**
      * The class to be tested.
@@ -197,6 +221,143 @@ public class ReflectionUtilsTest {
         underTest.getFieldValue(mutableToFoo, NOT_EXISTING_FIELD_NAME, Object.class);
     }
 
+    /**
+     * Tests that the method {@code findFieldReader} returns a function reading the field value also if the field has no getter method.
+     */
+    @Test
+    public void testFindFieldReaderReadsTheFieldsWithoutGetterMethod() {
+        // GIVEN
+        FromFooSimpleNoGetters fromFooSimpleNoGetters = new FromFooSimpleNoGetters(null, ONE, true);
+
+        // WHEN
+        final Optional<Function<Object, Object>> actual = underTest.findFieldReader(FromFooSimpleNoGetters.class, ID_FIELD_NAME, BigInteger.class);
+
+        // THEN
+        assertThat(actual).isPresent();
+        assertThat(actual.get().apply(fromFooSimpleNoGetters)).isEqualTo(ONE);
+    }
+
+    /**
+     * Tests that the method {@code findFieldReader} returns an empty optional, resolved once, if neither the field nor its getter method exist.
+     */
+    @Test
+    public void testFindFieldReaderReturnsTheSameEmptyResultIfTheFieldDoesNotExist() {
+        // GIVEN
+        final Optional<Function<Object, Object>> firstResult = underTest.findFieldReader(MutableToFoo.class, NOT_EXISTING_FIELD_NAME, Object.class);
+
+        // WHEN
+        final Optional<Function<Object, Object>> actual = underTest.findFieldReader(MutableToFoo.class, NOT_EXISTING_FIELD_NAME, Object.class);
+
+        // THEN
+        assertThat(actual).isEmpty().isSameAs(firstResult);
+    }
+
+    /**
+     * Tests that the method {@code getFieldPathReader} returns the same function, reading the nested field value, for the same path.
+     */
+    @Test
+    public void testGetFieldPathReaderReturnsTheSameReaderForTheSamePath() {
+        // GIVEN
+        MutableToSubFoo nestedObject = new MutableToSubFoo();
+        nestedObject.setName(NESTED_OBJECT_NAME);
+        MutableToFoo mutableToFoo = createMutableToFoo(ONE);
+        mutableToFoo.setNestedObject(nestedObject);
+        final Function<Object, Object> firstResult = underTest.getFieldPathReader(MutableToFoo.class, NESTED_OBJECT_NAME_FIELD_NAME, String.class);
+
+        // WHEN
+        final Function<Object, Object> actual = underTest.getFieldPathReader(MutableToFoo.class, NESTED_OBJECT_NAME_FIELD_NAME, String.class);
+
+        // THEN
+        assertThat(actual).isSameAs(firstResult);
+        assertThat(actual.apply(mutableToFoo)).isEqualTo(NESTED_OBJECT_NAME);
+        assertThat(actual.apply(createMutableToFoo(ONE))).isNull();
+    }
+
+    /**
+     * Tests that the method {@code getFieldPathReader} returns a new function if the same path is requested for another field type.
+     */
+    @Test
+    public void testGetFieldPathReaderReturnsANewReaderForAnotherFieldType() {
+        // GIVEN
+        MutableToSubFoo nestedObject = new MutableToSubFoo();
+        nestedObject.setName(NESTED_OBJECT_NAME);
+        MutableToFoo mutableToFoo = createMutableToFoo(ONE);
+        mutableToFoo.setNestedObject(nestedObject);
+        final Function<Object, Object> firstResult = underTest.getFieldPathReader(MutableToFoo.class, NESTED_OBJECT_NAME_FIELD_NAME, String.class);
+
+        // WHEN
+        final Function<Object, Object> actual = underTest.getFieldPathReader(MutableToFoo.class, NESTED_OBJECT_NAME_FIELD_NAME, Object.class);
+
+        // THEN
+        assertThat(actual).isNotSameAs(firstResult);
+        assertThat(actual.apply(mutableToFoo)).isEqualTo(NESTED_OBJECT_NAME);
+    }
+
+    /**
+     * Tests that the function returned by the method {@code getFieldPathReader} reads a path segment whose objects are of different classes.
+     */
+    @Test
+    public void testGetFieldPathReaderReadsAPathSegmentWhoseClassChanges() {
+        // GIVEN
+        MutableToSubFoo nestedObject = new MutableToSubFoo();
+        nestedObject.setName(NESTED_OBJECT_NAME);
+        MutableToSubFoo otherNestedObject = new MutableToSubFoo() { };
+        otherNestedObject.setName(OTHER_NESTED_OBJECT_NAME);
+        MutableToFoo mutableToFoo = createMutableToFoo(ONE);
+        mutableToFoo.setNestedObject(nestedObject);
+        MutableToFoo otherMutableToFoo = createMutableToFoo(ONE);
+        otherMutableToFoo.setNestedObject(otherNestedObject);
+        final Function<Object, Object> fieldPathReader = underTest.getFieldPathReader(MutableToFoo.class, NESTED_OBJECT_NAME_FIELD_NAME, String.class);
+
+        // WHEN
+        final Object actual = fieldPathReader.apply(mutableToFoo);
+        final Object actualOther = fieldPathReader.apply(otherMutableToFoo);
+
+        // THEN
+        assertThat(actual).isEqualTo(NESTED_OBJECT_NAME);
+        assertThat(actualOther).isEqualTo(OTHER_NESTED_OBJECT_NAME);
+        assertThat(fieldPathReader.apply(mutableToFoo)).isEqualTo(NESTED_OBJECT_NAME);
+    }
+
+    /**
+     * Tests that the function returned by the method {@code getFieldPathReader} reads a path segment whose class is defined by a class
+     * loader that is not an ancestor of the one of the class from which the path starts.
+     * @throws Exception if the class from which the path starts cannot be loaded through an isolated class loader
+     */
+    @Test
+    public void testGetFieldPathReaderReadsAPathSegmentWhoseClassIsNotVisibleFromTheTargetClass() throws Exception {
+        // GIVEN
+        MutableToSubFoo nestedObject = new MutableToSubFoo();
+        nestedObject.setName(NESTED_OBJECT_NAME);
+        URL testClassesLocation = FromFooOnlyPrimitiveTypes.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {testClassesLocation}, ClassLoader.getPlatformClassLoader())) {
+            Class<?> targetClass = classLoader.loadClass(FromFooOnlyPrimitiveTypes.class.getName());
+            Object target = targetClass.getConstructor().newInstance();
+            targetClass.getMethod(UUID_SETTER_METHOD_NAME, Object.class).invoke(target, nestedObject);
+            final Function<Object, Object> fieldPathReader = underTest.getFieldPathReader(targetClass, UUID_NAME_FIELD_NAME, String.class);
+
+            // WHEN
+            final Object actual = fieldPathReader.apply(target);
+
+            // THEN
+            assertThat(actual).isEqualTo(NESTED_OBJECT_NAME);
+            assertThat(fieldPathReader.apply(target)).isEqualTo(NESTED_OBJECT_NAME);
+        }
+    }
+
+    /**
+     * Tests that the function returned by the method {@code getFieldPathReader} raises a {@link MissingFieldException} if a path segment
+     * does not exist.
+     */
+    @Test(expectedExceptions = MissingFieldException.class)
+    public void testGetFieldPathReaderThrowsExceptionIfAPathSegmentDoesNotExist() {
+        // GIVEN
+        Function<Object, Object> fieldPathReader = underTest.getFieldPathReader(MutableToFoo.class, NOT_EXISTING_FIELD_NAME + ".name", String.class);
+
+        // WHEN
+        fieldPathReader.apply(createMutableToFoo(ONE));
+    }
+
     /**
      * Tests that the method {@code getFieldValueDirectAccess} returns the expected value.
      * @throws Exception if an error occurs
@@ -408,6 +569,273 @@ public class ReflectionUtilsTest {
         underTest.getSetterMethodForField(MutableToFoo.class, NOT_EXISTING_FIELD_NAME, BigInteger.class);
     }
 
+    /**
+     * Tests that the method {@code findGetterMethodFunction} returns a function reading the field value.
+     */
+    @Test
+    public void testFindGetterMethodFunctionWorksProperly() {
+        // GIVEN
+        MutableToFoo mutableToFoo = createMutableToFoo(ONE);
+
+        // WHEN
+        final Optional<Function<Object, Object>> actual = underTest.findGetterMethodFunction(MutableToFoo.class, ID_FIELD_NAME);
+
+        // THEN
+        assertThat(actual).isPresent();
+        assertThat(actual.get().apply(mutableToFoo)).isEqualTo(ONE);
+    }
+
+    /**
+     * Tests that the method {@code findGetterMethodFunction} returns a function invoking the record component accessor if the class is a record.
+     */
+    @Test
+    public void testFindGetterMethodFunctionReturnsTheRecordComponentAccessor() {
+        // GIVEN
+        FromFooSimpleRecord fromFooSimpleRecord = new FromFooSimpleRecord(null, ONE, true);
+
+        // WHEN
+        final Optional<Function<Object, Object>> actual = underTest.findGetterMethodFunction(FromFooSimpleRecord.class, ID_FIELD_NAME);
+
+        // THEN
+        assertThat(actual).isPresent();
+        assertThat(actual.get().apply(fromFooSimpleRecord)).isEqualTo(ONE);
+    }
+
+    /**
+     * Tests that the method {@code findGetterMethodFunction} returns an empty optional if the field or its getter method does not exist.
+     * @param testCaseDescription the test case description
+     * @param fieldClass the field's class
+     * @param fieldName the field name
+     */
+    @Test(dataProvider = "dataFindGetterMethodFunctionNotExistingTesting")
+    public void testFindGetterMethodFunctionReturnsEmptyIfTheGetterCannotBeGenerated(final String testCaseDescription, final Class<?> fieldClass, final String fieldName) {
+        // GIVEN
+
+        // WHEN
+        final Optional<Function<Object, Object>> actual = underTest.findGetterMethodFunction(fieldClass, fieldName);
+
+        // THEN
+        assertThat(actual).isEmpty();
+    }
+
+    /**
+     * Creates the parameters to be used for testing the method {@code findGetterMethodFunction} with not existing getter methods.
+     * @return parameters to be used for testing the method {@code findGetterMethodFunction}.
+     */
+    @DataProvider
+    private Object[][] dataFindGetterMethodFunctionNotExistingTesting() {
+        return new Object[][] {
+                {"Tests that the method returns an empty optional if the field does not exist", MutableToFoo.class, NOT_EXISTING_FIELD_NAME},
+                {"Tests that the method returns an empty optional if the getter method does not exist", FromFooSimpleNoGetters.class, ID_FIELD_NAME}
+        };
+    }
+
+    /**
+     * Tests that the method {@code findSetterMethodFunction} returns a function setting the field value and that the function is cached.
+     * @throws NoSuchFieldException if the field does not exist
+     */
+    @Test
+    public void testFindSetterMethodFunctionWorksProperly() throws NoSuchFieldException {
+        // GIVEN
+        MutableToFoo mutableToFoo = createMutableToFoo(null);
+        Field idField = MutableToFoo.class.getDeclaredField(ID_FIELD_NAME);
+
+        // WHEN
+        final Optional<BiConsumer<Object, Object>> actual = underTest.findSetterMethodFunction(MutableToFoo.class, idField);
+        actual.orElseThrow().accept(mutableToFoo, ONE);
+
+        // THEN
+        assertThat(mutableToFoo).hasFieldOrPropertyWithValue(ID_FIELD_NAME, ONE);
+        assertThat(underTest.findSetterMethodFunction(MutableToFoo.class, idField)).isSameAs(actual);
+    }
+
+    /**
+     * Tests that the function returned by the method {@code findSetterMethodFunction} sets the value of a primitive field and raises an
+     * {@link IllegalArgumentException} if the value is null, or a {@link NullPointerException} if the target object is null.
+     * @throws NoSuchFieldException if the field does not exist
+     */
+    @Test
+    public void testFindSetterMethodFunctionReturnsAFunctionRejectingNullPrimitiveValues() throws NoSuchFieldException {
+        // GIVEN
+        MutableToFooSimple mutableToFoo = new MutableToFooSimple();
+        Field activeField = MutableToFooSimple.class.getDeclaredField(ACTIVE_FIELD_NAME);
+
+        // WHEN
+        final BiConsumer<Object, Object> actual = underTest.findSetterMethodFunction(MutableToFooSimple.class, activeField).orElseThrow();
+        actual.accept(mutableToFoo, true);
+
+        // THEN
+        assertThat(mutableToFoo.isActive()).isTrue();
+        assertThatThrownBy(() -> actual.accept(mutableToFoo, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> actual.accept(null, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    /**
+     * Tests that the method {@code findSetterMethodFunction} returns an empty optional if the field has no setter method.
+     * @throws NoSuchFieldException if the field does not exist
+     */
+    @Test
+    public void testFindSetterMethodFunctionReturnsEmptyIfTheSetterMethodDoesNotExist() throws NoSuchFieldException {
+        // GIVEN
+        Field idField = ImmutableToFoo.class.getDeclaredField(ID_FIELD_NAME);
+
+        // WHEN
+        final Optional<BiConsumer<Object, Object>> actual = underTest.findSetterMethodFunction(ImmutableToFoo.class, idField);
+
+        // THEN
+        assertThat(actual).isEmpty();
+    }
+
+    /**
+     * Tests that the method {@code findFieldWriter} returns a function, defined as a hidden class, setting the value of a primitive field and that the function is cached.
+     * @throws NoSuchFieldException if the field does not exist
+     */
+    @Test
+    public void testFindFieldWriterWorksProperly() throws NoSuchFieldException {
+        // GIVEN
+        MutableToFooSimple mutableToFoo = new MutableToFooSimple();
+        Field activeField = MutableToFooSimple.class.getDeclaredField(ACTIVE_FIELD_NAME);
+
+        // WHEN
+        final Optional<BiConsumer<Object, Object>> actual = underTest.findFieldWriter(activeField);
+        actual.orElseThrow().accept(mutableToFoo, Boolean.TRUE);
+
+        // THEN
+        assertThat(mutableToFoo.isActive()).isTrue();
+        assertThat(actual.orElseThrow().getClass().isHidden()).isTrue();
+        assertThat(underTest.findFieldWriter(activeField)).isSameAs(actual);
+    }
+
+    /**
+     * Tests that the method {@code findFieldWriter} returns an empty optional if the field is static.
+     * @throws NoSuchFieldException if the field does not exist
+     */
+    @Test
+    public void testFindFieldWriterReturnsEmptyIfTheFieldIsStatic() throws NoSuchFieldException {
+        // GIVEN
+        Field staticField = MixedToFooStaticField.class.getDeclaredField(STATIC_FIELD_NAME);
+
+        // WHEN
+        final Optional<BiConsumer<Object, Object>> actual = underTest.findFieldWriter(staticField);
+
+        // THEN
+        assertThat(actual).isEmpty();
+    }
+
+    /**
+     * Tests that the method {@code findPrimitiveFieldCopier} returns a function, defined as a hidden class, copying the value of a primitive
+     * field into the destination one.
+     * @param testCaseDescription the test case description
+     * @param sourceObj the source object
+     * @param targetObj the destination object
+     * @param setterPreferred if true the destination field is set through its setter method
+     * @throws NoSuchFieldException if the field does not exist
+     */
+    @Test(dataProvider = "testFindPrimitiveFieldCopierWorksProperlyTesting")
+    public void testFindPrimitiveFieldCopierWorksProperly(final String testCaseDescription, final Object sourceObj, final Object targetObj,
+                                                          final boolean setterPreferred) throws NoSuchFieldException {
+        // GIVEN
+        Field activeField = targetObj.getClass().getDeclaredField(ACTIVE_FIELD_NAME);
+
+        // WHEN
+        final Optional<BiConsumer<Object, Object>> actual = underTest.findPrimitiveFieldCopier(sourceObj.getClass(), ACTIVE_FIELD_NAME, activeField, setterPreferred);
+        actual.orElseThrow().accept(sourceObj, targetObj);
+
+        // THEN
+        assertThat(actual.orElseThrow().getClass().isHidden()).isTrue();
+        assertThat(targetObj).extracting(ACTIVE_FIELD_NAME).isEqualTo(true);
+    }
+
+    /**
+     * Creates the parameters to be used for testing the method {@code findPrimitiveFieldCopier}.
+     * @return parameters to be used for testing the method {@code findPrimitiveFieldCopier}.
+     */
+    @DataProvider
+    private Object[][] testFindPrimitiveFieldCopierWorksProperlyTesting() {
+        return new Object[][] {
+                {"Tests that the method returns a function writing the destination field through its setter method",
+                        new FromFooSimple(NAME_FIELD_NAME, ONE, true), new MutableToFooSimple(), true},
+                {"Tests that the method returns a function writing the destination field directly",
+                        new FromFooSimple(NAME_FIELD_NAME, ONE, true), new MutableToFooSimple(), false},
+                {"Tests that the method returns a function reading the source field directly if it has no getter method",
+                        new FromFooSimpleNoGetters(NAME_FIELD_NAME, ONE, true), new MutableToFooSimple(), true},
+                {"Tests that the method returns a function writing the destination field directly if it has no setter method",
+                        new FromFooSimple(NAME_FIELD_NAME, ONE, true), new MutableToFooSimpleNoSetters(), true}
+        };
+    }
+
+    /**
+     * Tests that the method {@code findPrimitiveFieldCopier} returns a function copying an {@code int}, {@code long} or {@code double} field
+     * through the typed functions bound to its getter and setter methods.
+     * @param testCaseDescription the test case description
+     * @param fieldName the name of the field to copy
+     * @param expectedValue the expected value of the destination field
+     * @throws NoSuchFieldException if the field does not exist
+     */
+    @Test(dataProvider = "testFindPrimitiveFieldCopierUsesTheTypedFunctionsTesting")
+    public void testFindPrimitiveFieldCopierUsesTheTypedFunctionsIfTheFieldsHaveAccessorMethods(final String testCaseDescription, final String fieldName,
+                                                                                               final Object expectedValue) throws NoSuchFieldException {
+        // GIVEN
+        MutableToFooPrimitiveNumbers source = new MutableToFooPrimitiveNumbers(COUNT, TOTAL, SCORE);
+        MutableToFooPrimitiveNumbers target = new MutableToFooPrimitiveNumbers();
+        Field field = MutableToFooPrimitiveNumbers.class.getDeclaredField(fieldName);
+
+        // WHEN
+        final Optional<BiConsumer<Object, Object>> actual = underTest.findPrimitiveFieldCopier(MutableToFooPrimitiveNumbers.class, fieldName, field, true);
+        actual.orElseThrow().accept(source, target);
+
+        // THEN
+        assertThat(actual.orElseThrow().getClass().isHidden()).isFalse();
+        assertThat(target).extracting(fieldName).isEqualTo(expectedValue);
+    }
+
+    /**
+     * Creates the parameters to be used for testing that the method {@code findPrimitiveFieldCopier} uses the typed functions.
+     * @return parameters to be used for testing the method {@code findPrimitiveFieldCopier}.
+     */
+    @DataProvider
+    private Object[][] testFindPrimitiveFieldCopierUsesTheTypedFunctionsTesting() {
+        return new Object[][] {
+                {"Tests that the method returns a function copying an int field through the typed functions", COUNT_FIELD_NAME, COUNT},
+                {"Tests that the method returns a function copying a long field through the typed functions", TOTAL_FIELD_NAME, TOTAL},
+                {"Tests that the method returns a function copying a double field through the typed functions", SCORE_FIELD_NAME, SCORE}
+        };
+    }
+
+    /**
+     * Tests that the method {@code findPrimitiveFieldCopier} returns an empty optional if the fields cannot be copied without boxing.
+     * @param testCaseDescription the test case description
+     * @param sourceFieldName the source field name
+     * @param destField the destination field
+     */
+    @Test(dataProvider = "testFindPrimitiveFieldCopierReturnsEmptyTesting")
+    public void testFindPrimitiveFieldCopierReturnsEmptyIfTheFieldsCannotBeCopied(final String testCaseDescription, final String sourceFieldName,
+                                                                                final Field destField) {
+        // GIVEN
+
+        // WHEN
+        final Optional<BiConsumer<Object, Object>> actual = underTest.findPrimitiveFieldCopier(FromFooSimple.class, sourceFieldName, destField, true);
+
+        // THEN
+        assertThat(actual).isEmpty();
+    }
+
+    /**
+     * Creates the parameters to be used for testing the method {@code findPrimitiveFieldCopier} when the fields cannot be copied.
+     * @return parameters to be used for testing the method {@code findPrimitiveFieldCopier}.
+     * @throws NoSuchFieldException if the field does not exist
+     */
+    @DataProvider
+    private Object[][] testFindPrimitiveFieldCopierReturnsEmptyTesting() throws NoSuchFieldException {
+        Field activeField = MutableToFooSimple.class.getDeclaredField(ACTIVE_FIELD_NAME);
+        return new Object[][] {
+                {"Tests that the method returns an empty optional if the destination field is not primitive", ID_FIELD_NAME,
+                        MutableToFooSimple.class.getDeclaredField(ID_FIELD_NAME)},
+                {"Tests that the method returns an empty optional if the source field has a different type", ID_FIELD_NAME, activeField},
+                {"Tests that the method returns an empty optional if the source field does not exist", NOT_EXISTING_FIELD_NAME, activeField}
+        };
+    }
+
     /**
      * Tests that the method {@code getParameterAnnotations} returns the annotation when the parameter has an annotation with the given type.
      */
@@ -418,6 +846,7 @@ public class ReflectionUtilsTest {
         Parameter parameter = mock(Parameter.class);
         when(parameter.isAnnotationPresent(NotNull.class)).thenReturn(true);
         when(parameter.getAnnotation(NotNull.class)).thenReturn(notNullAnnotation);
+        when(parameter.getDeclaringExecutable()).thenReturn(DECLARING_EXECUTABLE);
 
         // WHEN
         final Annotation actual = underTest.getParameterAnnotation(parameter, NotNull.class, DECLARING_CLASS_NAME);
@@ -434,6 +863,7 @@ public class ReflectionUtilsTest {
         // GIVEN
         Parameter parameter = mock(Parameter.class);
         when(parameter.isAnnotationPresent(NotNull.class)).thenReturn(false);
+        when(parameter.getDeclaringExecutable()).thenReturn(DECLARING_EXECUTABLE);
 
         // WHEN
         final Annotation actual = underTest.getParameterAnnotation(parameter, NotNull.class, DECLARING_CLASS_NAME);
@@ -748,6 +1178,19 @@ public class ReflectionUtilsTest {
         underTest.setFieldValue(null, idField, ONE);
     }
 
+    /**
+     * Tests that the method {@code setFieldValue} throws an {@link IllegalArgumentException} if a primitive field is set to null.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testSetFieldValueRaiseAnExceptionIfAPrimitiveFieldIsSetToNull() {
+        // GIVEN
+        MutableToFooSimple mutableToFoo = new MutableToFooSimple();
+        Field activeField = underTest.getDeclaredField(ACTIVE_FIELD_NAME, mutableToFoo.getClass());
+
+        // WHEN
+        underTest.setFieldValue(mutableToFoo, activeField, null);
+    }
+
     /**
      * Tests that the method {@code setFieldValue} throws an {@link IllegalArgumentException} if the field value is not valid.
      */
@@ -194,4 +194,15 @@ public class ValidatorTest {
     private MixedToFoo createTestBean(final BigInteger id) {
         return new MixedToFoo(id, NAME, Collections.emptyList(), null, null);
     }
+
+    /**
+     * Test that an exception is thrown if the class to analyse is null.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testPrepareThrowsExceptionWhenTheClassIsNull() {
+        // GIVEN
+
+        // WHEN
+        underTest.prepare(null);
+    }
 }
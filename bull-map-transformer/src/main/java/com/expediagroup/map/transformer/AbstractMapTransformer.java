@@ -75,6 +75,6 @@ abstract class AbstractMapTransformer extends AbstractTransformer<MapTransformer
     @Override
     public final void resetKeyTransformer() {
         settings.getKeyFieldsTransformers().clear();
-        cacheManager.removeMatchingKeys(transformerFunctionRegex);
+        cacheManager.removeNamespace(transformerFunctionCachePrefix);
     }
 }